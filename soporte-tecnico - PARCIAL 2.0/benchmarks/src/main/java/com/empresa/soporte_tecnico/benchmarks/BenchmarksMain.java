@@ -0,0 +1,23 @@
+package com.empresa.soporte_tecnico.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de {@code benchmarks.jar}. Acepta los mismos argumentos que
+ * {@code org.openjdk.jmh.Main} y agrega siempre el perfilador de GC, para que cada
+ * resultado incluya la tasa de asignación ({@code gc.alloc.rate.norm}, bytes por operación).
+ */
+public class BenchmarksMain {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions lineaDeComandos = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(lineaDeComandos)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,27 @@
+package com.empresa.soporte_tecnico.benchmarks;
+
+import com.empresa.soporte_tecnico.SoporteTecnicoApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Arranca la aplicación sin servidor web y con una base H2 en memoria propia,
+ * para medir servicio y repositorios con la misma configuración que en ejecución.
+ */
+final class ContextoAplicacion {
+
+    private ContextoAplicacion() {
+    }
+
+    static ConfigurableApplicationContext iniciar(String nombreBaseDatos) {
+        return new SpringApplicationBuilder(SoporteTecnicoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + nombreBaseDatos + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.empresa.soporte_tecnico.benchmarks;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code SolicitudServiceImpl.crearSolicitud} de punta a punta contra H2 en memoria:
+ * búsqueda de cliente y técnico, validaciones e inserción.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CrearSolicitudBenchmark {
+
+    private ConfigurableApplicationContext contexto;
+    private SolicitudService solicitudService;
+    private Long clienteId;
+    private Long tecnicoId;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoAplicacion.iniciar("bench_crear");
+        solicitudService = contexto.getBean(SolicitudService.class);
+
+        Cliente cliente = DatosPrueba.cliente(0);
+        cliente.setId(null);
+        clienteId = contexto.getBean(ClienteRepository.class).save(cliente).getId();
+
+        Tecnico tecnico = DatosPrueba.tecnico(0);
+        tecnico.setId(null);
+        tecnicoId = contexto.getBean(TecnicoRepository.class).save(tecnico).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Solicitud crearSolicitud() {
+        // Igual que SolicitudMapper.toEntity: cliente y técnico llegan solo con el ID
+        Cliente cliente = new Cliente();
+        cliente.setId(clienteId);
+        Tecnico tecnico = new Tecnico();
+        tecnico.setId(tecnicoId);
+
+        Solicitud solicitud = new Solicitud();
+        solicitud.setDescripcion("La impresora del piso 3 no responde");
+        solicitud.setCliente(cliente);
+        solicitud.setTecnicoAsignado(tecnico);
+        return solicitudService.crearSolicitud(solicitud);
+    }
+}
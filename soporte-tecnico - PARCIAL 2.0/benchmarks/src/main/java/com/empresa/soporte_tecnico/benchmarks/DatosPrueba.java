@@ -0,0 +1,65 @@
+package com.empresa.soporte_tecnico.benchmarks;
+
+import com.empresa.soporte_tecnico.dto.ClienteDto;
+import com.empresa.soporte_tecnico.dto.SolicitudDto;
+import com.empresa.soporte_tecnico.dto.TecnicoDto;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Genera entidades y DTOs de ejemplo con valores realistas para los benchmarks.
+ */
+final class DatosPrueba {
+
+    private DatosPrueba() {
+    }
+
+    static Cliente cliente(long id) {
+        Cliente cliente = new Cliente();
+        cliente.setId(id);
+        cliente.setNombre("Cliente " + id);
+        cliente.setCorreo("cliente" + id + "@empresa.com");
+        return cliente;
+    }
+
+    static Tecnico tecnico(long id) {
+        Tecnico tecnico = new Tecnico();
+        tecnico.setId(id);
+        tecnico.setNombre("Técnico " + id);
+        tecnico.setEspecialidad(id % 2 == 0 ? "Redes" : "Hardware");
+        return tecnico;
+    }
+
+    static Solicitud solicitud(long id) {
+        Solicitud solicitud = new Solicitud();
+        solicitud.setId(id);
+        solicitud.setDescripcion("El equipo " + id + " no enciende después de la actualización del sistema");
+        solicitud.setCliente(cliente(id % 500 + 1));
+        solicitud.setTecnicoAsignado(tecnico(id % 50 + 1));
+        solicitud.setEstado(EstadoSolicitud.PENDIENTE);
+        return solicitud;
+    }
+
+    static SolicitudDto solicitudDto(long id) {
+        return SolicitudDto.builder()
+                .id(id)
+                .descripcion("El equipo " + id + " no enciende después de la actualización del sistema")
+                .cliente(ClienteDto.builder().id(id % 500 + 1).nombre("Cliente " + id).correo("cliente" + id + "@empresa.com").build())
+                .tecnicoAsignado(TecnicoDto.builder().id(id % 50 + 1).nombre("Técnico " + id).especialidad("Redes").build())
+                .estado(EstadoSolicitud.PENDIENTE)
+                .build();
+    }
+
+    static List<SolicitudDto> solicitudesDto(int cantidad) {
+        List<SolicitudDto> lista = new ArrayList<>(cantidad);
+        for (long id = 1; id <= cantidad; id++) {
+            lista.add(solicitudDto(id));
+        }
+        return lista;
+    }
+}
@@ -0,0 +1,51 @@
+package com.empresa.soporte_tecnico.benchmarks;
+
+import com.empresa.soporte_tecnico.dto.SolicitudDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización y deserialización Jackson de listados de {@link SolicitudDto}
+ * con el mismo ObjectMapper que construye Spring MVC.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class JsonListadoBenchmark {
+
+    private static final TypeReference<List<SolicitudDto>> TIPO_LISTA = new TypeReference<>() {
+    };
+
+    @Param({"1000", "10000", "100000"})
+    private int filas;
+
+    private ObjectMapper objectMapper;
+    private List<SolicitudDto> solicitudes;
+    private byte[] json;
+
+    @Setup
+    public void preparar() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        solicitudes = DatosPrueba.solicitudesDto(filas);
+        json = objectMapper.writeValueAsBytes(solicitudes);
+    }
+
+    @Benchmark
+    public byte[] codificar() throws IOException {
+        return objectMapper.writeValueAsBytes(solicitudes);
+    }
+
+    @Benchmark
+    public List<SolicitudDto> decodificar() throws IOException {
+        return objectMapper.readValue(json, TIPO_LISTA);
+    }
+}
@@ -0,0 +1,92 @@
+package com.empresa.soporte_tecnico.benchmarks;
+
+import com.empresa.soporte_tecnico.dto.FiltroSolicitudDto;
+import com.empresa.soporte_tecnico.dto.SolicitudDto;
+import com.empresa.soporte_tecnico.dto.SolicitudResumenDto;
+import com.empresa.soporte_tecnico.mapper.SolicitudMapper;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.repository.SolicitudRepository;
+import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara una página del listado por entidades (consulta + {@link SolicitudMapper#toDto})
+ * con la proyección directa a {@link SolicitudResumenDto}. Con el perfilador de GC,
+ * {@code gc.alloc.rate.norm} muestra los bytes asignados por página en cada camino.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListadoSolicitudesBenchmark {
+
+    private static final int SOLICITUDES = 10_000;
+    private static final FiltroSolicitudDto SIN_FILTROS = new FiltroSolicitudDto();
+
+    @Param({"50", "500"})
+    private int limite;
+
+    private ConfigurableApplicationContext contexto;
+    private SolicitudService solicitudService;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoAplicacion.iniciar("bench_listado");
+        solicitudService = contexto.getBean(SolicitudService.class);
+
+        List<Cliente> clientes = new ArrayList<>();
+        for (long i = 1; i <= 500; i++) {
+            Cliente cliente = DatosPrueba.cliente(i);
+            cliente.setId(null);
+            clientes.add(cliente);
+        }
+        clientes = contexto.getBean(ClienteRepository.class).saveAll(clientes);
+
+        List<Tecnico> tecnicos = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            Tecnico tecnico = DatosPrueba.tecnico(i);
+            tecnico.setId(null);
+            tecnicos.add(tecnico);
+        }
+        tecnicos = contexto.getBean(TecnicoRepository.class).saveAll(tecnicos);
+
+        List<Solicitud> solicitudes = new ArrayList<>(SOLICITUDES);
+        for (int i = 0; i < SOLICITUDES; i++) {
+            Solicitud solicitud = DatosPrueba.solicitud(i);
+            solicitud.setId(null);
+            solicitud.setCliente(clientes.get(i % clientes.size()));
+            solicitud.setTecnicoAsignado(tecnicos.get(i % tecnicos.size()));
+            solicitudes.add(solicitud);
+        }
+        contexto.getBean(SolicitudRepository.class).saveAll(solicitudes);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<SolicitudDto> entidadesConMapper() {
+        return solicitudService.obtenerSolicitudes(SIN_FILTROS, null, limite)
+                .stream()
+                .map(SolicitudMapper::toDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<SolicitudResumenDto> proyeccionDirecta() {
+        return solicitudService.obtenerResumenes(SIN_FILTROS, null, limite);
+    }
+}
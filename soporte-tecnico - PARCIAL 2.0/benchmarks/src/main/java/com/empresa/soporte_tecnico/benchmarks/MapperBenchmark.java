@@ -0,0 +1,73 @@
+package com.empresa.soporte_tecnico.benchmarks;
+
+import com.empresa.soporte_tecnico.dto.ClienteDto;
+import com.empresa.soporte_tecnico.dto.SolicitudDto;
+import com.empresa.soporte_tecnico.dto.TecnicoDto;
+import com.empresa.soporte_tecnico.mapper.ClienteMapper;
+import com.empresa.soporte_tecnico.mapper.SolicitudMapper;
+import com.empresa.soporte_tecnico.mapper.TecnicoMapper;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de convertir entre entidades y DTOs con los mappers estáticos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+    private Solicitud solicitud;
+    private SolicitudDto solicitudDto;
+    private Cliente cliente;
+    private ClienteDto clienteDto;
+    private Tecnico tecnico;
+    private TecnicoDto tecnicoDto;
+
+    @Setup
+    public void preparar() {
+        solicitud = DatosPrueba.solicitud(1);
+        solicitudDto = DatosPrueba.solicitudDto(1);
+        cliente = DatosPrueba.cliente(1);
+        clienteDto = ClienteMapper.toDto(cliente);
+        tecnico = DatosPrueba.tecnico(1);
+        tecnicoDto = TecnicoMapper.toDto(tecnico);
+    }
+
+    @Benchmark
+    public SolicitudDto solicitudToDto() {
+        return SolicitudMapper.toDto(solicitud);
+    }
+
+    @Benchmark
+    public Solicitud solicitudToEntity() {
+        return SolicitudMapper.toEntity(solicitudDto);
+    }
+
+    @Benchmark
+    public ClienteDto clienteToDto() {
+        return ClienteMapper.toDto(cliente);
+    }
+
+    @Benchmark
+    public Cliente clienteToEntity() {
+        return ClienteMapper.toEntity(clienteDto);
+    }
+
+    @Benchmark
+    public TecnicoDto tecnicoToDto() {
+        return TecnicoMapper.toDto(tecnico);
+    }
+
+    @Benchmark
+    public Tecnico tecnicoToEntity() {
+        return TecnicoMapper.toEntity(tecnicoDto);
+    }
+}
@@ -0,0 +1,107 @@
+package com.empresa.soporte_tecnico.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prueba de carga concurrente (8 hilos) del registro en {@code crearSolicitud}:
+ * <ul>
+ *     <li>{@code printlnSincronizado}: las seis líneas {@code System.out.println} con concatenación
+ *     que tenía el servicio, sobre un {@link PrintStream} (sincronizado igual que {@code System.out}).</li>
+ *     <li>{@code slf4jDebugDesactivado}: el log parametrizado actual con el nivel por defecto (INFO).</li>
+ *     <li>{@code slf4jAsincrono}: el mismo evento emitido a nivel INFO a través del {@code AsyncAppender}.</li>
+ * </ul>
+ * La salida se descarta en todos los casos para medir solo el costo en los hilos de la petición.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RegistroBenchmark {
+
+    private PrintStream salidaSincronizada;
+    private Logger loggerDebug;
+    private Logger loggerAsincrono;
+    private AsyncAppender asincrono;
+
+    private final String descripcion = "El equipo no enciende después de la actualización del sistema";
+    private final Long clienteId = 42L;
+    private final Long tecnicoId = 7L;
+    private final String estado = "Pendiente";
+
+    @Setup
+    public void preparar() {
+        salidaSincronizada = new PrintStream(OutputStream.nullOutputStream(), false);
+
+        LoggerContext contexto = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        loggerDebug = contexto.getLogger("benchmark.registro.debug");
+        loggerDebug.setLevel(Level.INFO);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(contexto);
+        encoder.setPattern("%d %5p [%t] %logger : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> descarte = new OutputStreamAppender<>();
+        descarte.setContext(contexto);
+        descarte.setEncoder(encoder);
+        descarte.setOutputStream(OutputStream.nullOutputStream());
+        descarte.start();
+
+        asincrono = new AsyncAppender();
+        asincrono.setContext(contexto);
+        asincrono.setQueueSize(8192);
+        asincrono.setNeverBlock(true);
+        asincrono.addAppender(descarte);
+        asincrono.start();
+
+        loggerAsincrono = contexto.getLogger("benchmark.registro.async");
+        loggerAsincrono.setLevel(Level.INFO);
+        loggerAsincrono.setAdditive(false);
+        loggerAsincrono.addAppender(asincrono);
+    }
+
+    @TearDown
+    public void cerrar() {
+        asincrono.stop();
+    }
+
+    @Benchmark
+    public void printlnSincronizado() {
+        salidaSincronizada.println("=== Datos recibidos en crearSolicitud() ===");
+        salidaSincronizada.println("Descripción: " + descripcion);
+        salidaSincronizada.println("Cliente: " + clienteId);
+        salidaSincronizada.println("Técnico: " + tecnicoId);
+        salidaSincronizada.println("Estado: " + estado);
+        salidaSincronizada.println("===========================================");
+    }
+
+    @Benchmark
+    public void slf4jDebugDesactivado() {
+        if (loggerDebug.isDebugEnabled()) {
+            loggerDebug.debug("crearSolicitud: clienteId={}, tecnicoId={}, estado={}, descripcion={}",
+                    clienteId, tecnicoId, estado, descripcion);
+        }
+    }
+
+    @Benchmark
+    public void slf4jAsincrono() {
+        loggerAsincrono.info("crearSolicitud: clienteId={}, tecnicoId={}, estado={}, descripcion={}",
+                clienteId, tecnicoId, estado, descripcion);
+    }
+}
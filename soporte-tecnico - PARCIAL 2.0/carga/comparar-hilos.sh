@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# Compara throughput y p99 de la API con hilos de plataforma (Tomcat por defecto) y con hilos virtuales.
+# Uso: carga/comparar-hilos.sh   (variables opcionales: CONCURRENCIA, DURACION, SEMBRAR, PUERTO, RUTA)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+CONCURRENCIA="${CONCURRENCIA:-400}"
+DURACION="${DURACION:-30}"
+SEMBRAR="${SEMBRAR:-2000}"
+PUERTO="${PUERTO:-18080}"
+RUTA="${RUTA:-/solicitudes?limite=50}"
+
+mvn -q -DskipTests package
+mvn -q -f carga/pom.xml package
+APP_JAR="$(ls target/soporte-tecnico-*-exec.jar)"
+
+for modo in plataforma virtual; do
+    jvm_args=()
+    app_args=("--server.port=${PUERTO}" "--spring.jpa.show-sql=false")
+    if [ "$modo" = "virtual" ]; then
+        jvm_args+=("-Djdk.tracePinnedThreads=short")
+        app_args+=("--spring.profiles.active=virtual")
+    fi
+
+    java "${jvm_args[@]}" -jar "$APP_JAR" "${app_args[@]}" > "target/carga-${modo}.log" 2>&1 &
+    app_pid=$!
+    trap 'kill $app_pid 2>/dev/null || true' EXIT
+
+    until curl -sf "http://localhost:${PUERTO}/actuator/health" > /dev/null; do
+        sleep 1
+    done
+
+    java -jar carga/target/carga.jar \
+        --url="http://localhost:${PUERTO}" --ruta="${RUTA}" \
+        --concurrencia="${CONCURRENCIA}" --duracion="${DURACION}" \
+        --sembrar="${SEMBRAR}" --etiqueta="${modo}"
+
+    kill "$app_pid"
+    wait "$app_pid" 2>/dev/null || true
+done
+
+echo "Logs de la aplicación (incluye avisos de pinning): target/carga-plataforma.log, target/carga-virtual.log"
@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+# Corrida de regresión de rendimiento: arranca la aplicación (H2 en memoria, sin red), siembra un conjunto
+# de datos de tamaño configurable, ejecuta la mezcla de lecturas y escrituras y deja un reporte JSON por commit
+# en target/carga/reporte-<commit>.json. Con BASE=<reporte.json> lo compara y termina con código 1 si hay regresión.
+# Uso: carga/regresion.sh   (variables opcionales: CLIENTES, TECNICOS, SOLICITUDES, SEMBRADO, TASA, CONCURRENCIA,
+#      DURACION, CALENTAMIENTO, MEZCLA, SEMILLA, PUERTO, HEAP_APP, PERFIL, BASE, TOLERANCIA, COMPILAR)
+# TASA (req/s) mide en lazo abierto, a ritmo constante: los percentiles incluyen la espera de las peticiones
+# atrasadas cuando el servidor se frena. TASA=0 vuelve al lazo cerrado (throughput máximo).
+# SEMBRADO=app (por defecto) siembra con el perfil "semilla" al arrancar (INSERT por JDBC);
+# SEMBRADO=api lo hace el generador a través de la API (mucho más lento, ejercita los endpoints de alta).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+CLIENTES="${CLIENTES:-1000}"
+TECNICOS="${TECNICOS:-50}"
+SOLICITUDES="${SOLICITUDES:-100000}"
+SEMBRADO="${SEMBRADO:-app}"
+TASA="${TASA:-200}"
+CONCURRENCIA="${CONCURRENCIA:-64}"
+DURACION="${DURACION:-60}"
+CALENTAMIENTO="${CALENTAMIENTO:-15}"
+MEZCLA="${MEZCLA:-}"
+SEMILLA="${SEMILLA:-42}"
+PUERTO="${PUERTO:-18080}"
+HEAP_APP="${HEAP_APP:-4g}"
+PERFIL="${PERFIL:-}"
+TOLERANCIA="${TOLERANCIA:-10}"
+COMPILAR="${COMPILAR:-si}"
+
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || echo sin-git)"
+if [ -n "$(git status --porcelain -- src pom.xml 2>/dev/null)" ]; then
+    COMMIT="${COMMIT}-modificado"
+fi
+
+if [ "$COMPILAR" = "si" ]; then
+    # -o: sin acceso a la red; las dependencias tienen que estar en el repositorio local de Maven
+    mvn -q -o -DskipTests package
+    mvn -q -o -f carga/pom.xml package
+fi
+APP_JAR="$(ls target/soporte-tecnico-*-exec.jar)"
+mkdir -p target/carga
+REPORTE="target/carga/reporte-${COMMIT}.json"
+
+app_args=("--server.port=${PUERTO}" "--spring.jpa.show-sql=false" "--logging.level.com.empresa.soporte_tecnico=WARN")
+perfiles="$PERFIL"
+if [ "$SEMBRADO" = "app" ]; then
+    perfiles="${perfiles:+${perfiles},}semilla"
+    app_args+=("--soporte.semilla.clientes=${CLIENTES}" "--soporte.semilla.tecnicos=${TECNICOS}"
+        "--soporte.semilla.solicitudes=${SOLICITUDES}" "--soporte.semilla.valor=${SEMILLA}")
+fi
+if [ -n "$perfiles" ]; then
+    app_args+=("--spring.profiles.active=${perfiles}")
+fi
+java "-Xmx${HEAP_APP}" -jar "$APP_JAR" "${app_args[@]}" > target/carga/app.log 2>&1 &
+app_pid=$!
+trap 'kill $app_pid 2>/dev/null || true' EXIT
+
+# readiness pasa a UP recién cuando terminó la semilla
+until curl -sf "http://localhost:${PUERTO}/actuator/health/readiness" > /dev/null; do
+    if ! kill -0 "$app_pid" 2>/dev/null; then
+        echo "La aplicación no arrancó; ver target/carga/app.log" >&2
+        exit 1
+    fi
+    sleep 1
+done
+
+generador_args=("--url=http://localhost:${PUERTO}" "--etiqueta=regresion" "--commit=${COMMIT}"
+    "--sembrado=${SEMBRADO}" "--clientes=${CLIENTES}" "--tecnicos=${TECNICOS}" "--solicitudes=${SOLICITUDES}"
+    "--tasa=${TASA}" "--concurrencia=${CONCURRENCIA}" "--duracion=${DURACION}" "--calentamiento=${CALENTAMIENTO}"
+    "--semilla=${SEMILLA}" "--reporte=${REPORTE}")
+if [ -n "$MEZCLA" ]; then
+    generador_args+=("--mezcla=${MEZCLA}")
+fi
+java -jar carga/target/carga.jar "${generador_args[@]}"
+
+kill "$app_pid"
+wait "$app_pid" 2>/dev/null || true
+
+if [ -n "${BASE:-}" ]; then
+    java -cp carga/target/carga.jar com.empresa.soporte_tecnico.carga.CompararReportes \
+        --base="$BASE" --nuevo="$REPORTE" --tolerancia="$TOLERANCIA"
+fi
@@ -0,0 +1,63 @@
+package com.empresa.soporte_tecnico.carga;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Argumentos de línea de comandos con la forma {@code --clave=valor}.
+ */
+final class Argumentos {
+
+    private final Map<String, String> valores = new HashMap<>();
+
+    Argumentos(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Argumento no reconocido: " + arg + " (se espera --clave=valor)");
+            }
+            int igual = arg.indexOf('=');
+            if (igual < 0) {
+                valores.put(arg.substring(2), "true");
+            } else {
+                valores.put(arg.substring(2, igual), arg.substring(igual + 1));
+            }
+        }
+    }
+
+    String texto(String clave, String porDefecto) {
+        return valores.getOrDefault(clave, porDefecto);
+    }
+
+    int entero(String clave, int porDefecto) {
+        String valor = valores.get(clave);
+        return valor != null ? Integer.parseInt(valor) : porDefecto;
+    }
+
+    long largo(String clave, long porDefecto) {
+        String valor = valores.get(clave);
+        return valor != null ? Long.parseLong(valor) : porDefecto;
+    }
+
+    double decimal(String clave, double porDefecto) {
+        String valor = valores.get(clave);
+        return valor != null ? Double.parseDouble(valor) : porDefecto;
+    }
+
+    String obligatorio(String clave) {
+        String valor = valores.get(clave);
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalArgumentException("Falta el argumento --" + clave + "=...");
+        }
+        return valor;
+    }
+
+    // Acepta segundos ("30") o el formato ISO-8601 de Duration ("PT2M")
+    Duration duracion(String clave, Duration porDefecto) {
+        String valor = valores.get(clave);
+        if (valor == null) {
+            return porDefecto;
+        }
+        return valor.startsWith("P") ? Duration.parse(valor) : Duration.ofSeconds(Long.parseLong(valor));
+    }
+}
@@ -0,0 +1,99 @@
+package com.empresa.soporte_tecnico.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compara dos reportes de {@link GeneradorCarga} (por ejemplo, de dos commits) y termina con código 1
+ * si hay una regresión: throughput menor o p99 mayor que el de la base en más de {@code --tolerancia}
+ * por ciento, en total o en alguna operación presente en ambos.
+ *
+ * <pre>
+ * java -cp carga/target/carga.jar com.empresa.soporte_tecnico.carga.CompararReportes \
+ *      --base=target/carga/reporte-a1b2c3d.json --nuevo=target/carga/reporte-e4f5a6b.json --tolerancia=10
+ * </pre>
+ */
+public final class CompararReportes {
+
+    private CompararReportes() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Argumentos argumentos = new Argumentos(args);
+        ObjectMapper json = new ObjectMapper();
+        JsonNode base = json.readTree(new File(argumentos.obligatorio("base")));
+        JsonNode nuevo = json.readTree(new File(argumentos.obligatorio("nuevo")));
+        double tolerancia = argumentos.decimal("tolerancia", 10);
+
+        if (!base.path("parametros").equals(nuevo.path("parametros"))) {
+            System.out.println("Aviso: los reportes se generaron con parámetros distintos");
+        }
+        if (!base.path("entorno").equals(nuevo.path("entorno"))) {
+            System.out.println("Aviso: los reportes se generaron en entornos distintos");
+        }
+        // Los reportes anteriores a --tasa son todos de lazo cerrado
+        String modoBase = base.path("parametros").path("modo").asText("cerrado");
+        String modoNuevo = nuevo.path("parametros").path("modo").asText("cerrado");
+        if (!modoBase.equals(modoNuevo)) {
+            System.out.println("Aviso: un reporte es de lazo abierto y el otro de lazo cerrado; sus latencias no son comparables");
+        } else if (modoNuevo.equals("cerrado")) {
+            System.out.println("Aviso: lazo cerrado; si el servidor se frena, p99 y máximo quedan subestimados (use --tasa)");
+        }
+
+        System.out.printf("%s (%s) -> %s (%s), tolerancia %.1f %%%n",
+                base.path("commit").asText(), base.path("fecha").asText(),
+                nuevo.path("commit").asText(), nuevo.path("fecha").asText(), tolerancia);
+        System.out.printf("%-14s %12s %12s %9s %10s %10s %9s%n",
+                "operación", "req/s base", "req/s nuevo", "Δ", "p99 base", "p99 nuevo", "Δ");
+
+        List<String> regresiones = new ArrayList<>();
+        comparar("total", base.path("total"), nuevo.path("total"), tolerancia, regresiones);
+        for (Map.Entry<String, JsonNode> operacion : nuevo.path("operaciones").properties()) {
+            JsonNode anterior = base.path("operaciones").path(operacion.getKey());
+            if (!anterior.isMissingNode()) {
+                comparar(operacion.getKey(), anterior, operacion.getValue(), tolerancia, regresiones);
+            }
+        }
+
+        if (regresiones.isEmpty()) {
+            System.out.println("Sin regresiones");
+            return;
+        }
+        System.out.println("Regresiones:");
+        regresiones.forEach(regresion -> System.out.println("  - " + regresion));
+        System.exit(1);
+    }
+
+    private static void comparar(String nombre, JsonNode base, JsonNode nuevo, double tolerancia,
+                                 List<String> regresiones) {
+        double throughputBase = base.path("throughput").asDouble();
+        double throughputNuevo = nuevo.path("throughput").asDouble();
+        double p99Base = base.path("p99Ms").asDouble();
+        double p99Nuevo = nuevo.path("p99Ms").asDouble();
+        double cambioThroughput = variacion(throughputBase, throughputNuevo);
+        double cambioP99 = variacion(p99Base, p99Nuevo);
+
+        System.out.printf("%-14s %12.1f %12.1f %8.1f%% %10.2f %10.2f %8.1f%%%n",
+                nombre, throughputBase, throughputNuevo, cambioThroughput, p99Base, p99Nuevo, cambioP99);
+
+        if (cambioThroughput < -tolerancia) {
+            regresiones.add(String.format("%s: throughput %.1f -> %.1f req/s (%.1f %%)",
+                    nombre, throughputBase, throughputNuevo, cambioThroughput));
+        }
+        if (cambioP99 > tolerancia) {
+            regresiones.add(String.format("%s: p99 %.2f -> %.2f ms (+%.1f %%)", nombre, p99Base, p99Nuevo, cambioP99));
+        }
+        if (base.path("errores").asLong() == 0 && nuevo.path("errores").asLong() > 0) {
+            regresiones.add(String.format("%s: %d errores (la base no tenía)", nombre, nuevo.path("errores").asLong()));
+        }
+    }
+
+    private static double variacion(double base, double nuevo) {
+        return base == 0 ? 0 : (nuevo - base) / base * 100;
+    }
+}
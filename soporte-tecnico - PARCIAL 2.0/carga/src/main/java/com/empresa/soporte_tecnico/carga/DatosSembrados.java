@@ -0,0 +1,92 @@
+package com.empresa.soporte_tecnico.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+/**
+ * IDs sobre los que trabaja la mezcla de operaciones: las lecturas por ID y las modificaciones
+ * eligen entre estos, así no cuentan 404 como errores.
+ */
+record DatosSembrados(long[] clienteIds, long[] solicitudIds) {
+
+    // Si los IDs no resultan contiguos, se trabaja con una muestra de la primera página
+    private static final int MUESTRA = 500;
+
+    long clienteAlAzar(Random azar) {
+        return clienteIds[azar.nextInt(clienteIds.length)];
+    }
+
+    long solicitudAlAzar(Random azar) {
+        return solicitudIds[azar.nextInt(solicitudIds.length)];
+    }
+
+    boolean hayClientes() {
+        return clienteIds.length > 0;
+    }
+
+    boolean haySolicitudes() {
+        return solicitudIds.length > 0;
+    }
+
+    /**
+     * IDs de datos ya cargados (por ejemplo, con el perfil "semilla" de la aplicación). Una BD sembrada de
+     * cero tiene IDs contiguos: se toma el rango completo entre el primero y el último, así las lecturas por
+     * ID recorren toda la tabla y no solo unas filas siempre en caché.
+     */
+    static DatosSembrados existentes(HttpClient cliente, String url, ObjectMapper json)
+            throws IOException, InterruptedException {
+        JsonNode primerCliente = leer(cliente, url + "/clientes?limite=1", json).path("items").path(0);
+        JsonNode ultimoCliente = leer(cliente, url + "/clientes?limite=1&direccion=desc", json).path("items").path(0);
+        long[] clienteIds = primerCliente.isMissingNode()
+                ? new long[0]
+                : rango(primerCliente.path("id").asLong(), ultimoCliente.path("id").asLong());
+
+        JsonNode primeraSolicitud = leer(cliente, url + "/solicitudes?limite=1", json).path("items").path(0);
+        if (primeraSolicitud.isMissingNode()) {
+            return new DatosSembrados(clienteIds, new long[0]);
+        }
+        long total = 0;
+        for (JsonNode conteo : leer(cliente, url + "/solicitudes/estadisticas?fuente=bd", json).path("porEstado")) {
+            total += conteo.path("total").asLong();
+        }
+        long primera = primeraSolicitud.path("id").asLong();
+        long ultima = primera + total - 1;
+        if (existe(cliente, url + "/solicitudes/" + ultima) && !existe(cliente, url + "/solicitudes/" + (ultima + 1))) {
+            return new DatosSembrados(clienteIds, rango(primera, ultima));
+        }
+        System.out.printf("Los IDs de solicitudes no son contiguos: se usa una muestra de %d%n", MUESTRA);
+        JsonNode items = leer(cliente, url + "/solicitudes/resumen?limite=" + MUESTRA, json).path("items");
+        long[] muestra = new long[items.size()];
+        for (int i = 0; i < muestra.length; i++) {
+            muestra[i] = items.get(i).path("id").asLong();
+        }
+        return new DatosSembrados(clienteIds, muestra);
+    }
+
+    private static long[] rango(long desde, long hasta) {
+        return LongStream.rangeClosed(desde, hasta).toArray();
+    }
+
+    private static JsonNode leer(HttpClient cliente, String url, ObjectMapper json)
+            throws IOException, InterruptedException {
+        HttpResponse<String> respuesta = cliente.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (respuesta.statusCode() != 200) {
+            throw new IllegalStateException("Error al leer " + url + ": HTTP " + respuesta.statusCode());
+        }
+        return json.readTree(respuesta.body());
+    }
+
+    private static boolean existe(HttpClient cliente, String url) throws IOException, InterruptedException {
+        return cliente.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+}
@@ -0,0 +1,244 @@
+package com.empresa.soporte_tecnico.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga: repite operaciones de una {@link Mezcla} de lecturas y escrituras durante
+ * {@code duracion} y se informa el throughput y los percentiles de latencia, en total y por operación.
+ *
+ * <p>Con {@code --tasa} trabaja en lazo abierto: las peticiones salen a ritmo constante, sin esperar las
+ * respuestas, y cada latencia se mide desde el instante en que la petición debía salir. Así, si el servidor
+ * se frena, la espera de las peticiones atrasadas también cuenta (sin omisión coordinada) y p99/máximo
+ * reflejan lo que vería un usuario. {@code --concurrencia} es entonces el tope de peticiones en vuelo. Sin
+ * {@code --tasa} trabaja en lazo cerrado: {@code concurrencia} usuarios virtuales envían la siguiente
+ * petición al recibir la respuesta anterior; sirve para medir el throughput máximo, pero sus percentiles
+ * altos quedan subestimados cuando el servidor se frena.</p>
+ *
+ * <p>Antes de medir puede sembrar datos ({@code --clientes}, {@code --tecnicos}, {@code --solicitudes}) o,
+ * con {@code --sembrado=app}, usar los que cargó la aplicación al arrancar; con {@code --reporte} deja el resultado en JSON para compararlo entre commits
+ * ({@link CompararReportes}, {@code carga/regresion.sh}). Con {@code --ruta} solo se repite un GET
+ * sobre esa ruta (ver {@code carga/comparar-hilos.sh}).</p>
+ *
+ * <pre>
+ * java -jar carga/target/carga.jar --url=http://localhost:8080 --tasa=200 --concurrencia=64 --duracion=60 \
+ *      --clientes=1000 --tecnicos=50 --solicitudes=100000 --reporte=target/carga/reporte.json
+ * </pre>
+ */
+public final class GeneradorCarga {
+
+    private GeneradorCarga() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Argumentos argumentos = new Argumentos(args);
+        String url = argumentos.texto("url", "http://localhost:8080");
+        String ruta = argumentos.texto("ruta", null);
+        int concurrencia = argumentos.entero("concurrencia", 200);
+        // Peticiones por segundo en lazo abierto; 0 = lazo cerrado
+        double tasa = argumentos.decimal("tasa", 0);
+        String modo = tasa > 0 ? "abierto" : "cerrado";
+        Duration duracion = argumentos.duracion("duracion", Duration.ofSeconds(30));
+        Duration calentamiento = argumentos.duracion("calentamiento", Duration.ofSeconds(5));
+        // --sembrar se conserva como sinónimo de --solicitudes
+        int solicitudes = argumentos.entero("solicitudes", argumentos.entero("sembrar", 0));
+        int clientes = argumentos.entero("clientes", solicitudes > 0 ? 1 : 0);
+        int tecnicos = argumentos.entero("tecnicos", solicitudes > 0 ? 1 : 0);
+        long semilla = argumentos.largo("semilla", 42);
+        // "api": el generador siembra por HTTP; "app": la aplicación ya arrancó sembrada (perfil "semilla")
+        // y los tamaños solo se registran en el reporte
+        String sembrado = argumentos.texto("sembrado", "api");
+        String etiqueta = argumentos.texto("etiqueta", "carga");
+        String reporte = argumentos.texto("reporte", null);
+
+        HttpClient cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper json = new ObjectMapper();
+
+        Mezcla mezcla;
+        if (ruta != null) {
+            if (solicitudes > 0) {
+                new Sembrador(cliente, url, json, semilla).sembrar(Math.max(clientes, 1), tecnicos, solicitudes);
+            }
+            mezcla = Mezcla.soloRuta(url, ruta);
+        } else {
+            boolean sembrar = sembrado.equals("api") && (clientes > 0 || tecnicos > 0 || solicitudes > 0);
+            DatosSembrados datos = sembrar
+                    ? new Sembrador(cliente, url, json, semilla).sembrar(Math.max(clientes, 1), tecnicos, solicitudes)
+                    : DatosSembrados.existentes(cliente, url, json);
+            mezcla = Mezcla.parsear(argumentos.texto("mezcla", Mezcla.POR_DEFECTO), url, datos, json);
+        }
+
+        if (tasa > 0) {
+            System.out.printf("[%s] calentando (%s) en lazo abierto a %.1f req/s, hasta %d en vuelo...%n",
+                    etiqueta, mezcla.descripcion(), tasa, concurrencia);
+        } else {
+            System.out.printf("[%s] calentando (%s) en lazo cerrado con %d usuarios...%n",
+                    etiqueta, mezcla.descripcion(), concurrencia);
+        }
+        ejecutar(cliente, mezcla, concurrencia, tasa, calentamiento, semilla);
+
+        System.out.printf("[%s] midiendo durante %s...%n", etiqueta, duracion);
+        // Otra semilla que el calentamiento: la medición no repite exactamente las mismas peticiones
+        Resultado resultado = ejecutar(cliente, mezcla, concurrencia, tasa, duracion, semilla + concurrencia);
+        resultado.imprimir(etiqueta);
+
+        if (reporte != null) {
+            Map<String, Object> parametros = new LinkedHashMap<>();
+            parametros.put("url", url);
+            parametros.put("mezcla", mezcla.descripcion());
+            // CompararReportes avisa si se comparan latencias de lazo abierto con las de lazo cerrado
+            parametros.put("modo", modo);
+            parametros.put("tasa", tasa);
+            parametros.put("concurrencia", concurrencia);
+            parametros.put("duracionSegundos", duracion.toSeconds());
+            parametros.put("calentamientoSegundos", calentamiento.toSeconds());
+            parametros.put("sembrado", sembrado);
+            parametros.put("clientes", clientes);
+            parametros.put("tecnicos", tecnicos);
+            parametros.put("solicitudes", solicitudes);
+            parametros.put("semilla", semilla);
+            Path destino = Path.of(reporte);
+            Reporte.escribir(destino, json, etiqueta, argumentos.texto("commit", "desconocido"), parametros, resultado);
+            System.out.printf("[%s] reporte: %s%n", etiqueta, destino.toAbsolutePath());
+        }
+    }
+
+    static Resultado ejecutar(HttpClient cliente, Mezcla mezcla, int concurrencia, double tasa,
+                              Duration duracion, long semilla) throws InterruptedException {
+        Map<String, Recorder> latencias = new LinkedHashMap<>();
+        Map<String, LongAdder> errores = new LinkedHashMap<>();
+        for (Mezcla.Operacion operacion : mezcla.operaciones()) {
+            latencias.put(operacion.nombre(), new Recorder(3));
+            errores.put(operacion.nombre(), new LongAdder());
+        }
+        long inicio = System.nanoTime();
+        long fin = inicio + duracion.toNanos();
+
+        try (ExecutorService usuarios = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (tasa > 0) {
+                // Lazo abierto: un solo despachador sigue el calendario y cada petición sale en su propio hilo
+                long intervalo = Math.max(1, Math.round(1e9 / tasa));
+                Semaphore enVuelo = new Semaphore(concurrencia);
+                Random azar = new Random(semilla);
+                for (long programada = inicio; programada < fin; programada += intervalo) {
+                    long espera;
+                    while ((espera = programada - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(espera);
+                    }
+                    Mezcla.Operacion operacion = mezcla.elegir(azar);
+                    HttpRequest peticion = operacion.peticion().apply(azar);
+                    // Con el tope de peticiones en vuelo alcanzado se espera aquí, pero la latencia se sigue
+                    // contando desde 'programada': el atraso es parte de lo que mide
+                    enVuelo.acquire();
+                    long desde = programada;
+                    usuarios.submit(() -> {
+                        try {
+                            enviar(cliente, operacion, peticion, desde, latencias, errores);
+                        } finally {
+                            enVuelo.release();
+                        }
+                    });
+                }
+            } else {
+                for (int i = 0; i < concurrencia; i++) {
+                    // Una semilla por usuario: la secuencia de operaciones de cada uno es reproducible
+                    Random usuario = new Random(semilla + i);
+                    usuarios.submit(() -> {
+                        while (System.nanoTime() < fin) {
+                            Mezcla.Operacion operacion = mezcla.elegir(usuario);
+                            HttpRequest peticion = operacion.peticion().apply(usuario);
+                            if (!enviar(cliente, operacion, peticion, System.nanoTime(), latencias, errores)) {
+                                return;
+                            }
+                        }
+                    });
+                }
+            }
+            usuarios.shutdown();
+            usuarios.awaitTermination(duracion.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+
+        long transcurridos = System.nanoTime() - inicio;
+        Map<String, Medicion> porOperacion = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        long erroresTotales = 0;
+        for (Map.Entry<String, Recorder> entrada : latencias.entrySet()) {
+            Histogram histograma = entrada.getValue().getIntervalHistogram();
+            long erroresOperacion = errores.get(entrada.getKey()).sum();
+            porOperacion.put(entrada.getKey(), new Medicion(histograma, erroresOperacion, transcurridos));
+            total.add(histograma);
+            erroresTotales += erroresOperacion;
+        }
+        return new Resultado(new Medicion(total, erroresTotales, transcurridos), porOperacion);
+    }
+
+    // Envía la petición y registra su latencia desde 'desde'; false si el hilo fue interrumpido
+    private static boolean enviar(HttpClient cliente, Mezcla.Operacion operacion, HttpRequest peticion, long desde,
+                                  Map<String, Recorder> latencias, Map<String, LongAdder> errores) {
+        try {
+            HttpResponse<Void> respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.discarding());
+            if (respuesta.statusCode() >= 400) {
+                errores.get(operacion.nombre()).increment();
+            }
+        } catch (IOException ex) {
+            errores.get(operacion.nombre()).increment();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        latencias.get(operacion.nombre()).recordValue(System.nanoTime() - desde);
+        return true;
+    }
+
+    record Resultado(Medicion total, Map<String, Medicion> porOperacion) {
+
+        void imprimir(String etiqueta) {
+            total.imprimir(etiqueta);
+            if (porOperacion.size() > 1) {
+                porOperacion.forEach((nombre, medicion) -> medicion.imprimir(etiqueta + "/" + nombre));
+            }
+        }
+    }
+
+    record Medicion(Histogram latencias, long errores, long nanosTranscurridos) {
+
+        double throughput() {
+            return latencias.getTotalCount() / (nanosTranscurridos / 1e9);
+        }
+
+        double percentilMs(double percentil) {
+            return latencias.getValueAtPercentile(percentil) / 1e6;
+        }
+
+        double maximoMs() {
+            return latencias.getMaxValue() / 1e6;
+        }
+
+        void imprimir(String etiqueta) {
+            System.out.printf("[%s] peticiones=%d errores=%d throughput=%.1f req/s "
+                            + "p50=%.2f ms p90=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                    etiqueta, latencias.getTotalCount(), errores, throughput(),
+                    percentilMs(50), percentilMs(90), percentilMs(99), maximoMs());
+        }
+    }
+}
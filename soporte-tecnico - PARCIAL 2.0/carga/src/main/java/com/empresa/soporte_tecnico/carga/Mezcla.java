@@ -0,0 +1,160 @@
+package com.empresa.soporte_tecnico.carga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Mezcla ponderada de operaciones que repite cada usuario virtual, con la forma
+ * {@code nombre:peso,nombre:peso}. Operaciones disponibles:
+ *
+ * <ul>
+ *   <li>{@code listar}: {@code GET /solicitudes?limite=50}</li>
+ *   <li>{@code detalle}: {@code GET /solicitudes/{id}} sobre una solicitud sembrada</li>
+ *   <li>{@code resumen}: {@code GET /solicitudes/resumen?clienteId=...}</li>
+ *   <li>{@code clientes}: {@code GET /clientes} con búsqueda por prefijo y orden por nombre</li>
+ *   <li>{@code buscar}: {@code GET /solicitudes/buscar} (texto completo)</li>
+ *   <li>{@code estadisticas}: {@code GET /solicitudes/estadisticas}</li>
+ *   <li>{@code crear}: {@code POST /solicitudes} con asignación automática</li>
+ *   <li>{@code modificar}: {@code PATCH /solicitudes/{id}} cambiando la descripción</li>
+ * </ul>
+ */
+final class Mezcla {
+
+    static final String POR_DEFECTO =
+            "listar:25,detalle:25,resumen:10,clientes:10,buscar:5,estadisticas:5,crear:15,modificar:5";
+
+    private static final Duration TIEMPO_MAXIMO = Duration.ofSeconds(30);
+
+    private final List<Operacion> operaciones;
+    private final int pesoTotal;
+    private final String descripcion;
+
+    private Mezcla(List<Operacion> operaciones, String descripcion) {
+        this.operaciones = List.copyOf(operaciones);
+        this.pesoTotal = operaciones.stream().mapToInt(Operacion::peso).sum();
+        this.descripcion = descripcion;
+    }
+
+    static Mezcla parsear(String texto, String url, DatosSembrados datos, ObjectMapper json) {
+        List<Operacion> operaciones = new ArrayList<>();
+        for (String parte : texto.split(",")) {
+            String[] nombreYPeso = parte.trim().split(":");
+            String nombre = nombreYPeso[0].trim();
+            int peso = nombreYPeso.length > 1 ? Integer.parseInt(nombreYPeso[1].trim()) : 1;
+            if (peso > 0) {
+                operaciones.add(new Operacion(nombre, peso, peticion(nombre, url, datos, json)));
+            }
+        }
+        if (operaciones.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla no tiene operaciones con peso positivo: " + texto);
+        }
+        return new Mezcla(operaciones, texto);
+    }
+
+    // Modo de una sola ruta (el de comparar-hilos.sh): solo GET sobre esa ruta
+    static Mezcla soloRuta(String url, String ruta) {
+        HttpRequest peticion = get(url + ruta);
+        return new Mezcla(List.of(new Operacion("ruta", 1, azar -> peticion)), "GET " + ruta);
+    }
+
+    List<Operacion> operaciones() {
+        return operaciones;
+    }
+
+    String descripcion() {
+        return descripcion;
+    }
+
+    Operacion elegir(Random azar) {
+        int valor = azar.nextInt(pesoTotal);
+        for (Operacion operacion : operaciones) {
+            valor -= operacion.peso();
+            if (valor < 0) {
+                return operacion;
+            }
+        }
+        throw new IllegalStateException("Peso fuera de rango");
+    }
+
+    private static Function<Random, HttpRequest> peticion(String nombre, String url, DatosSembrados datos,
+                                                          ObjectMapper json) {
+        return switch (nombre) {
+            case "listar" -> azar -> get(url + "/solicitudes?limite=50");
+            case "detalle" -> {
+                exigirSolicitudes(nombre, datos);
+                yield azar -> get(url + "/solicitudes/" + datos.solicitudAlAzar(azar));
+            }
+            case "resumen" -> {
+                exigirClientes(nombre, datos);
+                yield azar -> get(url + "/solicitudes/resumen?limite=50&clienteId=" + datos.clienteAlAzar(azar));
+            }
+            case "clientes" -> azar -> get(url + "/clientes?limite=20&orden=nombre&prefijo="
+                    + URLEncoder.encode(Vocabulario.prefijoCliente(azar), StandardCharsets.UTF_8));
+            case "buscar" -> azar -> get(url + "/solicitudes/buscar?texto="
+                    + URLEncoder.encode(Vocabulario.busqueda(azar), StandardCharsets.UTF_8));
+            case "estadisticas" -> azar -> get(url + "/solicitudes/estadisticas");
+            case "crear" -> {
+                exigirClientes(nombre, datos);
+                yield azar -> {
+                    Map<String, Object> solicitud = new LinkedHashMap<>();
+                    solicitud.put("descripcion", Vocabulario.descripcion(azar));
+                    solicitud.put("cliente", Map.of("id", datos.clienteAlAzar(azar)));
+                    solicitud.put("especialidad", Vocabulario.especialidad(azar));
+                    return conCuerpo("POST", url + "/solicitudes", json, solicitud);
+                };
+            }
+            case "modificar" -> {
+                exigirSolicitudes(nombre, datos);
+                yield azar -> conCuerpo("PATCH", url + "/solicitudes/" + datos.solicitudAlAzar(azar), json,
+                        Map.of("descripcion", Vocabulario.descripcion(azar)));
+            }
+            default -> throw new IllegalArgumentException("Operación desconocida en la mezcla: " + nombre);
+        };
+    }
+
+    private static void exigirSolicitudes(String operacion, DatosSembrados datos) {
+        if (!datos.haySolicitudes()) {
+            throw new IllegalArgumentException("La operación '" + operacion + "' necesita solicitudes: use --solicitudes=N");
+        }
+    }
+
+    private static void exigirClientes(String operacion, DatosSembrados datos) {
+        if (!datos.hayClientes()) {
+            throw new IllegalArgumentException("La operación '" + operacion + "' necesita clientes: use --clientes=N");
+        }
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .timeout(TIEMPO_MAXIMO)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest conCuerpo(String metodo, String uri, ObjectMapper json, Object cuerpo) {
+        try {
+            return HttpRequest.newBuilder(URI.create(uri))
+                    .timeout(TIEMPO_MAXIMO)
+                    .header("Content-Type", "application/json")
+                    .method(metodo, HttpRequest.BodyPublishers.ofString(json.writeValueAsString(cuerpo)))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    record Operacion(String nombre, int peso, Function<Random, HttpRequest> peticion) {
+    }
+}
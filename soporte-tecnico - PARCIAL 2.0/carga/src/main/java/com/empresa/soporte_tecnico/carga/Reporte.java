@@ -0,0 +1,73 @@
+package com.empresa.soporte_tecnico.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reporte JSON de una corrida: parámetros, entorno y, en total y por operación, peticiones, errores,
+ * throughput (req/s) y percentiles de latencia en milisegundos. Es la entrada de {@link CompararReportes}.
+ *
+ * <pre>
+ * {"etiqueta": "...", "commit": "a1b2c3d", "fecha": "...", "parametros": {...}, "entorno": {...},
+ *  "total": {"peticiones": 1200, "errores": 0, "throughput": 40.0, "p50Ms": 3.1, ...},
+ *  "operaciones": {"listar": {...}, "crear": {...}}}
+ * </pre>
+ */
+final class Reporte {
+
+    private Reporte() {
+    }
+
+    static void escribir(Path destino, ObjectMapper json, String etiqueta, String commit,
+                         Map<String, Object> parametros, GeneradorCarga.Resultado resultado) throws IOException {
+        Map<String, Object> reporte = new LinkedHashMap<>();
+        reporte.put("etiqueta", etiqueta);
+        reporte.put("commit", commit);
+        reporte.put("fecha", Instant.now().toString());
+        reporte.put("parametros", parametros);
+        reporte.put("entorno", entorno());
+        reporte.put("total", comoMapa(resultado.total()));
+        Map<String, Object> operaciones = new LinkedHashMap<>();
+        resultado.porOperacion().forEach((nombre, medicion) -> operaciones.put(nombre, comoMapa(medicion)));
+        reporte.put("operaciones", operaciones);
+
+        if (destino.getParent() != null) {
+            Files.createDirectories(destino.getParent());
+        }
+        json.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(destino.toFile(), reporte);
+    }
+
+    // Sin el entorno, dos reportes de máquinas distintas parecerían comparables
+    private static Map<String, Object> entorno() {
+        Map<String, Object> entorno = new LinkedHashMap<>();
+        entorno.put("java", System.getProperty("java.version"));
+        entorno.put("so", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+        entorno.put("arquitectura", System.getProperty("os.arch"));
+        entorno.put("procesadores", Runtime.getRuntime().availableProcessors());
+        return entorno;
+    }
+
+    private static Map<String, Object> comoMapa(GeneradorCarga.Medicion medicion) {
+        Map<String, Object> valores = new LinkedHashMap<>();
+        valores.put("peticiones", medicion.latencias().getTotalCount());
+        valores.put("errores", medicion.errores());
+        valores.put("throughput", redondear(medicion.throughput()));
+        valores.put("p50Ms", redondear(medicion.percentilMs(50)));
+        valores.put("p90Ms", redondear(medicion.percentilMs(90)));
+        valores.put("p99Ms", redondear(medicion.percentilMs(99)));
+        valores.put("p999Ms", redondear(medicion.percentilMs(99.9)));
+        valores.put("maxMs", redondear(medicion.maximoMs()));
+        return valores;
+    }
+
+    private static double redondear(double valor) {
+        return Math.round(valor * 1000) / 1000.0;
+    }
+}
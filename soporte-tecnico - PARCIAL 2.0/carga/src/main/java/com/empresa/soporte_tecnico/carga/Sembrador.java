@@ -0,0 +1,156 @@
+package com.empresa.soporte_tecnico.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+/**
+ * Siembra clientes, técnicos y solicitudes a través de la API, antes de medir.
+ *
+ * <p>Clientes y técnicos se crean de a uno con {@code POST} en paralelo. Las solicitudes se envían en
+ * lotes JSON a {@code POST /solicitudes/lote}: cada lote se inserta en una transacción y la respuesta
+ * llega recién al terminar, así que el volumen total no queda limitado por los buffers del socket.
+ * Sin técnico asignado, el motor de asignación reparte las solicitudes según la especialidad.</p>
+ *
+ * <p>El contenido depende solo de la semilla; los correos llevan además una marca de tiempo para
+ * poder sembrar varias veces sobre la misma BD.</p>
+ */
+final class Sembrador {
+
+    // El endpoint JSON admite hasta 10 000 filas por llamada; 5 000 mantiene acotada cada transacción
+    private static final int FILAS_POR_LOTE = 5_000;
+    private static final int ALTAS_EN_PARALELO = 32;
+    private static final int LOTES_EN_PARALELO = 4;
+
+    private final HttpClient cliente;
+    private final String url;
+    private final ObjectMapper json;
+    private final long semilla;
+
+    Sembrador(HttpClient cliente, String url, ObjectMapper json, long semilla) {
+        this.cliente = cliente;
+        this.url = url;
+        this.json = json;
+        this.semilla = semilla;
+    }
+
+    DatosSembrados sembrar(int clientes, int tecnicos, int solicitudes) throws IOException, InterruptedException {
+        long inicio = System.nanoTime();
+        long marca = System.currentTimeMillis();
+
+        List<Long> clienteIds = enParalelo(clientes, ALTAS_EN_PARALELO, i -> () -> crear("/clientes", Map.of(
+                "nombre", Vocabulario.nombreCliente(i),
+                "correo", "carga-" + marca + "-" + i + "@empresa.com")));
+        enParalelo(tecnicos, ALTAS_EN_PARALELO, i -> () -> crear("/tecnicos", Map.of(
+                "nombre", "Técnico carga " + i,
+                "especialidad", Vocabulario.ESPECIALIDADES[i % Vocabulario.ESPECIALIDADES.length])));
+        long[] clientesSembrados = clienteIds.stream().mapToLong(Long::longValue).toArray();
+
+        int lotes = (solicitudes + FILAS_POR_LOTE - 1) / FILAS_POR_LOTE;
+        List<long[]> idsPorLote = enParalelo(lotes, LOTES_EN_PARALELO, lote -> () -> {
+            int desde = lote * FILAS_POR_LOTE;
+            return crearLote(lote, Math.min(FILAS_POR_LOTE, solicitudes - desde), clientesSembrados);
+        });
+        long[] solicitudIds = idsPorLote.stream().flatMapToLong(Arrays::stream).toArray();
+
+        System.out.printf("Sembrados %d clientes, %d técnicos y %d solicitudes en %.1f s%n",
+                clientesSembrados.length, tecnicos, solicitudIds.length, (System.nanoTime() - inicio) / 1e9);
+        return new DatosSembrados(clientesSembrados, solicitudIds);
+    }
+
+    // Cada lote usa su propia semilla derivada: el contenido no depende del orden en que terminen los lotes
+    private long[] crearLote(int lote, int filas, long[] clienteIds) throws IOException, InterruptedException {
+        Random azar = new Random(semilla * 31 + lote);
+        List<Map<String, Object>> solicitudes = new ArrayList<>(filas);
+        for (int i = 0; i < filas; i++) {
+            Map<String, Object> solicitud = new LinkedHashMap<>();
+            solicitud.put("descripcion", Vocabulario.descripcion(azar));
+            solicitud.put("cliente", Map.of("id", clienteIds[azar.nextInt(clienteIds.length)]));
+            solicitud.put("especialidad", Vocabulario.especialidad(azar));
+            solicitudes.add(solicitud);
+        }
+
+        JsonNode resultados = json.readTree(enviar("/solicitudes/lote", solicitudes));
+        long[] ids = new long[resultados.size()];
+        int creadas = 0;
+        for (JsonNode resultado : resultados) {
+            if (resultado.path("creada").asBoolean()) {
+                ids[creadas++] = resultado.path("id").asLong();
+            }
+        }
+        if (creadas < filas) {
+            System.out.printf("Lote %d: %d de %d solicitudes rechazadas%n", lote, filas - creadas, filas);
+        }
+        return Arrays.copyOf(ids, creadas);
+    }
+
+    private long crear(String ruta, Object cuerpo) throws IOException, InterruptedException {
+        return json.readTree(enviar(ruta, cuerpo)).path("id").asLong();
+    }
+
+    private String enviar(String ruta, Object cuerpo) throws IOException, InterruptedException {
+        HttpResponse<String> respuesta = cliente.send(HttpRequest.newBuilder(URI.create(url + ruta))
+                        .timeout(Duration.ofMinutes(10))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(json.writeValueAsString(cuerpo)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (respuesta.statusCode() != 200) {
+            throw new IllegalStateException("Error al sembrar " + ruta + ": HTTP " + respuesta.statusCode()
+                    + " " + respuesta.body());
+        }
+        return respuesta.body();
+    }
+
+    // Ejecuta "cantidad" tareas con hilos virtuales, como mucho "paralelo" a la vez; devuelve en orden de índice
+    private static <T> List<T> enParalelo(int cantidad, int paralelo, IntFunction<Callable<T>> tarea)
+            throws IOException, InterruptedException {
+        Semaphore permisos = new Semaphore(paralelo);
+        List<Future<T>> pendientes = new ArrayList<>(cantidad);
+        try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < cantidad; i++) {
+                Callable<T> llamada = tarea.apply(i);
+                pendientes.add(hilos.submit(() -> {
+                    permisos.acquire();
+                    try {
+                        return llamada.call();
+                    } finally {
+                        permisos.release();
+                    }
+                }));
+            }
+            List<T> resultados = new ArrayList<>(cantidad);
+            for (Future<T> pendiente : pendientes) {
+                resultados.add(pendiente.get());
+            }
+            return resultados;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.empresa.soporte_tecnico.carga;
+
+import java.util.Random;
+
+/**
+ * Textos con los que se siembran clientes y solicitudes. Se combinan con un {@link Random} con semilla
+ * para que dos corridas con la misma semilla generen los mismos datos.
+ */
+final class Vocabulario {
+
+    static final String[] ESPECIALIDADES = {"Redes", "Hardware", "Software", "Impresoras"};
+
+    private static final String[] PROBLEMAS = {
+            "No enciende", "No imprime", "Sin conexión a internet en", "Pantalla azul al iniciar",
+            "El correo no sincroniza en", "Lentitud extrema en", "No reconoce el teclado de", "Ruido fuerte en"
+    };
+    private static final String[] EQUIPOS = {
+            "la impresora", "la notebook", "el router", "el monitor", "la PC", "el servidor de archivos"
+    };
+    private static final String[] LUGARES = {
+            "de recepción", "del piso 2", "de la oficina 3", "de contabilidad", "del depósito", "de gerencia"
+    };
+
+    // Mismos nombres que usa el perfil "semilla" de la aplicación (SembradorDatos)
+    private static final String[] NOMBRES = {
+            "Ana", "Bruno", "Camila", "Diego", "Elena", "Facundo", "Gabriela", "Hernán", "Inés", "Julián",
+            "Lucía", "Martín", "Natalia", "Pablo", "Romina", "Santiago", "Sofía", "Tomás", "Valentina", "Ximena"
+    };
+    private static final String[] APELLIDOS = {
+            "García", "Fernández", "López", "Martínez", "González", "Rodríguez", "Pérez", "Gómez", "Díaz",
+            "Sánchez", "Romero", "Sosa", "Torres", "Álvarez", "Ruiz", "Ramírez", "Flores", "Acosta", "Medina", "Herrera"
+    };
+
+    // Palabras que aparecen en las descripciones: la búsqueda de texto completo siempre encuentra algo
+    private static final String[] BUSQUEDAS = {
+            "impresora", "router", "monitor", "notebook", "servidor", "conexión", "correo", "teclado"
+    };
+
+    private Vocabulario() {
+    }
+
+    static String descripcion(Random azar) {
+        return elegir(PROBLEMAS, azar) + " " + elegir(EQUIPOS, azar) + " " + elegir(LUGARES, azar);
+    }
+
+    static String especialidad(Random azar) {
+        return elegir(ESPECIALIDADES, azar);
+    }
+
+    static String busqueda(Random azar) {
+        return elegir(BUSQUEDAS, azar);
+    }
+
+    static String nombreCliente(int indice) {
+        return NOMBRES[indice % NOMBRES.length] + " " + APELLIDOS[(indice / NOMBRES.length) % APELLIDOS.length];
+    }
+
+    // Nombre y la inicial del apellido ("Ana G"): abarca varios apellidos, como una búsqueda a medio escribir
+    static String prefijoCliente(Random azar) {
+        return elegir(NOMBRES, azar) + " " + elegir(APELLIDOS, azar).charAt(0);
+    }
+
+    private static String elegir(String[] opciones, Random azar) {
+        return opciones[azar.nextInt(opciones.length)];
+    }
+}
@@ -2,8 +2,10 @@ package com.empresa.soporte_tecnico;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SoporteTecnicoApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,26 @@
+package com.empresa.soporte_tecnico.config;
+
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.es.SpanishLightStemFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * Analizador del índice de búsqueda (registrado en hibernate.search.backend.analysis.configurer):
+ * minúsculas, sin tildes y con raíz en español, para que "impresoras" encuentre "Impresora".
+ */
+public class AnalisisBusquedaConfig implements LuceneAnalysisConfigurer {
+
+    public static final String ANALIZADOR_ESPANOL = "espanol";
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context.analyzer(ANALIZADOR_ESPANOL).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class)
+                .tokenFilter(SpanishLightStemFilterFactory.class);
+    }
+}
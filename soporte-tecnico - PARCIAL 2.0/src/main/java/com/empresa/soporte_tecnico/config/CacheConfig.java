@@ -0,0 +1,113 @@
+package com.empresa.soporte_tecnico.config;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.UnaryOperator;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String CACHE_CLIENTES = "clientes";
+    public static final String CACHE_TECNICOS = "tecnicos";
+
+    // Las entidades son mutables: la caché guarda y entrega copias, así quien modifica un cliente o técnico
+    // leído no cambia el que reciben los demás hilos
+    private static final Map<String, UnaryOperator<Object>> COPIAS = Map.of(
+            CACHE_CLIENTES, valor -> copiar((Cliente) valor),
+            CACHE_TECNICOS, valor -> copiar((Tecnico) valor));
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        // Nombres y especificación (tamaño máximo, expiración, recordStats) vienen de spring.cache.*
+        CaffeineCacheManager caffeine = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                UnaryOperator<Object> copia = COPIAS.get(name);
+                return copia != null
+                        ? new CacheDeCopias(name, cache, isAllowNullValues(), copia)
+                        : super.adaptCaffeineCache(name, cache);
+            }
+        };
+        caffeine.setCacheNames(cacheProperties.getCacheNames());
+        caffeine.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        caffeine.setAllowNullValues(false);
+
+        // Los put/evict hechos dentro de una transacción se aplican recién al confirmarla,
+        // así un rollback no deja en caché un cliente o técnico que nunca se guardó
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+
+    private static Cliente copiar(Cliente cliente) {
+        Cliente copia = new Cliente();
+        copia.setId(cliente.getId());
+        copia.setNombre(cliente.getNombre());
+        copia.setCorreo(cliente.getCorreo());
+        return copia;
+    }
+
+    private static Tecnico copiar(Tecnico tecnico) {
+        Tecnico copia = new Tecnico();
+        copia.setId(tecnico.getId());
+        copia.setNombre(tecnico.getNombre());
+        copia.setEspecialidad(tecnico.getEspecialidad());
+        return copia;
+    }
+
+    // Copia al guardar (el llamador conserva su instancia) y al leer (cada lector recibe la suya)
+    private static final class CacheDeCopias extends CaffeineCache {
+
+        private final UnaryOperator<Object> copia;
+
+        CacheDeCopias(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                      boolean allowNullValues, UnaryOperator<Object> copia) {
+            super(name, cache, allowNullValues);
+            this.copia = copia;
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            Object valor = super.lookup(key);
+            return valor != null ? copia.apply(valor) : null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            T valor = super.get(key, () -> {
+                T cargado = valueLoader.call();
+                return cargado != null ? (T) copia.apply(cargado) : null;
+            });
+            return valor != null ? (T) copia.apply(valor) : null;
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            super.put(key, value != null ? copia.apply(value) : null);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            ValueWrapper previo = super.putIfAbsent(key, value != null ? copia.apply(value) : null);
+            return previo != null && previo.get() != null
+                    ? new SimpleValueWrapper(copia.apply(previo.get()))
+                    : previo;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.empresa.soporte_tecnico.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Solo con hilos virtuales activos: escucha el evento JFR {@code jdk.VirtualThreadPinned}
+ * y registra un WARN con la pila cuando un hilo virtual queda fijado a su hilo portador
+ * más tiempo que el umbral configurado. Los bloques {@code synchronized} alrededor de
+ * llamadas JDBC son la causa típica y anulan la ventaja de los hilos virtuales.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DiagnosticoPinning implements SmartLifecycle {
+
+    private static final int MARCOS_A_MOSTRAR = 8;
+
+    private final Duration umbral;
+    private RecordingStream stream;
+
+    public DiagnosticoPinning(@Value("${soporte.diagnostico.pinning.umbral:20ms}") Duration umbral) {
+        this.umbral = umbral;
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(umbral).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::registrar);
+        stream.startAsync();
+        log.info("Diagnóstico de pinning de hilos virtuales activo (umbral {})", umbral);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void registrar(RecordedEvent evento) {
+        String pila = "(sin pila)";
+        if (evento.getStackTrace() != null) {
+            List<RecordedFrame> marcos = evento.getStackTrace().getFrames();
+            pila = marcos.stream()
+                    .limit(MARCOS_A_MOSTRAR)
+                    .map(marco -> marco.getMethod().getType().getName() + "." + marco.getMethod().getName()
+                            + ":" + marco.getLineNumber())
+                    .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+        }
+        log.warn("Hilo virtual fijado a su portador durante {} ms{}", evento.getDuration().toMillis(), pila);
+    }
+}
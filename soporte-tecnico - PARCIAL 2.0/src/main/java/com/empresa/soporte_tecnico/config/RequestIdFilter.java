@@ -0,0 +1,64 @@
+package com.empresa.soporte_tecnico.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Asigna un identificador a cada petición HTTP y lo deja en el MDC de SLF4J,
+ * para que todas las líneas de log de esa petición se puedan correlacionar.
+ * Si el cliente envía {@value #CABECERA} se reutiliza; siempre se devuelve en la respuesta.
+ * El usuario que el cliente declara en {@value #CABECERA_USUARIO_DECLARADO} también queda en el MDC:
+ * con él se firma el historial de cambios de las solicitudes. La API no autentica, así que ese valor es
+ * lo que el cliente dice ser y cualquiera puede enviar otro: sirve de referencia, no de auditoría.
+ * Cuando haya autenticación, el autor debe salir del usuario autenticado y no de la cabecera.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String CABECERA = "X-Request-Id";
+    public static final String CLAVE_MDC = "requestId";
+    public static final String CABECERA_USUARIO_DECLARADO = "X-Usuario";
+    public static final String CLAVE_MDC_USUARIO_DECLARADO = "usuarioDeclarado";
+    // Peticiones sin X-Usuario (o con un valor no válido)
+    public static final String USUARIO_ANONIMO = "anonimo";
+
+    // Se aceptan solo IDs cortos y seguros para no inyectar texto arbitrario en los logs
+    private static final Pattern ID_VALIDO = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final Pattern USUARIO_DECLARADO_VALIDO = Pattern.compile("[A-Za-z0-9._@-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String requestId = request.getHeader(CABECERA);
+        if (requestId == null || !ID_VALIDO.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+
+        String usuarioDeclarado = request.getHeader(CABECERA_USUARIO_DECLARADO);
+        if (usuarioDeclarado == null || !USUARIO_DECLARADO_VALIDO.matcher(usuarioDeclarado).matches()) {
+            usuarioDeclarado = USUARIO_ANONIMO;
+        }
+
+        MDC.put(CLAVE_MDC, requestId);
+        MDC.put(CLAVE_MDC_USUARIO_DECLARADO, usuarioDeclarado);
+        response.setHeader(CABECERA, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(CLAVE_MDC);
+            MDC.remove(CLAVE_MDC_USUARIO_DECLARADO);
+        }
+    }
+}
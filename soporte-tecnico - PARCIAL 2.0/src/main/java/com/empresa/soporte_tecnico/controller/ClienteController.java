@@ -1,29 +1,44 @@
 package com.empresa.soporte_tecnico.controller;
 
 import com.empresa.soporte_tecnico.dto.ClienteDto;
+import com.empresa.soporte_tecnico.dto.PaginaDto;
 import com.empresa.soporte_tecnico.mapper.ClienteMapper;
 import com.empresa.soporte_tecnico.model.Cliente;
-import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.repository.ContadorCambios;
+import com.empresa.soporte_tecnico.service.ClienteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import jakarta.validation.Valid;
 
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/clientes")
 @Tag(name = "Clientes", description = "Gestión de clientes del sistema de soporte técnico")
 public class ClienteController {
 
-    @Autowired
-    private ClienteRepository clienteRepository;
+    // Tope de IDs por consulta en lote: el IN de la consulta crece con la lista
+    private static final int LOTE_MAXIMO = 500;
+    // Solo columnas con índice: ordenar por otra obligaría a la BD a ordenar la tabla entera
+    private static final Set<String> ORDENES = Set.of("id", "nombre", "correo");
+
+    private final ClienteService clienteService;
+
+    public ClienteController(ClienteService clienteService) {
+        this.clienteService = clienteService;
+    }
 
     @Operation(
             summary = "Crear un nuevo cliente",
@@ -35,49 +50,85 @@ public class ClienteController {
     )
     @PostMapping
     public ResponseEntity<ClienteDto> crearCliente(@Valid @RequestBody ClienteDto clienteDto) {
-        Cliente cliente = ClienteMapper.toEntity(clienteDto);
-        cliente = clienteRepository.save(cliente);
+        Cliente cliente = clienteService.crearCliente(ClienteMapper.toEntity(clienteDto));
         return ResponseEntity.ok(ClienteMapper.toDto(cliente));
     }
 
-    @Operation(summary = "Listar todos los clientes")
+    @Operation(
+            summary = "Listar clientes paginados",
+            description = "Devuelve una página de clientes. 'prefijo' filtra por el comienzo del nombre o del correo; "
+                    + "'orden' admite id, nombre o correo y 'direccion' asc o desc. Se pagina por número: para la "
+                    + "siguiente se envía como 'pagina' el valor de 'siguientePagina' con el mismo 'limite'. "
+                    + "Responde con ETag; con If-None-Match y sin cambios devuelve 304 sin consultar la BD.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página obtenida correctamente",
+                            content = @Content(schema = @Schema(implementation = PaginaDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Orden no admitido o página demasiado profunda")
+            }
+    )
     @GetMapping
-    public ResponseEntity<List<ClienteDto>> obtenerClientes() {
-        List<ClienteDto> clientes = clienteRepository.findAll()
-                .stream()
+    public ResponseEntity<PaginaDto<ClienteDto>> obtenerClientes(
+            @RequestParam(required = false) String prefijo,
+            @RequestParam(required = false) Integer pagina,
+            @RequestParam(defaultValue = "50") int limite,
+            @RequestParam(defaultValue = "id") String orden,
+            @RequestParam(defaultValue = "asc") String direccion,
+            WebRequest request) {
+        PageRequest pedida = PaginasNumeradas.pedida(pagina, limite, orden, direccion, ORDENES);
+        // El ETag se toma antes de consultar (ver ContadorCambios)
+        String etag = ContadorCambios.etag(Cliente.class);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        Slice<Cliente> clientes = clienteService.listarClientes(prefijo, pedida);
+        return ResponseEntity.ok().eTag(etag).body(PaginasNumeradas.desde(clientes, ClienteMapper::toDto));
+    }
+
+    @Operation(summary = "Obtener varios clientes por ID",
+            description = "Recibe hasta " + LOTE_MAXIMO + " IDs (ids=1,2,3) y los resuelve con una sola consulta IN. "
+                    + "Los IDs repetidos se consultan una vez; los inexistentes se omiten. "
+                    + "Devuelve los clientes en el orden pedido.")
+    @GetMapping("/lote")
+    public ResponseEntity<List<ClienteDto>> obtenerClientesPorIds(@RequestParam List<Long> ids, WebRequest request) {
+        Set<Long> unicos = new LinkedHashSet<>(ids);
+        unicos.remove(null);
+        if (unicos.size() > LOTE_MAXIMO) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Se admiten como máximo " + LOTE_MAXIMO + " IDs por consulta");
+        }
+        String etag = ContadorCambios.etag(Cliente.class);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        List<ClienteDto> clientes = clienteService.obtenerPorIds(unicos).stream()
                 .map(ClienteMapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(clientes);
+                .toList();
+        return ResponseEntity.ok().eTag(etag).body(clientes);
     }
 
     @Operation(summary = "Obtener un cliente por ID")
     @GetMapping("/{id}")
-    public ResponseEntity<ClienteDto> obtenerClientePorId(@PathVariable Long id) {
-        return clienteRepository.findById(id)
-                .map(ClienteMapper::toDto)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<ClienteDto> obtenerClientePorId(@PathVariable Long id, WebRequest request) {
+        // Los clientes no tienen versión propia: se usa el contador de la tabla
+        String etag = ContadorCambios.etag(Cliente.class);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        ClienteDto cliente = ClienteMapper.toDto(clienteService.obtenerPorId(id));
+        return ResponseEntity.ok().eTag(etag).body(cliente);
     }
 
     @Operation(summary = "Actualizar un cliente existente")
     @PutMapping("/{id}")
     public ResponseEntity<ClienteDto> actualizarCliente(@PathVariable Long id, @Valid @RequestBody ClienteDto clienteDto) {
-        if (!clienteRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-        Cliente cliente = ClienteMapper.toEntity(clienteDto);
-        cliente.setId(id);
-        cliente = clienteRepository.save(cliente);
+        Cliente cliente = clienteService.actualizarCliente(id, ClienteMapper.toEntity(clienteDto));
         return ResponseEntity.ok(ClienteMapper.toDto(cliente));
     }
 
     @Operation(summary = "Eliminar un cliente por ID")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> eliminarCliente(@PathVariable Long id) {
-        if (!clienteRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-        clienteRepository.deleteById(id);
+        clienteService.eliminarCliente(id);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,58 @@
+package com.empresa.soporte_tecnico.controller;
+
+import com.empresa.soporte_tecnico.dto.PaginaDto;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Paginación por número de página de los listados de clientes y técnicos. A diferencia de los
+ * listados de solicitudes (keyset sobre el ID), admiten ordenar por otras columnas, así que la
+ * página se lee con OFFSET y se acota su profundidad.
+ */
+final class PaginasNumeradas {
+
+    static final int LIMITE_MAXIMO = 500;
+    // Las páginas profundas se leen con OFFSET; más allá conviene acotar con el prefijo
+    static final int PAGINA_MAXIMA = 1_000;
+
+    private PaginasNumeradas() {
+    }
+
+    /**
+     * Valida los parámetros del listado y arma la página pedida. {@code ordenes} son las columnas
+     * admitidas: solo las que tienen índice, para que la BD no ordene la tabla entera.
+     */
+    static PageRequest pedida(Integer pagina, int limite, String orden, String direccion, Set<String> ordenes) {
+        if (!ordenes.contains(orden)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Orden no admitido: " + orden + ". Valores posibles: " + ordenes);
+        }
+        int numero = pagina != null ? Math.max(pagina, 0) : 0;
+        if (numero > PAGINA_MAXIMA) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Solo se pueden recorrer las primeras " + PAGINA_MAXIMA + " páginas; use 'prefijo' para acotar");
+        }
+        Sort.Direction sentido = Sort.Direction.fromOptionalString(direccion)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Dirección no admitida: " + direccion + ". Valores posibles: asc, desc"));
+        // El ID desempata: sin un orden total las páginas podrían repetir u omitir filas
+        Sort sort = orden.equals("id")
+                ? Sort.by(sentido, "id")
+                : Sort.by(sentido, orden).and(Sort.by(sentido, "id"));
+        return PageRequest.of(numero, Math.min(Math.max(limite, 1), LIMITE_MAXIMO), sort);
+    }
+
+    static <E, T> PaginaDto<T> desde(Slice<E> filas, Function<E, T> mapper) {
+        return PaginaDto.<T>builder()
+                .items(filas.map(mapper).getContent())
+                .siguientePagina(filas.hasNext() ? filas.getNumber() + 1 : null)
+                .hayMas(filas.hasNext())
+                .build();
+    }
+}
@@ -1,29 +1,90 @@
 package com.empresa.soporte_tecnico.controller;
 
+import com.empresa.soporte_tecnico.dto.CambioSolicitudDto;
+import com.empresa.soporte_tecnico.dto.ColaIngestaDto;
+import com.empresa.soporte_tecnico.dto.ConteoEstadoDto;
+import com.empresa.soporte_tecnico.dto.EstadisticasDto;
+import com.empresa.soporte_tecnico.dto.EstadoSlaDto;
+import com.empresa.soporte_tecnico.dto.FiltroSolicitudDto;
+import com.empresa.soporte_tecnico.dto.IngestaDto;
+import com.empresa.soporte_tecnico.dto.PaginaDto;
+import com.empresa.soporte_tecnico.dto.ResultadoBusquedaDto;
+import com.empresa.soporte_tecnico.dto.ResultadoLoteDto;
 import com.empresa.soporte_tecnico.dto.SolicitudDto;
+import com.empresa.soporte_tecnico.dto.SolicitudResumenDto;
+import com.empresa.soporte_tecnico.mapper.SolicitudCsvMapper;
 import com.empresa.soporte_tecnico.mapper.SolicitudMapper;
+import com.empresa.soporte_tecnico.model.CambioSolicitud;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
 import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.ContadorCambios;
+import com.empresa.soporte_tecnico.service.ColaIngesta;
+import com.empresa.soporte_tecnico.service.DifusorEventos;
+import com.empresa.soporte_tecnico.service.EscaladorSla;
+import com.empresa.soporte_tecnico.service.EstadisticasSolicitudes;
 import com.empresa.soporte_tecnico.service.SolicitudService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/solicitudes")
 @Tag(name = "Solicitudes", description = "Gestión de solicitudes de soporte técnico")
 public class SolicitudController {
 
+    private static final int LIMITE_MAXIMO = 500;
+    private static final int LOTE_MAXIMO = 10_000;
+    private static final int FILAS_POR_TRANSACCION = 1_000;
+    // Las páginas profundas de una búsqueda por relevancia son caras; más allá conviene refinar el texto
+    private static final int BUSQUEDA_DESPLAZAMIENTO_MAXIMO = 10_000;
+
     private final SolicitudService solicitudService;
+    private final ObjectMapper objectMapper;
+    private final DifusorEventos difusorEventos;
+    // Ausente si la ingesta asíncrona está deshabilitada (soporte.ingesta.habilitada)
+    private final ObjectProvider<ColaIngesta> colaIngesta;
+    private final EstadisticasSolicitudes estadisticas;
+    private final EscaladorSla escaladorSla;
 
-    public SolicitudController(SolicitudService solicitudService) {
+    public SolicitudController(SolicitudService solicitudService, ObjectMapper objectMapper,
+                               DifusorEventos difusorEventos, ObjectProvider<ColaIngesta> colaIngesta,
+                               EstadisticasSolicitudes estadisticas, EscaladorSla escaladorSla) {
         this.solicitudService = solicitudService;
+        this.objectMapper = objectMapper;
+        this.difusorEventos = difusorEventos;
+        this.colaIngesta = colaIngesta;
+        this.estadisticas = estadisticas;
+        this.escaladorSla = escaladorSla;
     }
 
     // 🟢 Crear una nueva solicitud
@@ -44,61 +105,516 @@ public class SolicitudController {
         return ResponseEntity.ok(SolicitudMapper.toDto(creada));
     }
 
-    // 🟡 Obtener todas las solicitudes
+    // 🟢 Crear solicitudes en lote (arreglo JSON)
     @Operation(
-            summary = "Obtener todas las solicitudes",
-            description = "Devuelve una lista de todas las solicitudes de soporte técnico",
+            summary = "Importar solicitudes en lote",
+            description = "Recibe un arreglo JSON de solicitudes (máximo " + LOTE_MAXIMO + "). Valida el lote completo, "
+                    + "inserta las filas válidas en una sola transacción y devuelve el resultado de cada fila.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Lista obtenida correctamente",
-                            content = @Content(schema = @Schema(implementation = SolicitudDto.class)))
+                    @ApiResponse(responseCode = "200", description = "Lote procesado (revisar el resultado por fila)",
+                            content = @Content(schema = @Schema(implementation = ResultadoLoteDto.class))),
+                    @ApiResponse(responseCode = "413", description = "El lote supera el máximo permitido")
+            }
+    )
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ResultadoLoteDto>> crearSolicitudesEnLote(@RequestBody List<SolicitudDto> solicitudesDto) {
+        if (solicitudesDto.size() > LOTE_MAXIMO) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "El lote admite como máximo " + LOTE_MAXIMO + " solicitudes; use NDJSON para volúmenes mayores");
+        }
+        List<Solicitud> solicitudes = solicitudesDto.stream()
+                .map(SolicitudMapper::toEntity)
+                .toList();
+        return ResponseEntity.ok(solicitudService.crearSolicitudesEnLote(solicitudes));
+    }
+
+    // 🟢 Crear solicitudes en lote (NDJSON en streaming)
+    @Operation(
+            summary = "Importar solicitudes en streaming (NDJSON)",
+            description = "Recibe una solicitud JSON por línea y sin límite de filas. Se procesan en bloques de "
+                    + FILAS_POR_TRANSACCION + " filas por transacción y el resultado de cada fila se escribe "
+                    + "también como NDJSON a medida que se confirma cada bloque."
+    )
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importarSolicitudesNdjson(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (BufferedReader lector = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+             Writer salida = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8))) {
+
+            List<Solicitud> bloque = new ArrayList<>(FILAS_POR_TRANSACCION);
+            List<Integer> indicesBloque = new ArrayList<>(FILAS_POR_TRANSACCION);
+            int indice = 0;
+            int numeroLinea = 0;
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                numeroLinea++;
+                if (linea.isBlank()) {
+                    continue;
+                }
+                try {
+                    bloque.add(SolicitudMapper.toEntity(objectMapper.readValue(linea, SolicitudDto.class)));
+                    indicesBloque.add(indice);
+                } catch (JsonProcessingException ex) {
+                    // Mensaje fijo: el del parser expone detalles internos (clases, posiciones del buffer)
+                    escribirResultado(salida, ResultadoLoteDto.rechazada(indice,
+                            "JSON inválido en la línea " + numeroLinea));
+                }
+                indice++;
+
+                if (bloque.size() == FILAS_POR_TRANSACCION) {
+                    procesarBloque(bloque, indicesBloque, salida);
+                }
+            }
+            procesarBloque(bloque, indicesBloque, salida);
+        }
+    }
+
+    private void procesarBloque(List<Solicitud> bloque, List<Integer> indicesBloque, Writer salida) throws IOException {
+        if (bloque.isEmpty()) {
+            return;
+        }
+        // El servicio numera las filas dentro del bloque; se traducen a la posición en el flujo completo
+        for (ResultadoLoteDto resultado : solicitudService.crearSolicitudesEnLote(bloque)) {
+            resultado.setIndice(indicesBloque.get(resultado.getIndice()));
+            escribirResultado(salida, resultado);
+        }
+        salida.flush();
+        bloque.clear();
+        indicesBloque.clear();
+    }
+
+    private void escribirResultado(Writer salida, ResultadoLoteDto resultado) throws IOException {
+        salida.write(objectMapper.writeValueAsString(resultado));
+        salida.write('\n');
+    }
+
+    // 🟢 Recibir una solicitud para crearla en segundo plano
+    @Operation(
+            summary = "Encolar una solicitud (ingesta asíncrona)",
+            description = "Valida la solicitud y la deja en una cola en memoria sin esperar a la BD. Un escritor en "
+                    + "segundo plano la inserta junto con otras en lotes. El resultado se consulta en "
+                    + "GET /solicitudes/ingesta/{id}. Pensado para picos de altas; si la cola está llena "
+                    + "se responde 503 con Retry-After. Solo con soporte.ingesta.habilitada=true; si no, 404.",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Solicitud aceptada en la cola",
+                            content = @Content(schema = @Schema(implementation = IngestaDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Solicitud inválida"),
+                    @ApiResponse(responseCode = "404", description = "Ingesta asíncrona deshabilitada"),
+                    @ApiResponse(responseCode = "503", description = "Cola llena, reintentar tras Retry-After")
+            }
+    )
+    @PostMapping("/ingesta")
+    public ResponseEntity<IngestaDto> encolarSolicitud(@Valid @RequestBody SolicitudDto solicitudDto) {
+        if (solicitudDto.getCliente() == null || solicitudDto.getCliente().getId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Debe especificar el ID del cliente");
+        }
+        // Lo que se puede revisar sin la BD se revisa acá; clientes y técnicos inexistentes se informan como RECHAZADA
+        EstadoSolicitud estado = solicitudDto.getEstado();
+        if (estado != null && estado != EstadoSolicitud.PENDIENTE && estado != EstadoSolicitud.ASIGNADA) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Una solicitud nueva debe estar Pendiente o Asignada");
+        }
+        ColaIngesta cola = colaIngesta();
+        return cola.encolar(solicitudDto)
+                .map(ingesta -> ResponseEntity.accepted()
+                        .location(URI.create("/solicitudes/ingesta/" + ingesta.getId()))
+                        .body(ingesta))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, Long.toString(cola.segundosParaReintentar()))
+                        .build());
+    }
+
+    // 🟡 Consultar el resultado de una solicitud encolada
+    @Operation(
+            summary = "Consultar una solicitud encolada",
+            description = "Devuelve ENCOLADA mientras espera, CREADA con el ID de la solicitud o RECHAZADA con el motivo.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Seguimiento encontrado",
+                            content = @Content(schema = @Schema(implementation = IngestaDto.class))),
+                    @ApiResponse(responseCode = "404", description = "Identificador desconocido o vencido, o ingesta deshabilitada")
+            }
+    )
+    @GetMapping("/ingesta/{id}")
+    public ResponseEntity<IngestaDto> consultarIngesta(@PathVariable String id) {
+        return colaIngesta().consultar(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "No hay seguimiento de ingesta con id " + id));
+    }
+
+    // 🟡 Estado general de la cola de ingesta
+    @Operation(
+            summary = "Estado de la cola de ingesta",
+            description = "Profundidad actual, capacidad y contadores acumulados de la cola de ingesta.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Estado obtenido correctamente",
+                            content = @Content(schema = @Schema(implementation = ColaIngestaDto.class))),
+                    @ApiResponse(responseCode = "404", description = "Ingesta asíncrona deshabilitada")
+            }
+    )
+    @GetMapping("/ingesta")
+    public ResponseEntity<ColaIngestaDto> estadoIngesta() {
+        return ResponseEntity.ok(colaIngesta().estado());
+    }
+
+    private ColaIngesta colaIngesta() {
+        ColaIngesta cola = colaIngesta.getIfAvailable();
+        if (cola == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "La ingesta asíncrona está deshabilitada; use POST /solicitudes o POST /solicitudes/lote");
+        }
+        return cola;
+    }
+
+    // 🟡 Obtener solicitudes paginadas por cursor
+    @Operation(
+            summary = "Listar solicitudes paginadas",
+            description = "Devuelve una página de solicitudes ordenadas por ID. Para pedir la siguiente página "
+                    + "se envía como 'cursor' el valor de 'siguienteCursor' de la respuesta anterior. "
+                    + "Admite filtros opcionales por estado, cliente, técnico y SLA incumplido.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página obtenida correctamente",
+                            content = @Content(schema = @Schema(implementation = PaginaDto.class)))
             }
     )
     @GetMapping
-    public ResponseEntity<List<SolicitudDto>> obtenerSolicitudes() {
-        List<SolicitudDto> lista = solicitudService.obtenerSolicitudes()
-                .stream()
-                .map(SolicitudMapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(lista);
+    public ResponseEntity<PaginaDto<SolicitudDto>> obtenerSolicitudes(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limite,
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) Long clienteId,
+            @RequestParam(required = false) Long tecnicoId,
+            @RequestParam(required = false) Boolean slaIncumplido) {
+        int limiteEfectivo = Math.min(Math.max(limite, 1), LIMITE_MAXIMO);
+        FiltroSolicitudDto filtro = new FiltroSolicitudDto(parsearEstado(estado), clienteId, tecnicoId, slaIncumplido);
+
+        // Se pide una fila de más para saber si existe una página siguiente
+        List<Solicitud> filas = solicitudService.obtenerSolicitudes(filtro, cursor, limiteEfectivo + 1);
+        return ResponseEntity.ok(PaginaDto.desde(filas, limiteEfectivo, SolicitudMapper::toDto, Solicitud::getId));
+    }
+
+    // 🟡 Obtener el resumen plano de las solicitudes (solo lectura)
+    @Operation(
+            summary = "Listar resúmenes de solicitudes",
+            description = "Igual que el listado paginado, pero devuelve una vista plana (IDs y nombres de cliente "
+                    + "y técnico) construida directamente desde la consulta, sin cargar entidades. "
+                    + "Recomendado para tablas y tableros.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página obtenida correctamente",
+                            content = @Content(schema = @Schema(implementation = PaginaDto.class)))
+            }
+    )
+    @GetMapping("/resumen")
+    public ResponseEntity<PaginaDto<SolicitudResumenDto>> obtenerResumenes(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limite,
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) Long clienteId,
+            @RequestParam(required = false) Long tecnicoId,
+            @RequestParam(required = false) Boolean slaIncumplido) {
+        int limiteEfectivo = Math.min(Math.max(limite, 1), LIMITE_MAXIMO);
+        FiltroSolicitudDto filtro = new FiltroSolicitudDto(parsearEstado(estado), clienteId, tecnicoId, slaIncumplido);
+
+        List<SolicitudResumenDto> filas = solicitudService.obtenerResumenes(filtro, cursor, limiteEfectivo + 1);
+        return ResponseEntity.ok(PaginaDto.desde(filas, limiteEfectivo, resumen -> resumen, SolicitudResumenDto::getId));
+    }
+
+    // 🟡 Buscar solicitudes por texto
+    @Operation(
+            summary = "Buscar solicitudes por texto",
+            description = "Búsqueda de texto completo sobre la descripción (índice Lucene embebido, sin LIKE), "
+                    + "ordenada por relevancia. Ignora mayúsculas, tildes y plurales. Para la siguiente página "
+                    + "se envía como 'cursor' el valor de 'siguienteCursor' (posición dentro del ranking).",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Resultados obtenidos correctamente",
+                            content = @Content(schema = @Schema(implementation = PaginaDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Texto vacío o página demasiado profunda")
+            }
+    )
+    @GetMapping("/buscar")
+    public ResponseEntity<PaginaDto<ResultadoBusquedaDto>> buscarSolicitudes(
+            @RequestParam String texto,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limite,
+            @RequestParam(required = false) String estado) {
+        if (texto.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "El texto a buscar es obligatorio");
+        }
+        int desplazamiento = cursor != null ? (int) Math.max(cursor, 0) : 0;
+        if (cursor != null && cursor > BUSQUEDA_DESPLAZAMIENTO_MAXIMO) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Solo se pueden recorrer los primeros " + BUSQUEDA_DESPLAZAMIENTO_MAXIMO + " resultados; refine la búsqueda");
+        }
+        int limiteEfectivo = Math.min(Math.max(limite, 1), LIMITE_MAXIMO);
+
+        List<ResultadoBusquedaDto> filas = solicitudService.buscarSolicitudes(
+                texto, parsearEstado(estado), desplazamiento, limiteEfectivo + 1);
+        boolean hayMas = filas.size() > limiteEfectivo;
+        return ResponseEntity.ok(PaginaDto.<ResultadoBusquedaDto>builder()
+                .items(hayMas ? filas.subList(0, limiteEfectivo) : filas)
+                .siguienteCursor(hayMas ? (long) desplazamiento + limiteEfectivo : null)
+                .hayMas(hayMas)
+                .build());
+    }
+
+    private EstadoSolicitud parsearEstado(String estado) {
+        if (estado == null || estado.isBlank()) {
+            return null;
+        }
+        try {
+            return EstadoSolicitud.desdeEtiqueta(estado);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    // 🟡 Contar solicitudes por estado
+    @Operation(
+            summary = "Contar solicitudes por estado",
+            description = "Devuelve la cantidad de solicitudes en cada estado (incluye los estados sin solicitudes). "
+                    + "El conteo se resuelve sobre el índice (estado, tecnico_id).",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Conteo obtenido correctamente",
+                            content = @Content(schema = @Schema(implementation = ConteoEstadoDto.class)))
+            }
+    )
+    @GetMapping("/conteo-por-estado")
+    public ResponseEntity<List<ConteoEstadoDto>> contarPorEstado() {
+        return ResponseEntity.ok(solicitudService.contarPorEstado());
+    }
+
+    // 🟡 Estadísticas para el tablero
+    @Operation(
+            summary = "Estadísticas de solicitudes",
+            description = "Solicitudes por estado y solicitudes abiertas por técnico y por cliente. Por defecto se "
+                    + "leen de un agregado en memoria que se actualiza con cada cambio confirmado y se reconcilia "
+                    + "periódicamente con la BD (sin consultas por lectura). Con fuente=bd se calculan con GROUP BY.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Estadísticas obtenidas correctamente",
+                            content = @Content(schema = @Schema(implementation = EstadisticasDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Fuente desconocida")
+            }
+    )
+    @GetMapping("/estadisticas")
+    public ResponseEntity<EstadisticasDto> obtenerEstadisticas(
+            @RequestParam(defaultValue = EstadisticasDto.FUENTE_MEMORIA) String fuente) {
+        return switch (fuente) {
+            case EstadisticasDto.FUENTE_MEMORIA -> ResponseEntity.ok(estadisticas.instantanea());
+            case EstadisticasDto.FUENTE_BD -> ResponseEntity.ok(solicitudService.calcularEstadisticas());
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Fuente no soportada: " + fuente + " (use memoria o bd)");
+        };
+    }
+
+    // 🟡 Estado del escalador de SLA
+    @Operation(
+            summary = "Estado del escalador de SLA",
+            description = "Plazos configurados, solicitudes con un vencimiento pendiente en la rueda en memoria e "
+                    + "incumplimientos marcados desde el arranque. Las solicitudes que incumplieron se listan con "
+                    + "GET /solicitudes?slaIncumplido=true.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Estado obtenido correctamente",
+                            content = @Content(schema = @Schema(implementation = EstadoSlaDto.class)))
+            }
+    )
+    @GetMapping("/sla")
+    public ResponseEntity<EstadoSlaDto> estadoSla() {
+        return ResponseEntity.ok(escaladorSla.estado());
+    }
+
+    // 🟣 Suscribirse a los cambios en tiempo real (Server-Sent Events)
+    @Operation(
+            summary = "Recibir los cambios de solicitudes en tiempo real",
+            description = "Mantiene abierta una conexión Server-Sent Events y envía un evento (creada, actualizada, "
+                    + "asignada, eliminada, sla_incumplido) por cada cambio confirmado. Al reconectar, el navegador envía "
+                    + "'Last-Event-ID' y se reenvían los eventos perdidos; si ya no están disponibles llega "
+                    + "'desincronizado' y conviene recargar el listado (también si el servidor se reinició desde entonces). "
+                    + "Reemplaza el sondeo periódico de GET /solicitudes."
+    )
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter suscribirEventos(@RequestHeader(value = "Last-Event-ID", required = false) String ultimoEventoId) {
+        return difusorEventos.suscribir(ultimoEventoId);
+    }
+
+    // 🟣 Exportar todas las solicitudes en streaming
+    @Operation(
+            summary = "Exportar todas las solicitudes",
+            description = "Escribe todas las solicitudes directamente en la respuesta, en formato NDJSON (por defecto) "
+                    + "o CSV, leyendo la tabla con un cursor. El consumo de memoria no depende del tamaño de la tabla.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Exportación en curso"),
+                    @ApiResponse(responseCode = "400", description = "Formato no soportado")
+            }
+    )
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarSolicitudes(@RequestParam(defaultValue = "ndjson") String formato) {
+        boolean csv = "csv".equalsIgnoreCase(formato);
+        if (!csv && !"ndjson".equalsIgnoreCase(formato)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Formato no soportado: " + formato + " (use ndjson o csv)");
+        }
+
+        StreamingResponseBody cuerpo = salida -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), 64 * 1024);
+            if (csv) {
+                writer.write(SolicitudCsvMapper.CABECERA);
+                writer.write('\n');
+            }
+            solicitudService.exportarSolicitudes(solicitud -> {
+                try {
+                    writer.write(csv
+                            ? SolicitudCsvMapper.toCsv(solicitud)
+                            : objectMapper.writeValueAsString(SolicitudMapper.toDto(solicitud)));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=solicitudes." + (csv ? "csv" : "ndjson"))
+                .body(cuerpo);
     }
 
     // 🟠 Obtener una solicitud por ID
     @Operation(
             summary = "Obtener una solicitud por ID",
-            description = "Devuelve una solicitud específica según su identificador",
+            description = "Devuelve una solicitud específica según su identificador. El ETag combina la versión de la "
+                    + "solicitud con los contadores de cambios de clientes y técnicos, que van anidados en la respuesta: "
+                    + "con If-None-Match y sin cambios responde 304 sin cargarla.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Solicitud encontrada",
                             content = @Content(schema = @Schema(implementation = SolicitudDto.class))),
+                    @ApiResponse(responseCode = "304", description = "La solicitud no cambió desde ese ETag"),
                     @ApiResponse(responseCode = "404", description = "Solicitud no encontrada")
             }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<SolicitudDto> obtenerSolicitudPorId(@PathVariable Long id) {
+    public ResponseEntity<SolicitudDto> obtenerSolicitudPorId(@PathVariable Long id, WebRequest request) {
+        String relacionadas = etagRelacionadas();
+        // Revalidación: se consulta solo la versión y, si nada cambió, se responde 304 sin cargar la solicitud
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(etagSolicitud(solicitudService.obtenerVersion(id), relacionadas))) {
+            return null;
+        }
         Solicitud solicitud = solicitudService.obtenerPorId(id);
         return solicitud != null
-                ? ResponseEntity.ok(SolicitudMapper.toDto(solicitud))
+                ? ResponseEntity.ok()
+                        .eTag(etagSolicitud(solicitud.getVersion(), relacionadas))
+                        .body(SolicitudMapper.toDto(solicitud))
                 : ResponseEntity.notFound().build();
     }
 
+    // Renombrar el cliente o el técnico no cambia la versión de la solicitud, pero sí el JSON: el ETag
+    // incluye los contadores de esas tablas, que se leen antes de consultar o escribir (ver ContadorCambios)
+    private static String etagRelacionadas() {
+        return ContadorCambios.etag(Cliente.class) + "-" + ContadorCambios.etag(Tecnico.class);
+    }
+
+    private static String etagSolicitud(Long version, String relacionadas) {
+        return version + "-" + relacionadas;
+    }
+
+    // If-Match con un ETag de esta solicitud equivale a enviar su 'version' en el cuerpo: solo cuenta la
+    // versión, los contadores de clientes y técnicos no impiden escribir
+    private static void aplicarIfMatch(String ifMatch, Solicitud cambios) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*") || cambios.getVersion() != null) {
+            return;
+        }
+        String etag = ifMatch.trim();
+        if (etag.startsWith("W/")) {
+            etag = etag.substring(2);
+        }
+        etag = etag.replace("\"", "");
+        int guion = etag.indexOf('-');
+        try {
+            cambios.setVersion(Long.parseLong(guion >= 0 ? etag.substring(0, guion) : etag));
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                    "If-Match no corresponde a un ETag de GET /solicitudes/{id}: " + ifMatch);
+        }
+    }
+
+    // 🟠 Historial de cambios de una solicitud, paginado por cursor
+    @Operation(
+            summary = "Historial de cambios de una solicitud",
+            description = "Devuelve los cambios registrados (quién, qué campo, valor anterior y nuevo, cuándo) en el "
+                    + "orden en que se hicieron, paginados por cursor igual que GET /solicitudes. 'usuarioDeclarado' es "
+                    + "el de la cabecera X-Usuario de cada modificación: lo declara el cliente y no está autenticado, "
+                    + "así que no es confiable. Se conserva después de eliminar la solicitud.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página obtenida correctamente",
+                            content = @Content(schema = @Schema(implementation = PaginaDto.class)))
+            }
+    )
+    @GetMapping("/{id}/historial")
+    public ResponseEntity<PaginaDto<CambioSolicitudDto>> obtenerHistorial(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limite) {
+        int limiteEfectivo = Math.min(Math.max(limite, 1), LIMITE_MAXIMO);
+        List<CambioSolicitud> filas = solicitudService.obtenerHistorial(id, cursor, limiteEfectivo + 1);
+        return ResponseEntity.ok(PaginaDto.desde(filas, limiteEfectivo, SolicitudMapper::toDto, CambioSolicitud::getId));
+    }
+
     // 🟤 Actualizar una solicitud existente
     @Operation(
             summary = "Actualizar una solicitud",
-            description = "Actualiza los datos de una solicitud existente",
+            description = "Actualiza los datos de una solicitud existente. La versión esperada se puede enviar como "
+                    + "'version' o como If-Match con el ETag leído; la respuesta trae el ETag nuevo, igual al de "
+                    + "GET /solicitudes/{id}, para encadenar la siguiente escritura sin volver a leer.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Solicitud actualizada correctamente",
                             content = @Content(schema = @Schema(implementation = SolicitudDto.class))),
-                    @ApiResponse(responseCode = "404", description = "Solicitud no encontrada")
+                    @ApiResponse(responseCode = "404", description = "Solicitud no encontrada"),
+                    @ApiResponse(responseCode = "409", description = "Transición no permitida o versión desactualizada"),
+                    @ApiResponse(responseCode = "412", description = "If-Match no es un ETag de solicitud")
             }
     )
     @PutMapping("/{id}")
-    public ResponseEntity<SolicitudDto> actualizarSolicitud(@PathVariable Long id, @RequestBody SolicitudDto solicitudDto) {
+    public ResponseEntity<SolicitudDto> actualizarSolicitud(@PathVariable Long id, @RequestBody SolicitudDto solicitudDto,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Solicitud solicitud = SolicitudMapper.toEntity(solicitudDto);
+        aplicarIfMatch(ifMatch, solicitud);
+        String relacionadas = etagRelacionadas();
         Solicitud actualizada = solicitudService.actualizarSolicitud(id, solicitud);
         return actualizada != null
-                ? ResponseEntity.ok(SolicitudMapper.toDto(actualizada))
+                ? ResponseEntity.ok()
+                        .eTag(etagSolicitud(actualizada.getVersion(), relacionadas))
+                        .body(SolicitudMapper.toDto(actualizada))
                 : ResponseEntity.notFound().build();
     }
 
+    // 🟤 Actualizar parcialmente una solicitud
+    @Operation(
+            summary = "Actualizar parcialmente una solicitud",
+            description = "Modifica solo los campos enviados; los ausentes o null se conservan y el UPDATE incluye "
+                    + "únicamente las columnas cambiadas. Si se envía 'version' (o If-Match con el ETag leído) y no es "
+                    + "la vigente responde 409. La respuesta trae el ETag nuevo, igual al de GET /solicitudes/{id}.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Solicitud actualizada correctamente",
+                            content = @Content(schema = @Schema(implementation = SolicitudDto.class))),
+                    @ApiResponse(responseCode = "404", description = "Solicitud no encontrada"),
+                    @ApiResponse(responseCode = "409", description = "Transición no permitida o versión desactualizada"),
+                    @ApiResponse(responseCode = "412", description = "If-Match no es un ETag de solicitud")
+            }
+    )
+    @PatchMapping("/{id}")
+    public ResponseEntity<SolicitudDto> modificarSolicitud(@PathVariable Long id, @RequestBody SolicitudDto cambios,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Solicitud solicitud = SolicitudMapper.toEntity(cambios);
+        aplicarIfMatch(ifMatch, solicitud);
+        String relacionadas = etagRelacionadas();
+        Solicitud modificada = solicitudService.modificarSolicitud(id, solicitud);
+        return ResponseEntity.ok()
+                .eTag(etagSolicitud(modificada.getVersion(), relacionadas))
+                .body(SolicitudMapper.toDto(modificada));
+    }
+
     // 🔴 Eliminar una solicitud por ID
     @Operation(
             summary = "Eliminar solicitud por ID",
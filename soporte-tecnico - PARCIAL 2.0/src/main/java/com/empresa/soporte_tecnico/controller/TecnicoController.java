@@ -1,29 +1,44 @@
 package com.empresa.soporte_tecnico.controller;
 
+import com.empresa.soporte_tecnico.dto.PaginaDto;
 import com.empresa.soporte_tecnico.dto.TecnicoDto;
 import com.empresa.soporte_tecnico.mapper.TecnicoMapper;
 import com.empresa.soporte_tecnico.model.Tecnico;
-import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import com.empresa.soporte_tecnico.repository.ContadorCambios;
+import com.empresa.soporte_tecnico.service.TecnicoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import jakarta.validation.Valid;
 
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/tecnicos")
 @Tag(name = "Técnicos", description = "Gestión de técnicos del sistema de soporte técnico")
 public class TecnicoController {
 
-    @Autowired
-    private TecnicoRepository tecnicoRepository;
+    // Tope de IDs por consulta en lote: el IN de la consulta crece con la lista
+    private static final int LOTE_MAXIMO = 500;
+    // Solo columnas con índice: ordenar por otra obligaría a la BD a ordenar la tabla entera
+    private static final Set<String> ORDENES = Set.of("id", "nombre", "especialidad");
+
+    private final TecnicoService tecnicoService;
+
+    public TecnicoController(TecnicoService tecnicoService) {
+        this.tecnicoService = tecnicoService;
+    }
 
     @Operation(
             summary = "Registrar un nuevo técnico",
@@ -35,49 +50,85 @@ public class TecnicoController {
     )
     @PostMapping
     public ResponseEntity<TecnicoDto> crearTecnico(@Valid @RequestBody TecnicoDto tecnicoDto) {
-        Tecnico tecnico = TecnicoMapper.toEntity(tecnicoDto);
-        tecnico = tecnicoRepository.save(tecnico);
+        Tecnico tecnico = tecnicoService.crearTecnico(TecnicoMapper.toEntity(tecnicoDto));
         return ResponseEntity.ok(TecnicoMapper.toDto(tecnico));
     }
 
-    @Operation(summary = "Listar todos los técnicos")
+    @Operation(
+            summary = "Listar técnicos paginados",
+            description = "Devuelve una página de técnicos. 'prefijo' filtra por el comienzo del nombre o de la "
+                    + "especialidad; 'orden' admite id, nombre o especialidad y 'direccion' asc o desc. Se pagina por "
+                    + "número: para la siguiente se envía como 'pagina' el valor de 'siguientePagina' con el mismo "
+                    + "'limite'. Responde con ETag; con If-None-Match y sin cambios devuelve 304 sin consultar la BD.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página obtenida correctamente",
+                            content = @Content(schema = @Schema(implementation = PaginaDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Orden no admitido o página demasiado profunda")
+            }
+    )
     @GetMapping
-    public ResponseEntity<List<TecnicoDto>> obtenerTecnicos() {
-        List<TecnicoDto> tecnicos = tecnicoRepository.findAll()
-                .stream()
+    public ResponseEntity<PaginaDto<TecnicoDto>> obtenerTecnicos(
+            @RequestParam(required = false) String prefijo,
+            @RequestParam(required = false) Integer pagina,
+            @RequestParam(defaultValue = "50") int limite,
+            @RequestParam(defaultValue = "id") String orden,
+            @RequestParam(defaultValue = "asc") String direccion,
+            WebRequest request) {
+        PageRequest pedida = PaginasNumeradas.pedida(pagina, limite, orden, direccion, ORDENES);
+        // El ETag se toma antes de consultar (ver ContadorCambios)
+        String etag = ContadorCambios.etag(Tecnico.class);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        Slice<Tecnico> tecnicos = tecnicoService.listarTecnicos(prefijo, pedida);
+        return ResponseEntity.ok().eTag(etag).body(PaginasNumeradas.desde(tecnicos, TecnicoMapper::toDto));
+    }
+
+    @Operation(summary = "Obtener varios técnicos por ID",
+            description = "Recibe hasta " + LOTE_MAXIMO + " IDs (ids=1,2,3) y los resuelve con una sola consulta IN. "
+                    + "Los IDs repetidos se consultan una vez; los inexistentes se omiten. "
+                    + "Devuelve los técnicos en el orden pedido.")
+    @GetMapping("/lote")
+    public ResponseEntity<List<TecnicoDto>> obtenerTecnicosPorIds(@RequestParam List<Long> ids, WebRequest request) {
+        Set<Long> unicos = new LinkedHashSet<>(ids);
+        unicos.remove(null);
+        if (unicos.size() > LOTE_MAXIMO) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Se admiten como máximo " + LOTE_MAXIMO + " IDs por consulta");
+        }
+        String etag = ContadorCambios.etag(Tecnico.class);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        List<TecnicoDto> tecnicos = tecnicoService.obtenerPorIds(unicos).stream()
                 .map(TecnicoMapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(tecnicos);
+                .toList();
+        return ResponseEntity.ok().eTag(etag).body(tecnicos);
     }
 
     @Operation(summary = "Obtener un técnico por ID")
     @GetMapping("/{id}")
-    public ResponseEntity<TecnicoDto> obtenerTecnicoPorId(@PathVariable Long id) {
-        return tecnicoRepository.findById(id)
-                .map(TecnicoMapper::toDto)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<TecnicoDto> obtenerTecnicoPorId(@PathVariable Long id, WebRequest request) {
+        // Los técnicos no tienen versión propia: se usa el contador de la tabla
+        String etag = ContadorCambios.etag(Tecnico.class);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        TecnicoDto tecnico = TecnicoMapper.toDto(tecnicoService.obtenerPorId(id));
+        return ResponseEntity.ok().eTag(etag).body(tecnico);
     }
 
     @Operation(summary = "Actualizar los datos de un técnico")
     @PutMapping("/{id}")
     public ResponseEntity<TecnicoDto> actualizarTecnico(@PathVariable Long id, @Valid @RequestBody TecnicoDto tecnicoDto) {
-        if (!tecnicoRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-        Tecnico tecnico = TecnicoMapper.toEntity(tecnicoDto);
-        tecnico.setId(id);
-        tecnico = tecnicoRepository.save(tecnico);
+        Tecnico tecnico = tecnicoService.actualizarTecnico(id, TecnicoMapper.toEntity(tecnicoDto));
         return ResponseEntity.ok(TecnicoMapper.toDto(tecnico));
     }
 
     @Operation(summary = "Eliminar un técnico por ID")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> eliminarTecnico(@PathVariable Long id) {
-        if (!tecnicoRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-        tecnicoRepository.deleteById(id);
+        tecnicoService.eliminarTecnico(id);
         return ResponseEntity.noContent().build();
     }
 }
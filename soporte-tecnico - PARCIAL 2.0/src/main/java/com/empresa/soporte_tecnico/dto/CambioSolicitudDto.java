@@ -0,0 +1,37 @@
+package com.empresa.soporte_tecnico.dto;
+
+import com.empresa.soporte_tecnico.model.TipoCambio;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cambio registrado en el historial de una solicitud")
+public class CambioSolicitudDto {
+
+    @Schema(description = "Identificador del cambio; sirve de cursor para la página siguiente", example = "5012")
+    private Long id;
+
+    @Schema(description = "Cuándo se confirmó el cambio")
+    private Instant registradoEn;
+
+    @Schema(description = "Usuario declarado en la cabecera X-Usuario de la petición. No está autenticado: "
+            + "cualquier cliente puede enviar otro nombre, así que no sirve como prueba de autoría", example = "mgarcia")
+    private String usuarioDeclarado;
+
+    @Schema(description = "Campo modificado", example = "ESTADO")
+    private TipoCambio tipo;
+
+    @Schema(description = "Valor antes del cambio", example = "Asignada")
+    private String valorAnterior;
+
+    @Schema(description = "Valor después del cambio", example = "EnProgreso")
+    private String valorNuevo;
+}
@@ -0,0 +1,21 @@
+package com.empresa.soporte_tecnico.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cantidad de solicitudes abiertas asignadas a un técnico")
+public class CargaTecnicoDto {
+
+    // El orden de los campos define el constructor usado en SolicitudRepository.contarPorTecnico
+
+    @Schema(description = "ID del técnico", example = "10")
+    private Long tecnicoId;
+
+    @Schema(description = "Solicitudes abiertas asignadas al técnico", example = "7")
+    private Long abiertas;
+}
@@ -0,0 +1,39 @@
+package com.empresa.soporte_tecnico.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estado general de la cola de ingesta")
+public class ColaIngestaDto {
+
+    @Schema(description = "Solicitudes esperando ser escritas", example = "1200")
+    private int enCola;
+
+    @Schema(description = "Capacidad máxima de la cola", example = "10000")
+    private int capacidad;
+
+    @Schema(description = "Solicitudes aceptadas desde el arranque", example = "50000")
+    private long aceptadas;
+
+    @Schema(description = "Solicitudes escritas en la BD", example = "48700")
+    private long creadas;
+
+    @Schema(description = "Solicitudes rechazadas al escribirlas (validación o error de BD)", example = "100")
+    private long rechazadas;
+
+    @Schema(description = "Peticiones rechazadas con 503 porque la cola estaba llena", example = "35")
+    private long rechazosPorSaturacion;
+
+    @Schema(description = "Lotes escritos", example = "98")
+    private long lotes;
+
+    @Schema(description = "Duración del último lote en milisegundos", example = "42")
+    private long ultimoLoteMs;
+}
@@ -0,0 +1,21 @@
+package com.empresa.soporte_tecnico.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cantidad de solicitudes abiertas de un cliente")
+public class ConteoClienteDto {
+
+    // El orden de los campos define el constructor usado en SolicitudRepository.contarPorCliente
+
+    @Schema(description = "ID del cliente", example = "1")
+    private Long clienteId;
+
+    @Schema(description = "Solicitudes abiertas del cliente", example = "3")
+    private Long abiertas;
+}
@@ -0,0 +1,22 @@
+package com.empresa.soporte_tecnico.dto;
+
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cantidad de solicitudes en un estado")
+public class ConteoEstadoDto {
+
+    // El orden de los campos define el constructor usado en SolicitudRepository.contarPorEstado
+
+    @Schema(description = "Estado de la solicitud", example = "Pendiente")
+    private EstadoSolicitud estado;
+
+    @Schema(description = "Cantidad de solicitudes en ese estado", example = "42")
+    private Long total;
+}
@@ -0,0 +1,39 @@
+package com.empresa.soporte_tecnico.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estadísticas de solicitudes para el tablero")
+public class EstadisticasDto {
+
+    public static final String FUENTE_MEMORIA = "memoria";
+    public static final String FUENTE_BD = "bd";
+
+    @Schema(description = "De dónde salen los números: 'memoria' (agregado incremental) o 'bd' (GROUP BY)", example = "memoria")
+    private String fuente;
+
+    @Schema(description = "Solicitudes por estado (los cinco estados, aunque tengan 0)")
+    private List<ConteoEstadoDto> porEstado;
+
+    @Schema(description = "Total de solicitudes abiertas (Pendiente, Asignada o EnProgreso)", example = "57")
+    private long abiertas;
+
+    @Schema(description = "Solicitudes abiertas por técnico (solo técnicos con alguna)")
+    private List<CargaTecnicoDto> abiertasPorTecnico;
+
+    @Schema(description = "Solicitudes abiertas por cliente (solo clientes con alguna)")
+    private List<ConteoClienteDto> abiertasPorCliente;
+
+    @Schema(description = "Última vez que el agregado en memoria se comparó con la BD (null si fuente = bd)")
+    private Instant reconciliadoEn;
+}
@@ -0,0 +1,38 @@
+package com.empresa.soporte_tecnico.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estado del escalador de SLA")
+public class EstadoSlaDto {
+
+    @Schema(description = "Plazo para asignar un técnico, contado desde el alta", example = "PT4H")
+    private String plazoAsignacion;
+
+    @Schema(description = "Plazo para resolver, contado desde el alta", example = "PT48H")
+    private String plazoResolucion;
+
+    @Schema(description = "Solicitudes con un plazo pendiente en la rueda de vencimientos", example = "41250")
+    private int programadas;
+
+    @Schema(description = "Incumplimientos marcados desde el arranque", example = "320")
+    private long incumplidas;
+
+    @Schema(description = "UPDATE en lote emitidos para marcar incumplimientos desde el arranque", example = "12")
+    private long lotes;
+
+    @Schema(description = "Última vez que se avanzó la rueda")
+    private Instant ultimaRevision;
+
+    @Schema(description = "Cuándo se cargó la rueda desde la BD")
+    private Instant reconstruidaEn;
+}
@@ -0,0 +1,41 @@
+package com.empresa.soporte_tecnico.dto;
+
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Evento enviado por GET /solicitudes/eventos cuando se confirma un cambio sobre una solicitud")
+public class EventoSolicitudDto {
+
+    @Schema(description = "ID del evento SSE (Last-Event-ID): arranque del servidor y número creciente dentro de ese arranque",
+            example = "m3k9x2qa-1532")
+    private String id;
+
+    @Schema(description = "Tipo de cambio: CREADA, ACTUALIZADA, ASIGNADA, ELIMINADA o SLA_INCUMPLIDO", example = "ASIGNADA")
+    private String tipo;
+
+    @Schema(description = "ID de la solicitud", example = "100")
+    private Long solicitudId;
+
+    @Schema(description = "Estado después del cambio", example = "Asignada")
+    private EstadoSolicitud estado;
+
+    @Schema(description = "Estado antes del cambio (null en las altas)", example = "Pendiente")
+    private EstadoSolicitud estadoAnterior;
+
+    @Schema(description = "ID del cliente", example = "1")
+    private Long clienteId;
+
+    @Schema(description = "ID del técnico asignado", example = "10")
+    private Long tecnicoId;
+
+    @Schema(description = "Versión de la solicitud después del cambio", example = "4")
+    private Long version;
+}
@@ -0,0 +1,28 @@
+package com.empresa.soporte_tecnico.dto;
+
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Filtros opcionales para el listado de solicitudes")
+public class FiltroSolicitudDto {
+
+    @Schema(description = "Estado de la solicitud", example = "Pendiente")
+    private EstadoSolicitud estado;
+
+    @Schema(description = "ID del cliente", example = "1")
+    private Long clienteId;
+
+    @Schema(description = "ID del técnico asignado", example = "10")
+    private Long tecnicoId;
+
+    @Schema(description = "true: solo las que incumplieron algún plazo de SLA; false: solo las que no", example = "true")
+    private Boolean slaIncumplido;
+}
@@ -0,0 +1,31 @@
+package com.empresa.soporte_tecnico.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Seguimiento de una solicitud recibida por la cola de ingesta")
+public class IngestaDto {
+
+    public static final String ENCOLADA = "ENCOLADA";
+    public static final String CREADA = "CREADA";
+    public static final String RECHAZADA = "RECHAZADA";
+
+    @Schema(description = "Identificador de seguimiento", example = "3f1c2a9e-7b4d-4c55-9a0e-1d2b3c4d5e6f")
+    private String id;
+
+    @Schema(description = "ENCOLADA, CREADA o RECHAZADA", example = "CREADA")
+    private String estado;
+
+    @Schema(description = "ID de la solicitud creada (solo si estado = CREADA)", example = "100")
+    private Long solicitudId;
+
+    @Schema(description = "Motivo del rechazo (solo si estado = RECHAZADA)", example = "Cliente no encontrado con id 7")
+    private String error;
+}
@@ -0,0 +1,50 @@
+package com.empresa.soporte_tecnico.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de resultados paginada por cursor (keyset sobre el ID)")
+public class PaginaDto<T> {
+
+    @Schema(description = "Elementos de la página actual")
+    private List<T> items;
+
+    @Schema(description = "Cursor para pedir la siguiente página (null si no hay más)", example = "150")
+    private Long siguienteCursor;
+
+    // Solo en los listados por número de página (clientes y técnicos), que no tienen cursor
+    @Schema(description = "Número de la siguiente página, en los listados paginados por número (se omite si no aplica)",
+            example = "1")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer siguientePagina;
+
+    @Schema(description = "Indica si existen más resultados después de esta página")
+    private boolean hayMas;
+
+    /**
+     * Construye la página a partir de las filas leídas. Se espera que se hayan pedido
+     * {@code limite + 1} filas: la fila sobrante solo indica que hay más resultados.
+     */
+    public static <E, T> PaginaDto<T> desde(List<E> filas, int limite,
+                                            Function<E, T> mapper, Function<E, Long> cursor) {
+        boolean hayMas = filas.size() > limite;
+        List<E> visibles = hayMas ? filas.subList(0, limite) : filas;
+
+        return PaginaDto.<T>builder()
+                .items(visibles.stream().map(mapper).toList())
+                .siguienteCursor(hayMas ? cursor.apply(visibles.get(visibles.size() - 1)) : null)
+                .hayMas(hayMas)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.empresa.soporte_tecnico.dto;
+
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FieldProjection;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IdProjection;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ProjectionConstructor;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ScoreProjection;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Solicitud encontrada por la búsqueda de texto, con su puntaje de relevancia")
+public class ResultadoBusquedaDto {
+
+    @Schema(description = "Identificador único de la solicitud", example = "100")
+    private Long id;
+
+    @Schema(description = "Descripción del problema o solicitud", example = "La impresora no imprime")
+    private String descripcion;
+
+    @Schema(description = "Estado actual de la solicitud", example = "Resuelta")
+    private EstadoSolicitud estado;
+
+    @Schema(description = "Relevancia del resultado (mayor es más relevante)", example = "3.27")
+    private float puntaje;
+
+    // Hibernate Search arma el resultado directamente desde el índice, sin consultar la BD
+    @ProjectionConstructor
+    public ResultadoBusquedaDto(@IdProjection Long id,
+                                @FieldProjection(path = "descripcion") String descripcion,
+                                @FieldProjection(path = "estado") EstadoSolicitud estado,
+                                @ScoreProjection Float puntaje) {
+        this(id, descripcion, estado, puntaje != null ? puntaje : 0f);
+    }
+}
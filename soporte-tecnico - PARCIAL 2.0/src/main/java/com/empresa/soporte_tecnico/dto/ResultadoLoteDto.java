@@ -0,0 +1,35 @@
+package com.empresa.soporte_tecnico.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de una fila dentro de una importación masiva de solicitudes")
+public class ResultadoLoteDto {
+
+    @Schema(description = "Posición de la fila en el lote enviado (empieza en 0)", example = "0")
+    private int indice;
+
+    @Schema(description = "ID asignado a la solicitud creada (null si la fila fue rechazada)", example = "100")
+    private Long id;
+
+    @Schema(description = "Indica si la fila se insertó correctamente", example = "true")
+    private boolean creada;
+
+    @Schema(description = "Motivo del rechazo de la fila", example = "Cliente no encontrado con id 7")
+    private String error;
+
+    public static ResultadoLoteDto creada(int indice) {
+        return ResultadoLoteDto.builder().indice(indice).creada(true).build();
+    }
+
+    public static ResultadoLoteDto rechazada(int indice, String error) {
+        return ResultadoLoteDto.builder().indice(indice).creada(false).error(error).build();
+    }
+}
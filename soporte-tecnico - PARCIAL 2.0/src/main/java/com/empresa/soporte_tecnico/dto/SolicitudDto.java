@@ -1,5 +1,6 @@
 package com.empresa.soporte_tecnico.dto;
 
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
@@ -9,6 +10,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -31,6 +34,43 @@ public class SolicitudDto {
     @Schema(description = "Técnico asignado para la solicitud", example = "{\"id\":10}")
     private TecnicoDto tecnicoAsignado; // Solo necesitamos el ID en el POST
 
+    @Schema(description = "Especialidad requerida; si no se indica técnico, se asigna el de menor carga con esa especialidad",
+            example = "Redes")
+    private String especialidad;
+
     @Schema(description = "Estado actual de la solicitud", example = "Pendiente")
-    private String estado;
+    private EstadoSolicitud estado;
+
+    @Schema(description = "Versión leída de la solicitud; en PUT/PATCH, si ya no es la vigente se responde 409",
+            example = "3")
+    private Long version;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Fecha de alta", example = "2025-03-10T14:05:00Z")
+    private Instant creadaEn;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Fecha de la última modificación", example = "2025-03-10T15:20:00Z")
+    private Instant actualizadaEn;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Primera vez que se le asignó un técnico (null si nunca lo tuvo)", example = "2025-03-10T14:30:00Z")
+    private Instant asignadaEn;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Cuándo pasó a Resuelta o Cerrada (null si está abierta)")
+    private Instant resueltaEn;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Próximo vencimiento de SLA: asignación mientras no tiene técnico, resolución después. "
+            + "Null si está cerrada o si el plazo vigente ya se incumplió", example = "2025-03-12T14:05:00Z")
+    private Instant venceSlaEn;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Indica si alguna vez incumplió un plazo de SLA", example = "false")
+    private boolean slaIncumplido;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Cuándo se marcó el último incumplimiento de SLA (null si nunca incumplió)")
+    private Instant slaIncumplidoEn;
 }
@@ -0,0 +1,37 @@
+package com.empresa.soporte_tecnico.dto;
+
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Vista plana y de solo lectura de una solicitud, pensada para listados")
+public class SolicitudResumenDto {
+
+    // El orden de los campos define el constructor usado en la consulta JPQL de SolicitudRepositoryImpl
+
+    @Schema(description = "Identificador único de la solicitud", example = "100")
+    private Long id;
+
+    @Schema(description = "Descripción del problema o solicitud", example = "El sistema no arranca correctamente")
+    private String descripcion;
+
+    @Schema(description = "Estado actual de la solicitud", example = "Pendiente")
+    private EstadoSolicitud estado;
+
+    @Schema(description = "ID del cliente que realizó la solicitud", example = "1")
+    private Long clienteId;
+
+    @Schema(description = "Nombre del cliente", example = "Juan Pérez")
+    private String clienteNombre;
+
+    @Schema(description = "ID del técnico asignado", example = "10")
+    private Long tecnicoId;
+
+    @Schema(description = "Nombre del técnico asignado", example = "Carlos López")
+    private String tecnicoNombre;
+}
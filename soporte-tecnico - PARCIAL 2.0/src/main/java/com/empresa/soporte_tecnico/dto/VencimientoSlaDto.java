@@ -0,0 +1,23 @@
+package com.empresa.soporte_tecnico.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Plazo de SLA pendiente de una solicitud")
+public class VencimientoSlaDto {
+
+    // El orden de los campos define el constructor usado en SolicitudRepository.streamVencimientos
+
+    @Schema(description = "ID de la solicitud", example = "100")
+    private Long solicitudId;
+
+    @Schema(description = "Vencimiento del plazo", example = "2025-03-12T14:05:00Z")
+    private Instant venceSlaEn;
+}
@@ -1,5 +1,6 @@
 package com.empresa.soporte_tecnico.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -24,5 +25,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errores);
     }
 
+    // Conflicto de concurrencia (@Version): la solicitud cambió desde que el cliente la leyó
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleConflictoDeVersion(OptimisticLockingFailureException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "La solicitud fue modificada por otro usuario; vuelva a consultarla e intente de nuevo");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     // Puedes agregar más métodos si quieres manejar otros errores personalizados recordar
 }
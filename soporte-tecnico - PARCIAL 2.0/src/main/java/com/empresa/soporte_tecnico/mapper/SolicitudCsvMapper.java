@@ -0,0 +1,37 @@
+package com.empresa.soporte_tecnico.mapper;
+
+import com.empresa.soporte_tecnico.model.Solicitud;
+
+public class SolicitudCsvMapper {
+
+    public static final String CABECERA = "id,descripcion,estado,cliente_id,cliente_nombre,tecnico_id,tecnico_nombre";
+
+    public static String toCsv(Solicitud solicitud) {
+        StringBuilder linea = new StringBuilder(160);
+        linea.append(solicitud.getId()).append(',');
+        agregarCampo(linea, solicitud.getDescripcion()).append(',');
+        linea.append(solicitud.getEstado().getEtiqueta()).append(',');
+        linea.append(solicitud.getCliente().getId()).append(',');
+        agregarCampo(linea, solicitud.getCliente().getNombre()).append(',');
+        if (solicitud.getTecnicoAsignado() != null) {
+            linea.append(solicitud.getTecnicoAsignado().getId()).append(',');
+            agregarCampo(linea, solicitud.getTecnicoAsignado().getNombre());
+        } else {
+            linea.append(',');
+        }
+        return linea.toString();
+    }
+
+    // Según RFC 4180: el campo va entre comillas si contiene separadores, comillas o saltos de línea
+    private static StringBuilder agregarCampo(StringBuilder linea, String valor) {
+        if (valor == null) {
+            return linea;
+        }
+        boolean requiereComillas = valor.indexOf(',') >= 0 || valor.indexOf('"') >= 0
+                || valor.indexOf('\n') >= 0 || valor.indexOf('\r') >= 0;
+        if (!requiereComillas) {
+            return linea.append(valor);
+        }
+        return linea.append('"').append(valor.replace("\"", "\"\"")).append('"');
+    }
+}
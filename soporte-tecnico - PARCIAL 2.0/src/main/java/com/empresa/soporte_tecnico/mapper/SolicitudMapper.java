@@ -1,6 +1,8 @@
 package com.empresa.soporte_tecnico.mapper;
 
+import com.empresa.soporte_tecnico.dto.CambioSolicitudDto;
 import com.empresa.soporte_tecnico.dto.SolicitudDto;
+import com.empresa.soporte_tecnico.model.CambioSolicitud;
 import com.empresa.soporte_tecnico.model.Solicitud;
 import com.empresa.soporte_tecnico.model.Cliente;
 import com.empresa.soporte_tecnico.model.Tecnico;
@@ -20,7 +22,16 @@ public class SolicitudMapper {
                 .descripcion(solicitud.getDescripcion())
                 .cliente(ClienteMapper.toDto(solicitud.getCliente()))
                 .tecnicoAsignado(TecnicoMapper.toDto(solicitud.getTecnicoAsignado()))
+                .especialidad(solicitud.getEspecialidad())
                 .estado(solicitud.getEstado())
+                .version(solicitud.getVersion())
+                .creadaEn(solicitud.getCreadaEn())
+                .actualizadaEn(solicitud.getActualizadaEn())
+                .asignadaEn(solicitud.getAsignadaEn())
+                .resueltaEn(solicitud.getResueltaEn())
+                .venceSlaEn(solicitud.getVenceSlaEn())
+                .slaIncumplido(solicitud.getSlaIncumplidoEn() != null)
+                .slaIncumplidoEn(solicitud.getSlaIncumplidoEn())
                 .build();
     }
 
@@ -31,6 +42,8 @@ public class SolicitudMapper {
         solicitud.setId(dto.getId());
         solicitud.setDescripcion(dto.getDescripcion());
         solicitud.setEstado(dto.getEstado());
+        solicitud.setEspecialidad(dto.getEspecialidad());
+        solicitud.setVersion(dto.getVersion());
 
         // Mapear cliente usando solo el ID
         if (dto.getCliente() != null && dto.getCliente().getId() != null) {
@@ -49,4 +62,19 @@ public class SolicitudMapper {
         return solicitud;
     }
 
+    public static CambioSolicitudDto toDto(CambioSolicitud cambio) {
+        if (cambio == null) {
+            return null;
+        }
+
+        return CambioSolicitudDto.builder()
+                .id(cambio.getId())
+                .registradoEn(cambio.getRegistradoEn())
+                .usuarioDeclarado(cambio.getUsuarioDeclarado())
+                .tipo(cambio.getTipo())
+                .valorAnterior(cambio.getValorAnterior())
+                .valorNuevo(cambio.getValorNuevo())
+                .build();
+    }
+
 }
@@ -0,0 +1,55 @@
+package com.empresa.soporte_tecnico.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Una fila del historial de una solicitud: quién cambió qué campo, de qué valor a cuál y cuándo.
+ * Solo se insertan (nunca se actualizan ni se borran), en la misma transacción que el cambio.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+// Sin dirty checking ni UPDATE: Hibernate solo las inserta
+@Immutable
+@Table(name = "historial_solicitudes", indexes = {
+        // Historial de una solicitud paginado por ID, sin recorrer el de las demás
+        @Index(name = "idx_historial_solicitud", columnList = "solicitud_id, id")
+})
+public class CambioSolicitud {
+
+    // Misma estrategia que Solicitud: la secuencia pooled reserva 50 IDs por viaje a la BD
+    // y los INSERT de varios cambios salen en un mismo lote JDBC
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "historial_solicitudes_seq")
+    @SequenceGenerator(name = "historial_solicitudes_seq", sequenceName = "historial_solicitudes_seq", allocationSize = 50)
+    private Long id;
+
+    // Sin relación ni clave foránea: el historial sobrevive a la baja de la solicitud y la tabla se puede particionar
+    @Column(name = "solicitud_id", nullable = false, updatable = false)
+    private Long solicitudId;
+
+    @Column(name = "registrado_en", nullable = false, updatable = false)
+    private Instant registradoEn;
+
+    // Cabecera X-Usuario de la petición, o "sistema" para los cambios hechos fuera de una petición HTTP.
+    // La envía el cliente sin autenticar: es quien dice ser, no quien es
+    @Column(name = "usuario", nullable = false, updatable = false, length = 64)
+    private String usuarioDeclarado;
+
+    @Column(nullable = false, updatable = false)
+    private TipoCambio tipo;
+
+    // Etiqueta del estado, ID de técnico o cliente, o la especialidad; null si no había valor
+    @Column(name = "valor_anterior", updatable = false, length = 100)
+    private String valorAnterior;
+
+    @Column(name = "valor_nuevo", updatable = false, length = 100)
+    private String valorNuevo;
+}
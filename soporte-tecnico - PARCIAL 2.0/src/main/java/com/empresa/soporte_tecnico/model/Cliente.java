@@ -1,5 +1,6 @@
 package com.empresa.soporte_tecnico.model;
 
+import com.empresa.soporte_tecnico.repository.ContadorCambios;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -9,7 +10,12 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "clientes")
+// Cada alta, cambio o baja cambia el ETag de los listados
+@EntityListeners(ContadorCambios.class)
+@Table(name = "clientes", indexes = {
+        // Búsqueda por prefijo y orden por nombre; el correo ya tiene su índice único
+        @Index(name = "idx_clientes_nombre", columnList = "nombre")
+})
 public class Cliente {
 
     @Id
@@ -0,0 +1,98 @@
+package com.empresa.soporte_tecnico.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Ciclo de vida de una solicitud: Pendiente → Asignada → EnProgreso → Resuelta → Cerrada.
+ * Se guarda como un código smallint (ver {@link EstadoSolicitudConverter}) y se expone en JSON con su etiqueta.
+ */
+@Schema(description = "Estado de la solicitud", type = "string",
+        allowableValues = {"Pendiente", "Asignada", "EnProgreso", "Resuelta", "Cerrada"})
+public enum EstadoSolicitud {
+
+    PENDIENTE((short) 0, "Pendiente"),
+    ASIGNADA((short) 1, "Asignada"),
+    EN_PROGRESO((short) 2, "EnProgreso"),
+    RESUELTA((short) 3, "Resuelta"),
+    CERRADA((short) 4, "Cerrada");
+
+    // Los códigos se persisten: no deben cambiar ni reutilizarse al agregar estados
+    private final short codigo;
+    private final String etiqueta;
+
+    EstadoSolicitud(short codigo, String etiqueta) {
+        this.codigo = codigo;
+        this.etiqueta = etiqueta;
+    }
+
+    public short getCodigo() {
+        return codigo;
+    }
+
+    @JsonValue
+    public String getEtiqueta() {
+        return etiqueta;
+    }
+
+    // Una solicitud abierta todavía requiere trabajo del área de soporte
+    public boolean esAbierto() {
+        return this != RESUELTA && this != CERRADA;
+    }
+
+    public static Set<EstadoSolicitud> abiertos() {
+        return EnumSet.of(PENDIENTE, ASIGNADA, EN_PROGRESO);
+    }
+
+    // Estados en los que la solicitud debe tener un técnico responsable
+    public boolean requiereTecnico() {
+        return this == ASIGNADA || this == EN_PROGRESO || this == RESUELTA;
+    }
+
+    public boolean puedePasarA(EstadoSolicitud destino) {
+        if (destino == this) {
+            return true;
+        }
+        return switch (this) {
+            case PENDIENTE -> destino == ASIGNADA || destino == CERRADA;
+            case ASIGNADA -> destino == EN_PROGRESO || destino == PENDIENTE || destino == CERRADA;
+            case EN_PROGRESO -> destino == RESUELTA || destino == ASIGNADA || destino == CERRADA;
+            case RESUELTA -> destino == CERRADA || destino == EN_PROGRESO;
+            case CERRADA -> false;
+        };
+    }
+
+    public static EstadoSolicitud desdeCodigo(short codigo) {
+        for (EstadoSolicitud estado : values()) {
+            if (estado.codigo == codigo) {
+                return estado;
+            }
+        }
+        throw new IllegalArgumentException("Código de estado desconocido: " + codigo);
+    }
+
+    // Acepta la etiqueta ("EnProgreso") o el nombre de la constante ("EN_PROGRESO"), sin distinguir mayúsculas
+    @JsonCreator
+    public static EstadoSolicitud desdeEtiqueta(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        String normalizado = valor.replace("_", "").replace(" ", "");
+        for (EstadoSolicitud estado : values()) {
+            if (estado.etiqueta.equalsIgnoreCase(normalizado)) {
+                return estado;
+            }
+        }
+        throw new IllegalArgumentException("Estado desconocido: " + valor
+                + " (valores válidos: Pendiente, Asignada, EnProgreso, Resuelta, Cerrada)");
+    }
+
+    @Override
+    public String toString() {
+        return etiqueta;
+    }
+}
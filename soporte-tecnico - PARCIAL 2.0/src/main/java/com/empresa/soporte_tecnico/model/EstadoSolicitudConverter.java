@@ -0,0 +1,19 @@
+package com.empresa.soporte_tecnico.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Guarda el estado como smallint (2 bytes) en lugar del texto: índices más chicos y sin valores inválidos
+@Converter(autoApply = true)
+public class EstadoSolicitudConverter implements AttributeConverter<EstadoSolicitud, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(EstadoSolicitud estado) {
+        return estado != null ? estado.getCodigo() : null;
+    }
+
+    @Override
+    public EstadoSolicitud convertToEntityAttribute(Short codigo) {
+        return codigo != null ? EstadoSolicitud.desdeCodigo(codigo) : null;
+    }
+}
@@ -1,25 +1,58 @@
 package com.empresa.soporte_tecnico.model;
 
+import com.empresa.soporte_tecnico.config.AnalisisBusquedaConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+
+import java.time.Instant;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "solicitudes")
+// El UPDATE incluye solo las columnas modificadas (PATCH de un campo no reescribe toda la fila)
+@DynamicUpdate
+// Índice de texto completo (Hibernate Search + Lucene embebido), sincronizado al confirmar cada transacción
+@Indexed(index = "solicitudes")
+@NamedEntityGraph(name = Solicitud.GRAFO_DETALLE, attributeNodes = {
+        @NamedAttributeNode("cliente"),
+        @NamedAttributeNode("tecnicoAsignado")
+})
+@Table(name = "solicitudes", indexes = {
+        // Índice compuesto: sirve para filtrar por estado (y técnico) y para contar por estado sin leer la tabla
+        @Index(name = "idx_solicitudes_estado_tecnico", columnList = "estado, tecnico_id"),
+        // Igual para el conteo de abiertas por cliente de las estadísticas
+        @Index(name = "idx_solicitudes_estado_cliente", columnList = "estado, cliente_id"),
+        @Index(name = "idx_solicitudes_cliente", columnList = "cliente_id"),
+        @Index(name = "idx_solicitudes_tecnico", columnList = "tecnico_id"),
+        // Reconstrucción de la rueda de EscaladorSla al arrancar: solo las abiertas con plazo tienen valor
+        @Index(name = "idx_solicitudes_vence_sla", columnList = "vence_sla_en")
+})
 public class Solicitud {
 
+    // Grafo usado por las consultas que necesitan el cliente y el técnico ya cargados
+    public static final String GRAFO_DETALLE = "Solicitud.detalle";
+
+    // Secuencia con optimizador pooled: Hibernate reserva 50 IDs por viaje a la BD
+    // y puede agrupar los INSERT en lotes JDBC (con IDENTITY no es posible)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "solicitudes_seq")
+    @SequenceGenerator(name = "solicitudes_seq", sequenceName = "solicitudes_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "La descripción es obligatoria")
     @Column(nullable = false, length = 500)
+    @FullTextField(analyzer = AnalisisBusquedaConfig.ANALIZADOR_ESPANOL, projectable = Projectable.YES)
     private String descripcion;
 
     @NotNull(message = "Debe asociarse un cliente")
@@ -31,6 +64,49 @@ public class Solicitud {
     @JoinColumn(name = "tecnico_id")
     private Tecnico tecnicoAsignado;
 
-    @Column(length = 50, nullable = false)
-    private String estado = "Pendiente";
+    // Especialidad requerida; la usa MotorAsignacion para elegir técnico cuando no viene uno asignado
+    @Column(length = 100)
+    private String especialidad;
+
+    // Se persiste como smallint mediante EstadoSolicitudConverter
+    @Column(nullable = false)
+    @GenericField(projectable = Projectable.YES)
+    private EstadoSolicitud estado = EstadoSolicitud.PENDIENTE;
+
+    // La fija SolicitudServiceImpl para calcular el plazo de SLA con el mismo instante
+    @Column(name = "creada_en", nullable = false, updatable = false)
+    private Instant creadaEn;
+
+    // Lo renueva Hibernate en cada UPDATE que emite (no en un PATCH sin cambios)
+    @UpdateTimestamp
+    @Column(name = "actualizada_en", nullable = false)
+    private Instant actualizadaEn;
+
+    // Primera vez que tuvo técnico: a partir de ahí corre el plazo de resolución en lugar del de asignación
+    @Column(name = "asignada_en")
+    private Instant asignadaEn;
+
+    // Cuándo pasó a Resuelta o Cerrada; vuelve a null si se reabre
+    @Column(name = "resuelta_en")
+    private Instant resueltaEn;
+
+    // Próximo vencimiento de SLA (ver EscaladorSla); null si está cerrada o el plazo vigente ya se incumplió
+    @Column(name = "vence_sla_en")
+    private Instant venceSlaEn;
+
+    // Último incumplimiento de SLA marcado por EscaladorSla; null si nunca incumplió
+    @Column(name = "sla_incumplido_en")
+    private Instant slaIncumplidoEn;
+
+    // Bloqueo optimista: cada UPDATE incrementa la versión y falla si otro lo hizo antes
+    @Version
+    private Long version;
+
+    // Altas que no pasan por SolicitudServiceImpl (repository.save directo): quedan con la hora del INSERT
+    @PrePersist
+    void completarAlta() {
+        if (creadaEn == null) {
+            creadaEn = Instant.now();
+        }
+    }
 }
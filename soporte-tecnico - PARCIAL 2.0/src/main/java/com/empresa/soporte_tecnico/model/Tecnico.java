@@ -1,5 +1,6 @@
 package com.empresa.soporte_tecnico.model;
 
+import com.empresa.soporte_tecnico.repository.ContadorCambios;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
@@ -8,7 +9,13 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "tecnicos")
+// Cada alta, cambio o baja cambia el ETag de los listados
+@EntityListeners(ContadorCambios.class)
+@Table(name = "tecnicos", indexes = {
+        // Búsqueda por prefijo y orden en los listados
+        @Index(name = "idx_tecnicos_nombre", columnList = "nombre"),
+        @Index(name = "idx_tecnicos_especialidad", columnList = "especialidad")
+})
 public class Tecnico {
 
     @Id
@@ -0,0 +1,41 @@
+package com.empresa.soporte_tecnico.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Qué cambió en una fila del historial de una solicitud (ver {@link CambioSolicitud}).
+ * Se guarda como un código smallint (ver {@link TipoCambioConverter}), igual que {@link EstadoSolicitud}.
+ */
+@Schema(description = "Campo modificado", type = "string",
+        allowableValues = {"ESTADO", "TECNICO", "CLIENTE", "ESPECIALIDAD", "DESCRIPCION", "ELIMINADA"})
+public enum TipoCambio {
+
+    ESTADO((short) 0),
+    TECNICO((short) 1),
+    CLIENTE((short) 2),
+    ESPECIALIDAD((short) 3),
+    // Solo se registra que cambió: el texto completo no se copia para que las filas sigan siendo angostas
+    DESCRIPCION((short) 4),
+    // Baja de la solicitud; el valor anterior es el estado que tenía
+    ELIMINADA((short) 5);
+
+    // Los códigos se persisten: no deben cambiar ni reutilizarse al agregar tipos
+    private final short codigo;
+
+    TipoCambio(short codigo) {
+        this.codigo = codigo;
+    }
+
+    public short getCodigo() {
+        return codigo;
+    }
+
+    public static TipoCambio desdeCodigo(short codigo) {
+        for (TipoCambio tipo : values()) {
+            if (tipo.codigo == codigo) {
+                return tipo;
+            }
+        }
+        throw new IllegalArgumentException("Código de tipo de cambio desconocido: " + codigo);
+    }
+}
@@ -0,0 +1,19 @@
+package com.empresa.soporte_tecnico.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Smallint en lugar del nombre: cada fila del historial ocupa 2 bytes para el tipo
+@Converter(autoApply = true)
+public class TipoCambioConverter implements AttributeConverter<TipoCambio, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TipoCambio tipo) {
+        return tipo != null ? tipo.getCodigo() : null;
+    }
+
+    @Override
+    public TipoCambio convertToEntityAttribute(Short codigo) {
+        return codigo != null ? TipoCambio.desdeCodigo(codigo) : null;
+    }
+}
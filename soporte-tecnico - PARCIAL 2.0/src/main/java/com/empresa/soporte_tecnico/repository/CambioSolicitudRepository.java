@@ -0,0 +1,15 @@
+package com.empresa.soporte_tecnico.repository;
+
+import com.empresa.soporte_tecnico.model.CambioSolicitud;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CambioSolicitudRepository extends JpaRepository<CambioSolicitud, Long> {
+
+    // Página del historial de una solicitud (keyset sobre el ID): recorre idx_historial_solicitud desde el cursor
+    List<CambioSolicitud> findBySolicitudIdAndIdGreaterThanOrderByIdAsc(Long solicitudId, Long cursor, Limit limite);
+}
@@ -1,9 +1,85 @@
 package com.empresa.soporte_tecnico.repository;
 
+import com.empresa.soporte_tecnico.config.CacheConfig;
 import com.empresa.soporte_tecnico.model.Cliente;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ClienteRepository extends JpaRepository<Cliente, Long> {
+
+    // Lectura a través de la caché: solo va a la BD si el cliente no está cacheado
+    @Override
+    @Cacheable(cacheNames = CacheConfig.CACHE_CLIENTES, unless = "#result == null")
+    Optional<Cliente> findById(Long id);
+
+    // Sin caché: la caché entrega copias desligadas y para modificar hace falta la entidad gestionada.
+    // Quien la modifica debe desalojarla de la caché
+    @Query("SELECT c FROM Cliente c WHERE c.id = :id")
+    Optional<Cliente> buscarParaModificar(@Param("id") Long id);
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.CACHE_CLIENTES, key = "#result.id")
+    <S extends Cliente> S save(S cliente);
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.CACHE_CLIENTES, key = "#result.id")
+    <S extends Cliente> S saveAndFlush(S cliente);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES)
+    void deleteById(Long id);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, key = "#p0.id")
+    void delete(Cliente cliente);
+
+    // Escrituras de varias filas: se vacía la caché entera en lugar de calcular qué claves tocan
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, allEntries = true)
+    <S extends Cliente> List<S> saveAll(Iterable<S> clientes);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, allEntries = true)
+    <S extends Cliente> List<S> saveAllAndFlush(Iterable<S> clientes);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, allEntries = true)
+    void deleteAllById(Iterable<? extends Long> ids);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, allEntries = true)
+    void deleteAll(Iterable<? extends Cliente> clientes);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, allEntries = true)
+    void deleteAll();
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, allEntries = true)
+    void deleteAllInBatch(Iterable<Cliente> clientes);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, allEntries = true)
+    void deleteAllByIdInBatch(Iterable<Long> ids);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, allEntries = true)
+    void deleteAllInBatch();
+
+    // Slice en lugar de Page: se lee una fila de más para saber si hay otra página, sin COUNT(*)
+    Slice<Cliente> findAllBy(Pageable pagina);
+
+    // Búsqueda por prefijo (LIKE 'texto%', con % y _ escapados): usa los índices de nombre y correo
+    Slice<Cliente> findByNombreStartingWithOrCorreoStartingWith(String nombre, String correo, Pageable pagina);
 }
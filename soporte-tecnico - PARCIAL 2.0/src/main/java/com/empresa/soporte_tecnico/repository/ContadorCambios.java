@@ -0,0 +1,59 @@
+package com.empresa.soporte_tecnico.repository;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador de cambios por tabla, para dar un ETag a los listados (GET /clientes, GET /tecnicos)
+ * sin consultar la BD: mientras el contador no cambie, el listado tampoco.
+ *
+ * <p>Se registra como {@code @EntityListeners} en cada entidad y sube al terminar la transacción que
+ * insertó, modificó o borró una fila. Quien arma la respuesta debe leer el ETag <b>antes</b> de consultar:
+ * si un cambio se confirma en el medio, el ETag queda viejo y la próxima revalidación trae el listado
+ * de nuevo (nunca al revés). Los contadores viven en memoria: solo ven los cambios hechos por esta
+ * instancia a través de JPA.</p>
+ */
+public class ContadorCambios {
+
+    // Fijo por arranque: los ETag emitidos antes de un reinicio no coinciden con los contadores nuevos
+    private static final String ARRANQUE = Long.toString(System.currentTimeMillis(), 36);
+    private static final Map<Class<?>, AtomicLong> CONTADORES = new ConcurrentHashMap<>();
+
+    public static String etag(Class<?> entidad) {
+        return ARRANQUE + "-" + contador(entidad).get();
+    }
+
+    // Para escrituras que no pasan por JPA (JDBC directo)
+    public static void registrarCambio(Class<?> entidad) {
+        AtomicLong contador = contador(entidad);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // También si la transacción se revierte: un ETag de más solo cuesta una descarga
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    contador.incrementAndGet();
+                }
+            });
+        } else {
+            contador.incrementAndGet();
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void alCambiar(Object entidad) {
+        registrarCambio(entidad.getClass());
+    }
+
+    private static AtomicLong contador(Class<?> entidad) {
+        return CONTADORES.computeIfAbsent(entidad, clave -> new AtomicLong());
+    }
+}
@@ -1,11 +1,86 @@
 package com.empresa.soporte_tecnico.repository;
 
+import com.empresa.soporte_tecnico.dto.CargaTecnicoDto;
+import com.empresa.soporte_tecnico.dto.ConteoClienteDto;
+import com.empresa.soporte_tecnico.dto.ConteoEstadoDto;
+import com.empresa.soporte_tecnico.dto.VencimientoSlaDto;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
 import com.empresa.soporte_tecnico.model.Solicitud;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface SolicitudRepository extends JpaRepository<Solicitud, Long> {
-    // Aquí podrías agregar métodos personalizados si los necesitas, ej:
-    // List<Solicitud> findByEstado(String estado);
+public interface SolicitudRepository extends JpaRepository<Solicitud, Long>, SolicitudRepositoryCustom {
+
+    // Igual que findById, pero trae el cliente y el técnico en la misma consulta
+    @EntityGraph(Solicitud.GRAFO_DETALLE)
+    Optional<Solicitud> findConDetalleById(Long id);
+
+    // Solo la versión, para revalidar un ETag con una lectura por clave primaria
+    @Query("SELECT s.version FROM Solicitud s WHERE s.id = :id")
+    Optional<Long> buscarVersion(@Param("id") Long id);
+
+    // Recorre toda la tabla con un cursor del driver (ScrollableResults) en lugar de cargarla en una lista.
+    // Debe consumirse dentro de una transacción y cerrarse al terminar.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Solicitud s JOIN FETCH s.cliente LEFT JOIN FETCH s.tecnicoAsignado ORDER BY s.id")
+    Stream<Solicitud> streamTodas();
+
+    // Agrupa por la primera columna de idx_solicitudes_estado_tecnico: la BD puede resolver
+    // el conteo recorriendo solo el índice, sin leer las filas de la tabla
+    @Query("SELECT new com.empresa.soporte_tecnico.dto.ConteoEstadoDto(s.estado, COUNT(s))"
+            + " FROM Solicitud s GROUP BY s.estado")
+    List<ConteoEstadoDto> contarPorEstado();
+
+    // Solicitudes por técnico en los estados indicados; también se resuelve sobre (estado, tecnico_id)
+    @Query("SELECT new com.empresa.soporte_tecnico.dto.CargaTecnicoDto(s.tecnicoAsignado.id, COUNT(s))"
+            + " FROM Solicitud s WHERE s.estado IN :estados AND s.tecnicoAsignado IS NOT NULL"
+            + " GROUP BY s.tecnicoAsignado.id")
+    List<CargaTecnicoDto> contarPorTecnico(@Param("estados") Collection<EstadoSolicitud> estados);
+
+    // Solicitudes por cliente en los estados indicados, sobre el índice (estado, cliente_id)
+    @Query("SELECT new com.empresa.soporte_tecnico.dto.ConteoClienteDto(s.cliente.id, COUNT(s))"
+            + " FROM Solicitud s WHERE s.estado IN :estados"
+            + " GROUP BY s.cliente.id")
+    List<ConteoClienteDto> contarPorCliente(@Param("estados") Collection<EstadoSolicitud> estados);
+
+    // Plazos de SLA pendientes, recorriendo solo idx_solicitudes_vence_sla (las filas sin plazo no están
+    // en el rango). Mismo cursor que streamTodas: debe consumirse dentro de una transacción
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.empresa.soporte_tecnico.dto.VencimientoSlaDto(s.id, s.venceSlaEn)"
+            + " FROM Solicitud s WHERE s.venceSlaEn IS NOT NULL")
+    Stream<VencimientoSlaDto> streamVencimientos();
+
+    // Marca el incumplimiento de un lote de solicitudes en un solo UPDATE. Vuelve a comprobar el plazo:
+    // las que se resolvieron o cambiaron de plazo después de entrar en la rueda no se tocan.
+    // Incrementa la versión a mano (un UPDATE masivo no pasa por @Version) para invalidar ETags
+    // y hacer fallar a quien intente guardar una copia anterior
+    @Modifying
+    @Query("UPDATE Solicitud s SET s.slaIncumplidoEn = :ahora, s.venceSlaEn = NULL, s.actualizadaEn = :ahora,"
+            + " s.version = s.version + 1"
+            + " WHERE s.id IN :ids AND s.venceSlaEn <= :ahora")
+    int marcarSlaIncumplido(@Param("ids") Collection<Long> ids, @Param("ahora") Instant ahora);
+
+    // Las que marcó marcarSlaIncumplido con ese mismo "ahora", para publicar su cambio
+    @Query("SELECT s FROM Solicitud s WHERE s.id IN :ids AND s.slaIncumplidoEn = :ahora")
+    List<Solicitud> buscarMarcadasSlaIncumplido(@Param("ids") Collection<Long> ids, @Param("ahora") Instant ahora);
 }
@@ -0,0 +1,30 @@
+package com.empresa.soporte_tecnico.repository;
+
+import com.empresa.soporte_tecnico.dto.FiltroSolicitudDto;
+import com.empresa.soporte_tecnico.dto.ResultadoBusquedaDto;
+import com.empresa.soporte_tecnico.dto.SolicitudResumenDto;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+
+import java.util.List;
+
+public interface SolicitudRepositoryCustom {
+
+    /**
+     * Devuelve hasta {@code limite} solicitudes con ID mayor que {@code cursor},
+     * ordenadas por ID y aplicando solo los filtros presentes.
+     */
+    List<Solicitud> buscarPagina(FiltroSolicitudDto filtro, Long cursor, int limite);
+
+    /**
+     * Misma paginación y filtros que {@link #buscarPagina}, pero proyectando cada fila
+     * directamente a {@link SolicitudResumenDto} sin hidratar entidades.
+     */
+    List<SolicitudResumenDto> buscarResumenes(FiltroSolicitudDto filtro, Long cursor, int limite);
+
+    /**
+     * Búsqueda de texto completo sobre la descripción en el índice de Lucene, ordenada por relevancia.
+     * Devuelve hasta {@code limite} resultados a partir de la posición {@code desplazamiento}.
+     */
+    List<ResultadoBusquedaDto> buscarTexto(String texto, EstadoSolicitud estado, int desplazamiento, int limite);
+}
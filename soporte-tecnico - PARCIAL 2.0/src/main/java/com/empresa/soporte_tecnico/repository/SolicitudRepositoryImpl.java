@@ -0,0 +1,96 @@
+package com.empresa.soporte_tecnico.repository;
+
+import com.empresa.soporte_tecnico.dto.FiltroSolicitudDto;
+import com.empresa.soporte_tecnico.dto.ResultadoBusquedaDto;
+import com.empresa.soporte_tecnico.dto.SolicitudResumenDto;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
+import org.hibernate.search.mapper.orm.Search;
+
+import java.util.List;
+
+public class SolicitudRepositoryImpl implements SolicitudRepositoryCustom {
+
+    // JOIN FETCH: el cliente y el técnico llegan en la misma consulta y el mapper
+    // no dispara un SELECT adicional por cada fila (N+1)
+    private static final String SELECT_ENTIDADES = "SELECT s FROM Solicitud s"
+            + " JOIN FETCH s.cliente"
+            + " LEFT JOIN FETCH s.tecnicoAsignado";
+
+    // Expresión constructora: las filas se convierten directamente en DTOs planos,
+    // sin instanciar entidades ni guardar snapshots en el contexto de persistencia
+    private static final String SELECT_RESUMENES = "SELECT new com.empresa.soporte_tecnico.dto.SolicitudResumenDto("
+            + "s.id, s.descripcion, s.estado, c.id, c.nombre, t.id, t.nombre)"
+            + " FROM Solicitud s"
+            + " JOIN s.cliente c"
+            + " LEFT JOIN s.tecnicoAsignado t";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Solicitud> buscarPagina(FiltroSolicitudDto filtro, Long cursor, int limite) {
+        return crearConsultaPaginada(SELECT_ENTIDADES, Solicitud.class, filtro, cursor, limite).getResultList();
+    }
+
+    @Override
+    public List<SolicitudResumenDto> buscarResumenes(FiltroSolicitudDto filtro, Long cursor, int limite) {
+        return crearConsultaPaginada(SELECT_RESUMENES, SolicitudResumenDto.class, filtro, cursor, limite).getResultList();
+    }
+
+    @Override
+    public List<ResultadoBusquedaDto> buscarTexto(String texto, EstadoSolicitud estado, int desplazamiento, int limite) {
+        // La consulta va contra el índice invertido (no hay LIKE sobre la tabla) y el resultado
+        // se proyecta desde los campos guardados en el índice, sin cargar entidades
+        return Search.session(entityManager)
+                .search(Solicitud.class)
+                .select(ResultadoBusquedaDto.class)
+                .where(f -> {
+                    BooleanPredicateClausesStep<?> consulta = f.bool()
+                            .must(f.match().field("descripcion").matching(texto));
+                    if (estado != null) {
+                        consulta.filter(f.match().field("estado").matching(estado));
+                    }
+                    return consulta;
+                })
+                .fetchHits(desplazamiento, limite);
+    }
+
+    private <T> TypedQuery<T> crearConsultaPaginada(String select, Class<T> tipo,
+                                                    FiltroSolicitudDto filtro, Long cursor, int limite) {
+        // Solo se agregan los predicados que vienen informados, así cada combinación
+        // de filtros puede usar su índice en lugar de un "(:param IS NULL OR ...)"
+        StringBuilder jpql = new StringBuilder(select).append(" WHERE s.id > :cursor");
+        if (filtro.getEstado() != null) {
+            jpql.append(" AND s.estado = :estado");
+        }
+        if (filtro.getClienteId() != null) {
+            jpql.append(" AND s.cliente.id = :clienteId");
+        }
+        if (filtro.getTecnicoId() != null) {
+            jpql.append(" AND s.tecnicoAsignado.id = :tecnicoId");
+        }
+        if (filtro.getSlaIncumplido() != null) {
+            jpql.append(filtro.getSlaIncumplido() ? " AND s.slaIncumplidoEn IS NOT NULL" : " AND s.slaIncumplidoEn IS NULL");
+        }
+        jpql.append(" ORDER BY s.id");
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), tipo)
+                .setParameter("cursor", cursor != null ? cursor : 0L)
+                .setMaxResults(limite);
+        if (filtro.getEstado() != null) {
+            query.setParameter("estado", filtro.getEstado());
+        }
+        if (filtro.getClienteId() != null) {
+            query.setParameter("clienteId", filtro.getClienteId());
+        }
+        if (filtro.getTecnicoId() != null) {
+            query.setParameter("tecnicoId", filtro.getTecnicoId());
+        }
+        return query;
+    }
+}
@@ -1,9 +1,85 @@
 package com.empresa.soporte_tecnico.repository;
 
+import com.empresa.soporte_tecnico.config.CacheConfig;
 import com.empresa.soporte_tecnico.model.Tecnico;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface TecnicoRepository extends JpaRepository<Tecnico, Long> {
+
+    // Lectura a través de la caché: solo va a la BD si el técnico no está cacheado
+    @Override
+    @Cacheable(cacheNames = CacheConfig.CACHE_TECNICOS, unless = "#result == null")
+    Optional<Tecnico> findById(Long id);
+
+    // Sin caché: la caché entrega copias desligadas y para modificar hace falta la entidad gestionada.
+    // Quien la modifica debe desalojarla de la caché
+    @Query("SELECT t FROM Tecnico t WHERE t.id = :id")
+    Optional<Tecnico> buscarParaModificar(@Param("id") Long id);
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.CACHE_TECNICOS, key = "#result.id")
+    <S extends Tecnico> S save(S tecnico);
+
+    @Override
+    @CachePut(cacheNames = CacheConfig.CACHE_TECNICOS, key = "#result.id")
+    <S extends Tecnico> S saveAndFlush(S tecnico);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS)
+    void deleteById(Long id);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS, key = "#p0.id")
+    void delete(Tecnico tecnico);
+
+    // Escrituras de varias filas: se vacía la caché entera en lugar de calcular qué claves tocan
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS, allEntries = true)
+    <S extends Tecnico> List<S> saveAll(Iterable<S> tecnicos);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS, allEntries = true)
+    <S extends Tecnico> List<S> saveAllAndFlush(Iterable<S> tecnicos);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS, allEntries = true)
+    void deleteAllById(Iterable<? extends Long> ids);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS, allEntries = true)
+    void deleteAll(Iterable<? extends Tecnico> tecnicos);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS, allEntries = true)
+    void deleteAll();
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS, allEntries = true)
+    void deleteAllInBatch(Iterable<Tecnico> tecnicos);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS, allEntries = true)
+    void deleteAllByIdInBatch(Iterable<Long> ids);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS, allEntries = true)
+    void deleteAllInBatch();
+
+    // Slice en lugar de Page: se lee una fila de más para saber si hay otra página, sin COUNT(*)
+    Slice<Tecnico> findAllBy(Pageable pagina);
+
+    // Búsqueda por prefijo (LIKE 'texto%', con % y _ escapados): usa los índices de nombre y especialidad
+    Slice<Tecnico> findByNombreStartingWithOrEspecialidadStartingWith(String nombre, String especialidad, Pageable pagina);
 }
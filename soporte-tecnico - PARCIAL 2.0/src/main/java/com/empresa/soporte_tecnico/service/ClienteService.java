@@ -0,0 +1,17 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ClienteService {
+    Cliente crearCliente(Cliente cliente);
+    Slice<Cliente> listarClientes(String prefijo, Pageable pagina);
+    List<Cliente> obtenerPorIds(Collection<Long> ids);
+    Cliente obtenerPorId(Long id);
+    Cliente actualizarCliente(Long id, Cliente cliente);
+    void eliminarCliente(Long id);
+}
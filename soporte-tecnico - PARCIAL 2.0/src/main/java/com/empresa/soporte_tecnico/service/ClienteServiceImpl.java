@@ -0,0 +1,91 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.config.CacheConfig;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ClienteServiceImpl implements ClienteService {
+
+    private final ClienteRepository clienteRepository;
+
+    public ClienteServiceImpl(ClienteRepository clienteRepository) {
+        this.clienteRepository = clienteRepository;
+    }
+
+    @Override
+    @Transactional
+    public Cliente crearCliente(Cliente cliente) {
+        cliente.setId(null);
+        return clienteRepository.save(cliente);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Cliente> listarClientes(String prefijo, Pageable pagina) {
+        if (prefijo == null || prefijo.isBlank()) {
+            return clienteRepository.findAllBy(pagina);
+        }
+        String texto = prefijo.trim();
+        return clienteRepository.findByNombreStartingWithOrCorreoStartingWith(texto, texto, pagina);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Cliente> obtenerPorIds(Collection<Long> ids) {
+        // Una sola consulta IN; el resultado se devuelve en el orden de "ids"
+        Map<Long, Cliente> encontrados = clienteRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+        return ids.stream()
+                .map(encontrados::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Cliente obtenerPorId(Long id) {
+        return clienteRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Cliente no encontrado con id " + id
+                ));
+    }
+
+    @Override
+    @Transactional
+    // El desalojo se aplica al confirmar la transacción (la caché es transaccional, ver CacheConfig)
+    @CacheEvict(cacheNames = CacheConfig.CACHE_CLIENTES, key = "#id")
+    public Cliente actualizarCliente(Long id, Cliente cambios) {
+        // Una sola lectura; Hibernate escribe el UPDATE al confirmar, y solo si algún campo cambió
+        Cliente cliente = buscarParaModificar(id);
+        cliente.setNombre(cambios.getNombre());
+        cliente.setCorreo(cambios.getCorreo());
+        return cliente;
+    }
+
+    @Override
+    @Transactional
+    public void eliminarCliente(Long id) {
+        clienteRepository.delete(buscarParaModificar(id));
+    }
+
+    private Cliente buscarParaModificar(Long id) {
+        return clienteRepository.buscarParaModificar(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Cliente no encontrado con id " + id));
+    }
+}
@@ -0,0 +1,240 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.dto.ColaIngestaDto;
+import com.empresa.soporte_tecnico.dto.IngestaDto;
+import com.empresa.soporte_tecnico.dto.ResultadoLoteDto;
+import com.empresa.soporte_tecnico.dto.SolicitudDto;
+import com.empresa.soporte_tecnico.mapper.SolicitudMapper;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recibe solicitudes para crearlas más tarde (write-behind) y absorber picos de altas.
+ *
+ * <p>La petición solo se valida y se deja en una cola acotada en memoria; un único hilo escritor la
+ * vacía en lotes con {@link SolicitudService#crearSolicitudesEnLote}, una transacción por lote. Si la
+ * cola está llena, {@link #encolar} devuelve vacío y el controlador responde 503 con {@code Retry-After}.
+ * El resultado de cada solicitud queda disponible por su identificador de seguimiento durante
+ * {@code soporte.ingesta.retencion}.</p>
+ *
+ * <p>Lo encolado vive solo en memoria: al apagar la aplicación se escribe lo pendiente antes de cerrar
+ * la BD, pero una caída abrupta lo pierde. Quien necesite confirmación inmediata usa POST /solicitudes.
+ * Por eso está apagada salvo que se active con {@code soporte.ingesta.habilitada=true}.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "soporte.ingesta.habilitada", havingValue = "true")
+public class ColaIngesta implements SmartLifecycle {
+
+    private static final Duration ESPERA_ESCRITOR = Duration.ofMillis(500);
+    private static final int REINTENTOS_LOTE = 3;
+    private static final Duration PAUSA_REINTENTO = Duration.ofSeconds(1);
+    // Motivo fijo: el de la excepción expone detalles de la BD (SQL, restricciones) a quien consulta el seguimiento
+    public static final String ERROR_AL_GUARDAR = "No se pudo guardar la solicitud; vuelva a enviarla más tarde";
+
+    private final SolicitudService solicitudService;
+    private final int capacidad;
+    private final int tamanoLote;
+    private final BlockingQueue<Pendiente> cola;
+    private final Cache<String, IngestaDto> seguimiento;
+
+    private final AtomicLong aceptadas = new AtomicLong();
+    private final AtomicLong creadas = new AtomicLong();
+    private final AtomicLong rechazadas = new AtomicLong();
+    private final AtomicLong rechazosPorSaturacion = new AtomicLong();
+    private final AtomicLong lotes = new AtomicLong();
+    private volatile long ultimoLoteMs;
+
+    private volatile boolean activa;
+    private volatile Thread escritor;
+
+    public ColaIngesta(SolicitudService solicitudService,
+                       @Value("${soporte.ingesta.capacidad:10000}") int capacidad,
+                       @Value("${soporte.ingesta.tamano-lote:500}") int tamanoLote,
+                       @Value("${soporte.ingesta.retencion:1h}") Duration retencion) {
+        this.solicitudService = solicitudService;
+        this.capacidad = capacidad;
+        this.tamanoLote = tamanoLote;
+        this.cola = new ArrayBlockingQueue<>(capacidad);
+        this.seguimiento = Caffeine.newBuilder()
+                .expireAfterWrite(retencion)
+                // Acota la memoria aunque el pico dure más que la retención
+                .maximumSize(Math.max(capacidad * 10L, 100_000L))
+                .build();
+    }
+
+    /**
+     * Deja la solicitud en la cola y devuelve su seguimiento (estado ENCOLADA), o vacío si la cola
+     * está llena y el cliente debe reintentar más tarde.
+     */
+    public Optional<IngestaDto> encolar(SolicitudDto solicitud) {
+        IngestaDto ingesta = IngestaDto.builder()
+                .id(UUID.randomUUID().toString())
+                .estado(IngestaDto.ENCOLADA)
+                .build();
+        // Se registra antes de encolar: el escritor puede terminar el lote antes de que volvamos del offer
+        seguimiento.put(ingesta.getId(), ingesta);
+        if (!cola.offer(new Pendiente(ingesta.getId(), solicitud))) {
+            seguimiento.invalidate(ingesta.getId());
+            rechazosPorSaturacion.incrementAndGet();
+            return Optional.empty();
+        }
+        aceptadas.incrementAndGet();
+        return Optional.of(copia(ingesta));
+    }
+
+    public Optional<IngestaDto> consultar(String id) {
+        return Optional.ofNullable(seguimiento.getIfPresent(id)).map(ColaIngesta::copia);
+    }
+
+    public ColaIngestaDto estado() {
+        return ColaIngestaDto.builder()
+                .enCola(cola.size())
+                .capacidad(capacidad)
+                .aceptadas(aceptadas.get())
+                .creadas(creadas.get())
+                .rechazadas(rechazadas.get())
+                .rechazosPorSaturacion(rechazosPorSaturacion.get())
+                .lotes(lotes.get())
+                .ultimoLoteMs(ultimoLoteMs)
+                .build();
+    }
+
+    // Estimación para Retry-After: lotes que faltan por la duración del último lote, como mínimo 1 segundo
+    public long segundosParaReintentar() {
+        long lotesPendientes = (cola.size() + tamanoLote - 1) / tamanoLote;
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(lotesPendientes * ultimoLoteMs));
+    }
+
+    @Override
+    public void start() {
+        activa = true;
+        escritor = Thread.ofPlatform().name("ingesta-escritor").daemon(true).start(this::escribir);
+    }
+
+    @Override
+    public void stop() {
+        activa = false;
+        Thread actual = escritor;
+        if (actual != null) {
+            try {
+                // El escritor termina de vaciar la cola antes de salir
+                actual.join(Duration.ofSeconds(30));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!cola.isEmpty()) {
+            log.warn("Se apagó la cola de ingesta con {} solicitudes sin escribir", cola.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return activa;
+    }
+
+    // Arranca antes y se detiene después del servidor web: no quedan peticiones entrando mientras se vacía
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void escribir() {
+        List<Pendiente> lote = new ArrayList<>(tamanoLote);
+        while (activa || !cola.isEmpty()) {
+            try {
+                Pendiente primera = cola.poll(ESPERA_ESCRITOR.toMillis(), TimeUnit.MILLISECONDS);
+                if (primera == null) {
+                    continue;
+                }
+                lote.add(primera);
+                cola.drainTo(lote, tamanoLote - 1);
+                escribirLote(lote);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Error inesperado en el escritor de ingesta", ex);
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void escribirLote(List<Pendiente> lote) throws InterruptedException {
+        for (int intento = 1; ; intento++) {
+            // Entidades nuevas en cada intento: uno fallido les deja técnico reservado, estado y referencias
+            List<Solicitud> solicitudes = lote.stream()
+                    .map(pendiente -> SolicitudMapper.toEntity(pendiente.solicitud()))
+                    .toList();
+            long inicio = System.nanoTime();
+            try {
+                List<ResultadoLoteDto> resultados = solicitudService.crearSolicitudesEnLote(solicitudes);
+                ultimoLoteMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+                lotes.incrementAndGet();
+                for (ResultadoLoteDto resultado : resultados) {
+                    Pendiente pendiente = lote.get(resultado.getIndice());
+                    if (resultado.isCreada()) {
+                        registrar(pendiente, IngestaDto.CREADA, resultado.getId(), null);
+                        creadas.incrementAndGet();
+                    } else {
+                        registrar(pendiente, IngestaDto.RECHAZADA, null, resultado.getError());
+                        rechazadas.incrementAndGet();
+                    }
+                }
+                return;
+            } catch (RuntimeException ex) {
+                // El lote se revirtió entero (BD caída, deadlock...): se reintenta igual antes de rechazarlo
+                if (intento >= REINTENTOS_LOTE) {
+                    log.error("No se pudo escribir un lote de {} solicitudes tras {} intentos", lote.size(), intento, ex);
+                    for (Pendiente pendiente : lote) {
+                        registrar(pendiente, IngestaDto.RECHAZADA, null, ERROR_AL_GUARDAR);
+                    }
+                    rechazadas.addAndGet(lote.size());
+                    return;
+                }
+                log.warn("Falló la escritura de un lote de ingesta (intento {}): {}", intento, ex.getMessage());
+                Thread.sleep(PAUSA_REINTENTO.toMillis() * intento);
+            }
+        }
+    }
+
+    private void registrar(Pendiente pendiente, String estado, Long solicitudId, String error) {
+        seguimiento.put(pendiente.id(), IngestaDto.builder()
+                .id(pendiente.id())
+                .estado(estado)
+                .solicitudId(solicitudId)
+                .error(error)
+                .build());
+    }
+
+    // Las entradas del caché no se exponen: el escritor las reemplaza y nadie debe mutarlas desde fuera
+    private static IngestaDto copia(IngestaDto ingesta) {
+        return IngestaDto.builder()
+                .id(ingesta.getId())
+                .estado(ingesta.getEstado())
+                .solicitudId(ingesta.getSolicitudId())
+                .error(ingesta.getError())
+                .build();
+    }
+
+    private record Pendiente(String id, SolicitudDto solicitud) {
+    }
+}
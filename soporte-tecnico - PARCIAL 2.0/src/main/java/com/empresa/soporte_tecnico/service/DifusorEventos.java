@@ -0,0 +1,217 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.dto.EventoSolicitudDto;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reparte los cambios confirmados sobre solicitudes a los clientes suscritos por Server-Sent Events.
+ *
+ * <p>Cada suscriptor tiene su propia cola acotada y un hilo virtual que le escribe: un cliente lento
+ * no frena el commit de quien publica. Si la cola se llena, se le cierra la conexión con un evento
+ * {@code desbordado} y el cliente se reconecta con {@code Last-Event-ID}. Los últimos eventos se guardan
+ * en un buffer circular para reenviarlos al reconectar; si el cliente pide uno que ya salió del buffer,
+ * recibe {@code desincronizado} y debe recargar el listado.</p>
+ *
+ * <p>El ID de cada evento es {@code <arranque>-<número>}: la numeración vive en memoria y vuelve a empezar
+ * en cada arranque, así que un {@code Last-Event-ID} de otro arranque no se compara por número, siempre es
+ * {@code desincronizado}.</p>
+ */
+@Slf4j
+@Service
+public class DifusorEventos {
+
+    private static final Duration LATIDO = Duration.ofSeconds(15);
+    private static final Duration DURACION_CONEXION = Duration.ofMinutes(30);
+    // Fijo por arranque, como en ContadorCambios: distingue los números emitidos antes de un reinicio
+    private static final String ARRANQUE = Long.toString(System.currentTimeMillis(), 36);
+
+    private final int bufferPorSuscriptor;
+    private final EventoSolicitudDto[] historial;
+    private final Set<Suscriptor> suscriptores = ConcurrentHashMap.newKeySet();
+
+    // Protege la numeración, el historial y el alta de suscriptores: así un evento nunca se pierde
+    // ni se duplica entre la repetición del historial y la cola en vivo.
+    // ReentrantLock en lugar de synchronized para no fijar hilos virtuales a su portador
+    private final ReentrantLock candado = new ReentrantLock();
+    private long ultimoId;
+
+    public DifusorEventos(@Value("${soporte.eventos.historial:1024}") int capacidadHistorial,
+                          @Value("${soporte.eventos.buffer-por-suscriptor:256}") int bufferPorSuscriptor) {
+        this.historial = new EventoSolicitudDto[capacidadHistorial];
+        this.bufferPorSuscriptor = bufferPorSuscriptor;
+    }
+
+    // Con fallbackExecution también llegan los cambios hechos sin transacción (crearSolicitud)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alConfirmar(SolicitudEvento evento) {
+        Solicitud solicitud = evento.solicitud();
+        EventoSolicitudDto dto = EventoSolicitudDto.builder()
+                .tipo(evento.tipo().name())
+                .solicitudId(solicitud.getId())
+                .estado(solicitud.getEstado())
+                .estadoAnterior(evento.estadoAnterior())
+                .clienteId(solicitud.getCliente() != null ? solicitud.getCliente().getId() : null)
+                .tecnicoId(solicitud.getTecnicoAsignado() != null ? solicitud.getTecnicoAsignado().getId() : null)
+                .version(solicitud.getVersion())
+                .build();
+
+        candado.lock();
+        try {
+            long numero = ++ultimoId;
+            dto.setId(ARRANQUE + "-" + numero);
+            historial[(int) (numero % historial.length)] = dto;
+            for (Suscriptor suscriptor : suscriptores) {
+                if (!suscriptor.cola.offer(dto)) {
+                    suscriptor.desbordar();
+                }
+            }
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    public SseEmitter suscribir(String ultimoEventoId) {
+        SseEmitter emitter = new SseEmitter(DURACION_CONEXION.toMillis());
+        Suscriptor suscriptor = new Suscriptor(emitter, new ArrayBlockingQueue<>(bufferPorSuscriptor));
+        emitter.onCompletion(suscriptor::cerrar);
+        emitter.onTimeout(suscriptor::cerrar);
+        emitter.onError(error -> suscriptor.cerrar());
+
+        candado.lock();
+        try {
+            if (ultimoEventoId != null) {
+                long primeroDisponible = Math.max(1, ultimoId - historial.length + 1);
+                long ultimoRecibido = numeroDeEsteArranque(ultimoEventoId);
+                // -1 si el ID es de otro arranque (o no es nuestro): no se sabe qué eventos se perdió
+                suscriptor.desincronizado = ultimoRecibido < 0
+                        || ultimoRecibido + 1 < primeroDisponible || ultimoRecibido > ultimoId;
+                long desde = suscriptor.desincronizado ? primeroDisponible : ultimoRecibido + 1;
+                for (long id = desde; id <= ultimoId; id++) {
+                    suscriptor.pendientes.add(historial[(int) (id % historial.length)]);
+                }
+            }
+            suscriptores.add(suscriptor);
+        } finally {
+            candado.unlock();
+        }
+
+        suscriptor.hilo = Thread.ofVirtual().name("sse-solicitudes").start(() -> enviar(suscriptor));
+        return emitter;
+    }
+
+    public int cantidadSuscriptores() {
+        return suscriptores.size();
+    }
+
+    // Número del evento si el ID lo emitió este arranque; -1 en cualquier otro caso
+    private static long numeroDeEsteArranque(String eventoId) {
+        String prefijo = ARRANQUE + "-";
+        if (!eventoId.startsWith(prefijo)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventoId.substring(prefijo.length()));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private void enviar(Suscriptor suscriptor) {
+        try {
+            if (suscriptor.desincronizado) {
+                suscriptor.emitter.send(SseEmitter.event().name("desincronizado").data("recargar"));
+            }
+            for (EventoSolicitudDto evento : suscriptor.pendientes) {
+                enviarEvento(suscriptor, evento);
+            }
+            suscriptor.pendientes.clear();
+
+            while (suscriptor.activo) {
+                EventoSolicitudDto evento = suscriptor.cola.poll(LATIDO.toSeconds(), TimeUnit.SECONDS);
+                if (evento != null) {
+                    enviarEvento(suscriptor, evento);
+                } else {
+                    // Comentario SSE periódico: mantiene viva la conexión a través de proxies
+                    suscriptor.emitter.send(SseEmitter.event().comment("latido"));
+                }
+            }
+        } catch (InterruptedException ex) {
+            // cerrar() despierta la espera en la cola; el motivo se revisa abajo
+        } catch (IOException | IllegalStateException ex) {
+            // También puede ser la interrupción de desbordar() cortando un send(): se intenta el aviso igual
+            log.debug("Suscriptor de eventos desconectado: {}", ex.getMessage());
+        }
+        suscriptor.cerrar();
+
+        // La cola se desbordó: se avisa y se cierra para que el cliente se reconecte desde su último evento.
+        // Se revisa aquí y no solo al capturar la interrupción, porque desbordar() puede llegar antes de que
+        // exista el hilo, durante un send() o entre dos vueltas del bucle
+        if (suscriptor.desbordado) {
+            // Una interrupción que llegó fuera de poll() queda pendiente: no debe cortar este último envío
+            Thread.interrupted();
+            try {
+                suscriptor.emitter.send(SseEmitter.event().name("desbordado").data("reconectar"));
+                suscriptor.emitter.complete();
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Suscriptor de eventos desconectado antes del aviso de desborde: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private void enviarEvento(Suscriptor suscriptor, EventoSolicitudDto evento) throws IOException {
+        suscriptor.emitter.send(SseEmitter.event()
+                .id(evento.getId())
+                .name(evento.getTipo().toLowerCase(Locale.ROOT))
+                .data(evento, MediaType.APPLICATION_JSON));
+    }
+
+    private final class Suscriptor {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<EventoSolicitudDto> cola;
+        // Eventos del historial a repetir antes de los nuevos; solo lo usa el hilo del suscriptor
+        private final List<EventoSolicitudDto> pendientes = new ArrayList<>();
+        private volatile boolean activo = true;
+        private volatile boolean desbordado;
+        private boolean desincronizado;
+        private volatile Thread hilo;
+
+        private Suscriptor(SseEmitter emitter, BlockingQueue<EventoSolicitudDto> cola) {
+            this.emitter = emitter;
+            this.cola = cola;
+        }
+
+        private void desbordar() {
+            desbordado = true;
+            log.warn("Suscriptor de eventos demasiado lento: se cierra su conexión");
+            cerrar();
+        }
+
+        private void cerrar() {
+            activo = false;
+            suscriptores.remove(this);
+            Thread actual = hilo;
+            if (actual != null && actual != Thread.currentThread()) {
+                actual.interrupt();
+            }
+        }
+    }
+}
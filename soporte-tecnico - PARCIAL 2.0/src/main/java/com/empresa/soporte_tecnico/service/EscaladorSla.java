@@ -0,0 +1,190 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.dto.EstadoSlaDto;
+import com.empresa.soporte_tecnico.dto.VencimientoSlaDto;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.repository.SolicitudRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Plazos de SLA de las solicitudes y escalado de las que los incumplen.
+ *
+ * <p>Una solicitud abierta tiene {@code soporte.sla.asignacion} desde el alta para recibir técnico y
+ * {@code soporte.sla.resolucion} desde el alta para resolverse; {@link #plazo} calcula el vigente y
+ * {@link SolicitudServiceImpl} lo guarda en {@code vence_sla_en} al crearla y en cada cambio de fase.</p>
+ *
+ * <p>Los vencimientos pendientes viven en una {@link RuedaVencimientos} en memoria: cada
+ * {@link SolicitudEvento} confirmado reprograma o cancela el de su solicitud, sin consultar la BD, y
+ * {@link #revisar} avanza la rueda cada {@code soporte.sla.tick}. Las vencidas se marcan con un
+ * {@code UPDATE ... WHERE id IN (...)} por cada {@value #IDS_POR_UPDATE} IDs, que vuelve a comprobar el
+ * plazo en la BD; por cada solicitud realmente marcada se publica un {@link SolicitudEvento} de tipo
+ * {@code SLA_INCUMPLIDO}, que los oyentes (SSE, métricas) reciben al confirmarse el UPDATE. Al arrancar la
+ * rueda se carga recorriendo el índice sobre {@code vence_sla_en}.</p>
+ */
+@Slf4j
+@Service
+public class EscaladorSla {
+
+    // Tope del IN de cada UPDATE de incumplimientos
+    private static final int IDS_POR_UPDATE = 500;
+    // Con ticks de 1 s, una vuelta de la rueda cubre algo más de una hora
+    private static final int RANURAS = 4_096;
+
+    private final SolicitudRepository solicitudRepository;
+    private final ApplicationEventPublisher eventos;
+    private final TransactionTemplate transaccion;
+    private final TransactionTemplate lectura;
+    private final Duration plazoAsignacion;
+    private final Duration plazoResolucion;
+    private final RuedaVencimientos rueda;
+
+    private final AtomicLong incumplidas = new AtomicLong();
+    private final AtomicLong lotes = new AtomicLong();
+    private volatile Instant ultimaRevision;
+    private volatile Instant reconstruidaEn;
+
+    public EscaladorSla(SolicitudRepository solicitudRepository,
+                        ApplicationEventPublisher eventos,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${soporte.sla.asignacion:4h}") Duration plazoAsignacion,
+                        @Value("${soporte.sla.resolucion:48h}") Duration plazoResolucion,
+                        @Value("${soporte.sla.tick:1s}") Duration tick) {
+        this.solicitudRepository = solicitudRepository;
+        this.eventos = eventos;
+        this.transaccion = new TransactionTemplate(transactionManager);
+        this.lectura = new TransactionTemplate(transactionManager);
+        this.lectura.setReadOnly(true);
+        this.plazoAsignacion = plazoAsignacion;
+        this.plazoResolucion = plazoResolucion;
+        this.rueda = new RuedaVencimientos(tick, RANURAS, Instant.now());
+    }
+
+    // Plazo vigente de la solicitud según su estado y sus marcas de tiempo
+    public Instant plazo(Solicitud solicitud) {
+        return plazo(solicitud.getEstado(),
+                solicitud.getCreadaEn() != null ? solicitud.getCreadaEn() : Instant.now(),
+                solicitud.getAsignadaEn(), solicitud.getSlaIncumplidoEn());
+    }
+
+    /**
+     * Asignación mientras nunca tuvo técnico, resolución después; null si está cerrada o si ese plazo ya
+     * se marcó como incumplido (un plazo anterior al último incumplimiento ya se escaló).
+     */
+    public Instant plazo(EstadoSolicitud estado, Instant creadaEn, Instant asignadaEn, Instant slaIncumplidoEn) {
+        if (estado == null || !estado.esAbierto()) {
+            return null;
+        }
+        Instant vence = creadaEn.plus(asignadaEn == null ? plazoAsignacion : plazoResolucion);
+        if (slaIncumplidoEn != null && !vence.isAfter(slaIncumplidoEn)) {
+            return null;
+        }
+        return vence;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alConfirmar(SolicitudEvento evento) {
+        Solicitud solicitud = evento.solicitud();
+        if (solicitud.getId() == null) {
+            return;
+        }
+        if (evento.tipo() == SolicitudEvento.Tipo.ELIMINADA || solicitud.getVenceSlaEn() == null) {
+            rueda.cancelar(solicitud.getId());
+        } else {
+            rueda.programar(solicitud.getId(), solicitud.getVenceSlaEn());
+        }
+    }
+
+    // Carga la rueda con los plazos guardados; también después de una carga masiva por SQL
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        long inicio = System.nanoTime();
+        Long cargados = lectura.execute(estado -> {
+            long total = 0;
+            try (Stream<VencimientoSlaDto> vencimientos = solicitudRepository.streamVencimientos()) {
+                for (VencimientoSlaDto vencimiento : (Iterable<VencimientoSlaDto>) vencimientos::iterator) {
+                    // Si un cambio confirmado ya la programó mientras se leía, ese plazo es el más reciente
+                    rueda.programarSiAusente(vencimiento.getSolicitudId(), vencimiento.getVenceSlaEn());
+                    total++;
+                }
+            }
+            return total;
+        });
+        reconstruidaEn = Instant.now();
+        log.info("Rueda de SLA cargada con {} plazos en {} ms", cargados, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @Scheduled(fixedDelayString = "${soporte.sla.tick:1s}", initialDelayString = "${soporte.sla.tick:1s}")
+    public void revisar() {
+        // Truncado a la precisión de la columna: con este valor se reconocen después las filas marcadas
+        Instant ahora = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<Long> vencidas = rueda.avanzar(ahora);
+        ultimaRevision = ahora;
+        if (vencidas.isEmpty()) {
+            return;
+        }
+        int marcadas = 0;
+        for (int desde = 0; desde < vencidas.size(); desde += IDS_POR_UPDATE) {
+            List<Long> ids = vencidas.subList(desde, Math.min(desde + IDS_POR_UPDATE, vencidas.size()));
+            try {
+                Integer filas = transaccion.execute(estado -> marcar(ids, ahora));
+                marcadas += filas != null ? filas : 0;
+                lotes.incrementAndGet();
+            } catch (RuntimeException ex) {
+                // Se reprograman para el próximo tick: el plazo sigue vencido y el UPDATE lo vuelve a comprobar
+                log.warn("No se pudo marcar un lote de {} incumplimientos de SLA: {}", ids.size(), ex.getMessage());
+                ids.forEach(id -> rueda.programarSiAusente(id, ahora));
+            }
+        }
+        incumplidas.addAndGet(marcadas);
+        log.info("SLA incumplido en {} solicitudes ({} vencimientos revisados)", marcadas, vencidas.size());
+    }
+
+    // Los eventos se publican dentro de la transacción: los oyentes los reciben recién al confirmarla
+    private int marcar(List<Long> ids, Instant ahora) {
+        int filas = solicitudRepository.marcarSlaIncumplido(ids, ahora);
+        if (filas > 0) {
+            for (Solicitud solicitud : solicitudRepository.buscarMarcadasSlaIncumplido(ids, ahora)) {
+                eventos.publishEvent(new SolicitudEvento(SolicitudEvento.Tipo.SLA_INCUMPLIDO, solicitud,
+                        SolicitudEvento.Anterior.de(solicitud)));
+            }
+        }
+        return filas;
+    }
+
+    public long incumplidas() {
+        return incumplidas.get();
+    }
+
+    public int programadas() {
+        return rueda.programados();
+    }
+
+    public EstadoSlaDto estado() {
+        return EstadoSlaDto.builder()
+                .plazoAsignacion(plazoAsignacion.toString())
+                .plazoResolucion(plazoResolucion.toString())
+                .programadas(rueda.programados())
+                .incumplidas(incumplidas.get())
+                .lotes(lotes.get())
+                .ultimaRevision(ultimaRevision)
+                .reconstruidaEn(reconstruidaEn)
+                .build();
+    }
+}
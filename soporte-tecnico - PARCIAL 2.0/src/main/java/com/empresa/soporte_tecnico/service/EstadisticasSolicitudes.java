@@ -0,0 +1,215 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.dto.CargaTecnicoDto;
+import com.empresa.soporte_tecnico.dto.ConteoClienteDto;
+import com.empresa.soporte_tecnico.dto.ConteoEstadoDto;
+import com.empresa.soporte_tecnico.dto.EstadisticasDto;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Conteos de solicitudes por estado, por técnico y por cliente mantenidos en memoria, para que el
+ * tablero no consulte la BD en cada lectura.
+ *
+ * <p>Cada {@link SolicitudEvento} confirmado resta lo que la solicitud aportaba antes del cambio
+ * ({@link SolicitudEvento.Anterior}) y suma lo que aporta ahora: leer un conteo es O(1). Periódicamente
+ * ({@code soporte.estadisticas.reconciliacion}) se recalcula todo con los {@code GROUP BY} de
+ * {@link SolicitudService#calcularEstadisticas} y se reemplaza el agregado: corrige lo que haya quedado
+ * desfasado (escrituras fuera de la aplicación, eventos perdidos).</p>
+ *
+ * <p>Los cambios confirmados mientras se leen los {@code GROUP BY} no están en la lectura, así que se
+ * guardan en {@code pendientes} y se vuelven a aplicar sobre el agregado nuevo antes de reemplazar el
+ * anterior. Un cambio confirmado justo antes de que la consulta tome su foto de datos puede quedar
+ * contado dos veces; ese desfase lo corrige la reconciliación siguiente.</p>
+ */
+@Slf4j
+@Service
+public class EstadisticasSolicitudes {
+
+    private final SolicitudService solicitudService;
+
+    private volatile Agregado agregado = new Agregado();
+    private volatile Instant reconciliadoEn;
+
+    // Los eventos toman la lectura (pueden aplicarse en paralelo); reconciliar() toma la escritura solo para
+    // abrir el buffer y para reemplazar el agregado, así ningún evento queda aplicado únicamente al descartado
+    private final ReadWriteLock cerrojo = new ReentrantReadWriteLock();
+    // Eventos confirmados durante una reconciliación en curso; null fuera de ella
+    private ConcurrentLinkedQueue<SolicitudEvento> pendientes;
+
+    public EstadisticasSolicitudes(SolicitudService solicitudService) {
+        this.solicitudService = solicitudService;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alConfirmar(SolicitudEvento evento) {
+        cerrojo.readLock().lock();
+        try {
+            aplicar(agregado, evento);
+            if (pendientes != null) {
+                pendientes.add(evento);
+            }
+        } finally {
+            cerrojo.readLock().unlock();
+        }
+    }
+
+    private static void aplicar(Agregado actual, SolicitudEvento evento) {
+        SolicitudEvento.Anterior anterior = evento.anterior();
+        if (anterior != null) {
+            actual.sumar(anterior.estado(), anterior.clienteId(), anterior.tecnicoId(), -1);
+        }
+        if (evento.tipo() != SolicitudEvento.Tipo.ELIMINADA) {
+            Solicitud solicitud = evento.solicitud();
+            actual.sumar(solicitud.getEstado(),
+                    solicitud.getCliente() != null ? solicitud.getCliente().getId() : null,
+                    solicitud.getTecnicoAsignado() != null ? solicitud.getTecnicoAsignado().getId() : null,
+                    1);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${soporte.estadisticas.reconciliacion:5m}",
+            initialDelayString = "${soporte.estadisticas.reconciliacion:5m}")
+    public synchronized void reconciliar() {
+        ConcurrentLinkedQueue<SolicitudEvento> durante = new ConcurrentLinkedQueue<>();
+        conCerrojo(() -> pendientes = durante);
+        EstadisticasDto bd;
+        try {
+            bd = solicitudService.calcularEstadisticas();
+        } catch (RuntimeException ex) {
+            conCerrojo(() -> pendientes = null);
+            throw ex;
+        }
+        Agregado nuevo = new Agregado();
+        for (ConteoEstadoDto conteo : bd.getPorEstado()) {
+            nuevo.porEstado.set(conteo.getEstado().ordinal(), conteo.getTotal());
+        }
+        for (CargaTecnicoDto carga : bd.getAbiertasPorTecnico()) {
+            nuevo.porTecnico.put(carga.getTecnicoId(), carga.getAbiertas());
+        }
+        for (ConteoClienteDto conteo : bd.getAbiertasPorCliente()) {
+            nuevo.porCliente.put(conteo.getClienteId(), conteo.getAbiertas());
+        }
+
+        Agregado anterior = agregado;
+        conCerrojo(() -> {
+            // Lo confirmado después de empezar a leer se aplica también al agregado nuevo
+            for (SolicitudEvento evento : durante) {
+                aplicar(nuevo, evento);
+            }
+            agregado = nuevo;
+            pendientes = null;
+        });
+        Instant reconciliacionPrevia = reconciliadoEn;
+        reconciliadoEn = Instant.now();
+        // La primera vez (al arrancar) el agregado anterior está vacío: no es un desfase
+        if (reconciliacionPrevia != null && !anterior.igualA(nuevo)) {
+            log.info("Estadísticas reconciliadas con la BD: el agregado en memoria estaba desfasado");
+        }
+    }
+
+    private void conCerrojo(Runnable accion) {
+        cerrojo.writeLock().lock();
+        try {
+            accion.run();
+        } finally {
+            cerrojo.writeLock().unlock();
+        }
+    }
+
+    public long total(EstadoSolicitud estado) {
+        return agregado.porEstado.get(estado.ordinal());
+    }
+
+    public long abiertas() {
+        Agregado actual = agregado;
+        long total = 0;
+        for (EstadoSolicitud estado : EstadoSolicitud.abiertos()) {
+            total += actual.porEstado.get(estado.ordinal());
+        }
+        return total;
+    }
+
+    public long abiertasDeTecnico(Long tecnicoId) {
+        return agregado.porTecnico.getOrDefault(tecnicoId, 0L);
+    }
+
+    public long abiertasDeCliente(Long clienteId) {
+        return agregado.porCliente.getOrDefault(clienteId, 0L);
+    }
+
+    // Copia completa para el tablero; recorre solo técnicos y clientes con solicitudes abiertas
+    public EstadisticasDto instantanea() {
+        Agregado actual = agregado;
+        List<ConteoEstadoDto> porEstado = new ArrayList<>();
+        for (EstadoSolicitud estado : EstadoSolicitud.values()) {
+            porEstado.add(new ConteoEstadoDto(estado, actual.porEstado.get(estado.ordinal())));
+        }
+        List<CargaTecnicoDto> porTecnico = new ArrayList<>();
+        actual.porTecnico.forEach((id, abiertas) -> porTecnico.add(new CargaTecnicoDto(id, abiertas)));
+        porTecnico.sort(Comparator.comparing(CargaTecnicoDto::getTecnicoId));
+        List<ConteoClienteDto> porCliente = new ArrayList<>();
+        actual.porCliente.forEach((id, abiertas) -> porCliente.add(new ConteoClienteDto(id, abiertas)));
+        porCliente.sort(Comparator.comparing(ConteoClienteDto::getClienteId));
+
+        return EstadisticasDto.builder()
+                .fuente(EstadisticasDto.FUENTE_MEMORIA)
+                .porEstado(porEstado)
+                .abiertas(abiertas())
+                .abiertasPorTecnico(porTecnico)
+                .abiertasPorCliente(porCliente)
+                .reconciliadoEn(reconciliadoEn)
+                .build();
+    }
+
+    private static final class Agregado {
+
+        private final AtomicLongArray porEstado = new AtomicLongArray(EstadoSolicitud.values().length);
+        // Solo se guardan claves con conteo > 0: merge quita la entrada cuando llega a 0
+        private final ConcurrentHashMap<Long, Long> porTecnico = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, Long> porCliente = new ConcurrentHashMap<>();
+
+        void sumar(EstadoSolicitud estado, Long clienteId, Long tecnicoId, long delta) {
+            if (estado == null) {
+                return;
+            }
+            porEstado.addAndGet(estado.ordinal(), delta);
+            if (estado.esAbierto()) {
+                sumar(porCliente, clienteId, delta);
+                sumar(porTecnico, tecnicoId, delta);
+            }
+        }
+
+        private static void sumar(ConcurrentHashMap<Long, Long> conteos, Long id, long delta) {
+            if (id != null) {
+                conteos.merge(id, delta, (actual, cambio) -> actual + cambio == 0 ? null : actual + cambio);
+            }
+        }
+
+        boolean igualA(Agregado otro) {
+            for (int i = 0; i < porEstado.length(); i++) {
+                if (porEstado.get(i) != otro.porEstado.get(i)) {
+                    return false;
+                }
+            }
+            return porTecnico.equals(otro.porTecnico) && porCliente.equals(otro.porCliente);
+        }
+    }
+}
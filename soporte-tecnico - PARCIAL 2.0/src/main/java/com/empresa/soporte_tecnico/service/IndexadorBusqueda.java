@@ -0,0 +1,44 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.model.Solicitud;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reconstruye el índice de búsqueda de solicitudes desde la BD. Las altas, cambios y bajas hechas con JPA
+ * ya se indexan solas al confirmar; esto solo hace falta si el índice se perdió o se cargaron filas por SQL.
+ */
+@Slf4j
+@Service
+public class IndexadorBusqueda {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean reindexarAlIniciar;
+
+    public IndexadorBusqueda(EntityManagerFactory entityManagerFactory,
+                             @Value("${soporte.busqueda.reindexar-al-iniciar:false}") boolean reindexarAlIniciar) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.reindexarAlIniciar = reindexarAlIniciar;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void alIniciar() throws InterruptedException {
+        if (reindexarAlIniciar) {
+            reindexar();
+        }
+    }
+
+    public void reindexar() throws InterruptedException {
+        long inicio = System.nanoTime();
+        Search.mapping(entityManagerFactory).scope(Solicitud.class).massIndexer()
+                .threadsToLoadObjects(4)
+                .batchSizeToLoadObjects(500)
+                .startAndWait();
+        log.info("Índice de búsqueda de solicitudes reconstruido en {} ms", (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
@@ -0,0 +1,93 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Métricas de negocio de las solicitudes, publicadas junto al resto en /actuator/prometheus.
+ *
+ * <ul>
+ *   <li>{@code soporte.solicitudes.estado}: solicitudes actuales por estado (gauge).</li>
+ *   <li>{@code soporte.solicitudes.eventos}: cambios confirmados por tipo y estado resultante (counter).</li>
+ *   <li>{@code soporte.ingesta.en.cola} y {@code soporte.eventos.suscriptores}: profundidad de la cola de
+ *       ingesta y conexiones SSE abiertas.</li>
+ *   <li>{@code soporte.sla.programadas} y {@code soporte.sla.incumplidas}: plazos pendientes en la rueda de
+ *       {@link EscaladorSla} e incumplimientos marcados (counter).</li>
+ * </ul>
+ *
+ * <p>Los gauges por estado leen el agregado en memoria de {@link EstadisticasSolicitudes}: un scrape no
+ * sale a la BD.</p>
+ */
+@Component
+public class MetricasSolicitudes implements MeterBinder {
+
+    private final EstadisticasSolicitudes estadisticas;
+    // Ausente si la ingesta asíncrona está deshabilitada
+    private final ObjectProvider<ColaIngesta> colaIngesta;
+    private final DifusorEventos difusorEventos;
+    private final EscaladorSla escaladorSla;
+
+    private final Map<SolicitudEvento.Tipo, Map<EstadoSolicitud, Counter>> contadores =
+            new EnumMap<>(SolicitudEvento.Tipo.class);
+
+    public MetricasSolicitudes(EstadisticasSolicitudes estadisticas, ObjectProvider<ColaIngesta> colaIngesta,
+                               DifusorEventos difusorEventos, EscaladorSla escaladorSla) {
+        this.estadisticas = estadisticas;
+        this.colaIngesta = colaIngesta;
+        this.difusorEventos = difusorEventos;
+        this.escaladorSla = escaladorSla;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (EstadoSolicitud estado : EstadoSolicitud.values()) {
+            Gauge.builder("soporte.solicitudes.estado", estadisticas, agregado -> agregado.total(estado))
+                    .description("Solicitudes actuales por estado")
+                    .tag("estado", estado.getEtiqueta())
+                    .register(registry);
+        }
+        for (SolicitudEvento.Tipo tipo : SolicitudEvento.Tipo.values()) {
+            Map<EstadoSolicitud, Counter> porEstado = new EnumMap<>(EstadoSolicitud.class);
+            for (EstadoSolicitud estado : EstadoSolicitud.values()) {
+                porEstado.put(estado, Counter.builder("soporte.solicitudes.eventos")
+                        .description("Cambios confirmados sobre solicitudes")
+                        .tag("tipo", tipo.name().toLowerCase(Locale.ROOT))
+                        .tag("estado", estado.getEtiqueta())
+                        .register(registry));
+            }
+            contadores.put(tipo, porEstado);
+        }
+        colaIngesta.ifAvailable(cola -> Gauge.builder("soporte.ingesta.en.cola", cola, c -> c.estado().getEnCola())
+                .description("Solicitudes esperando en la cola de ingesta")
+                .register(registry));
+        Gauge.builder("soporte.eventos.suscriptores", difusorEventos, DifusorEventos::cantidadSuscriptores)
+                .description("Conexiones SSE abiertas")
+                .register(registry);
+        Gauge.builder("soporte.sla.programadas", escaladorSla, EscaladorSla::programadas)
+                .description("Solicitudes con un plazo de SLA pendiente")
+                .register(registry);
+        FunctionCounter.builder("soporte.sla.incumplidas", escaladorSla, EscaladorSla::incumplidas)
+                .description("Solicitudes marcadas por incumplir un plazo de SLA")
+                .register(registry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alConfirmar(SolicitudEvento evento) {
+        Map<EstadoSolicitud, Counter> porEstado = contadores.get(evento.tipo());
+        EstadoSolicitud estado = evento.solicitud().getEstado();
+        if (porEstado != null && estado != null) {
+            porEstado.get(estado).increment();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.dto.CargaTecnicoDto;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.SolicitudRepository;
+import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Elige el técnico con menos solicitudes abiertas para una solicitud nueva, filtrando por especialidad.
+ *
+ * <p>La carga de cada técnico es un registro inmutable ({@link Carga}) que vive en dos lugares:
+ * el mapa {@code actuales} (la versión vigente por técnico) y un índice ordenado por carga
+ * ({@link ConcurrentSkipListSet}), uno global y otro por especialidad. Elegir es tomar el primero
+ * del índice (O(log n)) y confirmarlo con un {@code replace} atómico sobre el mapa; si otro hilo
+ * cambió la carga en el medio, el {@code replace} falla y se reintenta. No hay bloqueos: las entradas
+ * viejas que quedan en el índice se detectan al compararlas con el mapa y se descartan.</p>
+ *
+ * <p>Los contadores se reconstruyen desde la BD al arrancar (un {@code GROUP BY} sobre el índice
+ * (estado, tecnico_id)) y luego se mantienen con {@link #sumar} y {@link #liberar}.</p>
+ */
+@Slf4j
+@Service
+public class MotorAsignacion {
+
+    // Orden del índice: menor carga primero; a igual carga, el técnico de menor ID
+    private static final Comparator<Carga> POR_CARGA = Comparator.comparingLong(Carga::abiertas)
+            .thenComparingLong(Carga::tecnicoId)
+            .thenComparingLong(Carga::version);
+
+    private final SolicitudRepository solicitudRepository;
+    private final TecnicoRepository tecnicoRepository;
+    private final boolean automatica;
+
+    // Cada cambio de carga genera una versión nueva: dos cargas con el mismo número de abiertas
+    // nunca son iguales, así un replace no confunde un valor viejo con uno recién escrito (ABA)
+    private final AtomicLong versiones = new AtomicLong();
+    private volatile Indice indice = new Indice();
+
+    public MotorAsignacion(SolicitudRepository solicitudRepository,
+                           TecnicoRepository tecnicoRepository,
+                           @Value("${soporte.asignacion.automatica:true}") boolean automatica) {
+        this.solicitudRepository = solicitudRepository;
+        this.tecnicoRepository = tecnicoRepository;
+        this.automatica = automatica;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        Map<Long, Long> abiertas = new HashMap<>();
+        for (CargaTecnicoDto carga : solicitudRepository.contarPorTecnico(EstadoSolicitud.abiertos())) {
+            abiertas.put(carga.getTecnicoId(), carga.getAbiertas());
+        }
+        reconstruir(tecnicoRepository.findAll(), abiertas);
+    }
+
+    // Reemplaza todo el índice de una vez; pensado para el arranque o después de una carga masiva
+    public void reconstruir(List<Tecnico> tecnicos, Map<Long, Long> abiertasPorTecnico) {
+        Indice nuevo = new Indice();
+        for (Tecnico tecnico : tecnicos) {
+            Carga carga = new Carga(abiertasPorTecnico.getOrDefault(tecnico.getId(), 0L), tecnico.getId(),
+                    versiones.incrementAndGet(), normalizar(tecnico.getEspecialidad()));
+            nuevo.actuales.put(carga.tecnicoId(), carga);
+            nuevo.indexar(carga);
+        }
+        indice = nuevo;
+        log.info("Motor de asignación reconstruido con {} técnicos", tecnicos.size());
+    }
+
+    /**
+     * Elige el técnico con menos solicitudes abiertas para la especialidad (o entre todos si es null)
+     * y le suma la solicitud. Vacío si la asignación automática está desactivada o no hay candidatos.
+     */
+    public Optional<Long> asignar(String especialidad) {
+        if (!automatica) {
+            return Optional.empty();
+        }
+        Indice actual = indice;
+        String clave = normalizar(especialidad);
+        ConcurrentSkipListSet<Carga> candidatos = clave == null ? actual.global : actual.porEspecialidad.get(clave);
+        if (candidatos == null) {
+            return Optional.empty();
+        }
+        while (true) {
+            Carga menor = primero(candidatos);
+            if (menor == null) {
+                return Optional.empty();
+            }
+            Carga nueva = menor.con(menor.abiertas() + 1, versiones.incrementAndGet());
+            if (actual.actuales.replace(menor.tecnicoId(), menor, nueva)) {
+                actual.reemplazar(menor, nueva);
+                return Optional.of(menor.tecnicoId());
+            }
+            // Otro hilo cambió la carga de ese técnico: la entrada quedó vieja y se vuelve a elegir
+            actual.descartarSiVieja(menor);
+        }
+    }
+
+    // Suma una solicitud abierta a un técnico elegido a mano
+    public void sumar(Long tecnicoId) {
+        ajustar(tecnicoId, 1);
+    }
+
+    // Descuenta una solicitud que se resolvió, se cerró, se reasignó o no llegó a guardarse
+    public void liberar(Long tecnicoId) {
+        ajustar(tecnicoId, -1);
+    }
+
+    // Alta o cambio de especialidad de un técnico
+    public void registrarTecnico(Long tecnicoId, String especialidad) {
+        Indice actual = indice;
+        String clave = normalizar(especialidad);
+        while (true) {
+            Carga vigente = actual.actuales.get(tecnicoId);
+            if (vigente == null) {
+                Carga nueva = new Carga(0, tecnicoId, versiones.incrementAndGet(), clave);
+                if (actual.actuales.putIfAbsent(tecnicoId, nueva) == null) {
+                    actual.indexar(nueva);
+                    return;
+                }
+                continue;
+            }
+            Carga nueva = new Carga(vigente.abiertas(), tecnicoId, versiones.incrementAndGet(), clave);
+            if (actual.actuales.replace(tecnicoId, vigente, nueva)) {
+                actual.reemplazar(vigente, nueva);
+                return;
+            }
+        }
+    }
+
+    public void quitarTecnico(Long tecnicoId) {
+        Indice actual = indice;
+        Carga vigente = actual.actuales.remove(tecnicoId);
+        if (vigente != null) {
+            actual.desindexar(vigente);
+        }
+    }
+
+    // Solicitudes abiertas que el motor tiene contadas para el técnico (0 si no lo conoce)
+    public long abiertas(Long tecnicoId) {
+        Carga carga = indice.actuales.get(tecnicoId);
+        return carga != null ? carga.abiertas() : 0;
+    }
+
+    private void ajustar(Long tecnicoId, long delta) {
+        if (tecnicoId == null) {
+            return;
+        }
+        Indice actual = indice;
+        while (true) {
+            Carga vigente = actual.actuales.get(tecnicoId);
+            if (vigente == null) {
+                return;
+            }
+            Carga nueva = vigente.con(Math.max(0, vigente.abiertas() + delta), versiones.incrementAndGet());
+            if (actual.actuales.replace(tecnicoId, vigente, nueva)) {
+                actual.reemplazar(vigente, nueva);
+                return;
+            }
+        }
+    }
+
+    private static String normalizar(String especialidad) {
+        if (especialidad == null || especialidad.isBlank()) {
+            return null;
+        }
+        return especialidad.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // first() lanza excepción si el conjunto se vacía en el medio; el iterador solo devuelve lo que haya
+    private static Carga primero(ConcurrentSkipListSet<Carga> candidatos) {
+        Iterator<Carga> iterador = candidatos.iterator();
+        return iterador.hasNext() ? iterador.next() : null;
+    }
+
+    record Carga(long abiertas, long tecnicoId, long version, String especialidad) {
+
+        Carga con(long abiertas, long version) {
+            return new Carga(abiertas, tecnicoId, version, especialidad);
+        }
+    }
+
+    private static final class Indice {
+
+        private final ConcurrentHashMap<Long, Carga> actuales = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<Carga> global = new ConcurrentSkipListSet<>(POR_CARGA);
+        private final ConcurrentHashMap<String, ConcurrentSkipListSet<Carga>> porEspecialidad = new ConcurrentHashMap<>();
+
+        // Se agrega la versión nueva antes de quitar la vieja para que el técnico nunca desaparezca del índice
+        void reemplazar(Carga vieja, Carga nueva) {
+            indexar(nueva);
+            desindexar(vieja);
+        }
+
+        void indexar(Carga carga) {
+            global.add(carga);
+            if (carga.especialidad() != null) {
+                porEspecialidad.computeIfAbsent(carga.especialidad(), clave -> new ConcurrentSkipListSet<>(POR_CARGA))
+                        .add(carga);
+            }
+            // Si entre el replace y el add otro hilo ya publicó una versión posterior (o quitó al técnico),
+            // esta entrada nació vieja y no debe quedar en el índice
+            descartarSiVieja(carga);
+        }
+
+        void desindexar(Carga carga) {
+            global.remove(carga);
+            if (carga.especialidad() != null) {
+                ConcurrentSkipListSet<Carga> conjunto = porEspecialidad.get(carga.especialidad());
+                if (conjunto != null) {
+                    conjunto.remove(carga);
+                }
+            }
+        }
+
+        void descartarSiVieja(Carga carga) {
+            if (!carga.equals(actuales.get(carga.tecnicoId()))) {
+                desindexar(carga);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.empresa.soporte_tecnico.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Rueda de temporización (hashed timing wheel) con los vencimientos pendientes, por ID de solicitud.
+ *
+ * <p>El tiempo se divide en ticks y la rueda tiene una ranura por tick, en círculo: un vencimiento va a
+ * la ranura de su tick módulo la cantidad de ranuras. Programar y cancelar son O(1) y {@link #avanzar}
+ * solo recorre las ranuras de los ticks transcurridos, sin importar cuántos vencimientos haya en total.
+ * Los vencimientos a más de una vuelta comparten ranura con los cercanos y se conservan hasta la
+ * vuelta que les toca.</p>
+ *
+ * <p>Programar y cancelar se pueden llamar desde cualquier hilo: solo escriben el vencimiento vigente
+ * en {@code vigentes} y dejan una entrada en la cola {@code nuevas}. Las ranuras las toca únicamente
+ * quien avanza, que primero reparte las entradas nuevas y, al recorrer una ranura, descarta las que ya
+ * no coinciden con {@code vigentes} (canceladas o reprogramadas) sin tener que buscarlas.</p>
+ */
+final class RuedaVencimientos {
+
+    private final long tickMs;
+    private final int mascara;
+    private final List<List<Entrada>> ranuras;
+    private final ConcurrentHashMap<Long, Long> vigentes = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entrada> nuevas = new ConcurrentLinkedQueue<>();
+
+    // Último tick ya recorrido; solo lo lee y escribe avanzar()
+    private long ultimoTick;
+
+    RuedaVencimientos(Duration tick, int cantidadRanuras, Instant ahora) {
+        this.tickMs = Math.max(1, tick.toMillis());
+        // Potencia de dos: la ranura se obtiene con una máscara en lugar de un módulo
+        int tamano = Integer.highestOneBit(Math.max(2, cantidadRanuras - 1)) << 1;
+        this.mascara = tamano - 1;
+        this.ranuras = new ArrayList<>(tamano);
+        for (int i = 0; i < tamano; i++) {
+            ranuras.add(new ArrayList<>());
+        }
+        this.ultimoTick = ahora.toEpochMilli() / tickMs - 1;
+    }
+
+    // Reemplaza el vencimiento que tuviera la solicitud
+    void programar(long id, Instant vence) {
+        long venceMs = vence.toEpochMilli();
+        vigentes.put(id, venceMs);
+        nuevas.add(new Entrada(id, venceMs));
+    }
+
+    // Solo si la solicitud no tiene vencimiento: la carga inicial no pisa lo programado por un cambio más reciente
+    void programarSiAusente(long id, Instant vence) {
+        long venceMs = vence.toEpochMilli();
+        if (vigentes.putIfAbsent(id, venceMs) == null) {
+            nuevas.add(new Entrada(id, venceMs));
+        }
+    }
+
+    void cancelar(long id) {
+        // La entrada queda en su ranura y se descarta cuando se la recorre
+        vigentes.remove(id);
+    }
+
+    int programados() {
+        return vigentes.size();
+    }
+
+    /**
+     * Recorre los ticks completos transcurridos hasta {@code ahora} y devuelve los IDs cuyo vencimiento
+     * pasó, quitándolos de la rueda. Se llama desde un único hilo a la vez.
+     */
+    synchronized List<Long> avanzar(Instant ahora) {
+        // Solo ticks terminados: todo lo que se devuelve venció antes de "ahora"
+        long hasta = ahora.toEpochMilli() / tickMs - 1;
+        repartirNuevas();
+        List<Long> vencidos = new ArrayList<>();
+        if (hasta <= ultimoTick) {
+            return vencidos;
+        }
+        long limiteMs = (hasta + 1) * tickMs;
+        // Si pasó más de una vuelta (pausa larga), alcanza con recorrer cada ranura una vez
+        long desde = Math.max(ultimoTick + 1, hasta - mascara);
+        for (long tick = desde; tick <= hasta; tick++) {
+            recorrer(ranuras.get((int) (tick & mascara)), limiteMs, vencidos);
+        }
+        ultimoTick = hasta;
+        return vencidos;
+    }
+
+    private void repartirNuevas() {
+        Entrada entrada;
+        while ((entrada = nuevas.poll()) != null) {
+            // Un vencimiento ya pasado va a la próxima ranura a recorrer, no a una que no se vuelve a visitar en una vuelta
+            long tick = Math.max(entrada.venceMs() / tickMs, ultimoTick + 1);
+            ranuras.get((int) (tick & mascara)).add(entrada);
+        }
+    }
+
+    // Compacta la ranura en el lugar: conserva las entradas vigentes que todavía no vencen
+    private void recorrer(List<Entrada> ranura, long limiteMs, List<Long> vencidos) {
+        int conservadas = 0;
+        for (int i = 0; i < ranura.size(); i++) {
+            Entrada entrada = ranura.get(i);
+            Long vigente = vigentes.get(entrada.id());
+            if (vigente == null || vigente != entrada.venceMs()) {
+                continue;
+            }
+            if (entrada.venceMs() < limiteMs) {
+                // remove(clave, valor): si otro hilo la reprogramó justo ahora, gana la reprogramación
+                if (vigentes.remove(entrada.id(), entrada.venceMs())) {
+                    vencidos.add(entrada.id());
+                }
+                continue;
+            }
+            ranura.set(conservadas++, entrada);
+        }
+        ranura.subList(conservadas, ranura.size()).clear();
+    }
+
+    private record Entrada(long id, long venceMs) {
+    }
+}
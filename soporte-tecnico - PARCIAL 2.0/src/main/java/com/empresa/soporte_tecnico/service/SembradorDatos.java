@@ -0,0 +1,372 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.ContadorCambios;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Perfil "semilla": al arrancar carga clientes, técnicos y solicitudes sintéticos para reproducir
+ * volúmenes de producción (millones de solicitudes) en local.
+ *
+ * <p>Escribe por JDBC con {@code INSERT} de {@value #FILAS_POR_SENTENCIA} filas por sentencia, sin pasar por
+ * JPA. Las solicitudes se generan en bloques de {@value #FILAS_POR_BLOQUE} filas repartidos entre varios
+ * hilos, una transacción por bloque. Cada bloque usa su propio generador derivado de
+ * {@code soporte.semilla.valor} y tiene IDs fijos: el resultado es el mismo sin importar cuántos hilos
+ * haya ni en qué orden terminen.</p>
+ *
+ * <p>Distribuciones: pocos clientes concentran la mayoría de las solicitudes; las especialidades y los
+ * estados tienen pesos fijos; toda solicitud asignada, en progreso o resuelta (y casi todas las cerradas)
+ * tiene un técnico de su especialidad. Las fechas son relativas al momento de la siembra (hasta 3 días
+ * atrás las abiertas, 90 las cerradas); las abiertas que ya pasaron su plazo de SLA quedan marcadas como
+ * incumplidas, igual que si {@link EscaladorSla} las hubiera escalado al vencer.</p>
+ *
+ * <p>Como las filas no pasan por JPA, al terminar se avanza la secuencia de IDs y se avisa a quienes
+ * mantienen estado en memoria: ETag de clientes y técnicos, motor de asignación, estadísticas e índice
+ * de búsqueda. Corre antes de que la aplicación quede lista ({@code /actuator/health/readiness}).</p>
+ */
+@Slf4j
+@Component
+@Profile("semilla")
+public class SembradorDatos implements ApplicationRunner {
+
+    static final int FILAS_POR_SENTENCIA = 1_000;
+    static final int FILAS_POR_BLOQUE = 10_000;
+    // Mismo valor que allocationSize de la secuencia de solicitudes
+    private static final int ASIGNACION_SECUENCIA = 50;
+
+    private static final String[] ESPECIALIDADES = {"Redes", "Hardware", "Software", "Impresoras"};
+    private static final int[] PESOS_ESPECIALIDAD = {35, 30, 25, 10};
+    private static final EstadoSolicitud[] ESTADOS = EstadoSolicitud.values();
+    // Pendiente, Asignada, EnProgreso, Resuelta, Cerrada
+    private static final int[] PESOS_ESTADO = {10, 15, 15, 20, 40};
+    // Con el plazo de resolución por defecto (48 h), alrededor de un tercio de las abiertas ya lo incumplió
+    private static final Duration ANTIGUEDAD_ABIERTAS = Duration.ofDays(3);
+    private static final Duration ANTIGUEDAD_CERRADAS = Duration.ofDays(90);
+
+    private static final String[] NOMBRES = {
+            "Ana", "Bruno", "Camila", "Diego", "Elena", "Facundo", "Gabriela", "Hernán", "Inés", "Julián",
+            "Lucía", "Martín", "Natalia", "Pablo", "Romina", "Santiago", "Sofía", "Tomás", "Valentina", "Ximena"
+    };
+    private static final String[] APELLIDOS = {
+            "García", "Fernández", "López", "Martínez", "González", "Rodríguez", "Pérez", "Gómez", "Díaz",
+            "Sánchez", "Romero", "Sosa", "Torres", "Álvarez", "Ruiz", "Ramírez", "Flores", "Acosta", "Medina", "Herrera"
+    };
+    private static final String[] PROBLEMAS = {
+            "No enciende", "No imprime", "Sin conexión a internet en", "Pantalla azul al iniciar",
+            "El correo no sincroniza en", "Lentitud extrema en", "No reconoce el teclado de", "Ruido fuerte en"
+    };
+    private static final String[] EQUIPOS = {
+            "la impresora", "la notebook", "el router", "el monitor", "la PC", "el servidor de archivos"
+    };
+    private static final String[] LUGARES = {
+            "de recepción", "del piso 2", "de la oficina 3", "de contabilidad", "del depósito", "de gerencia"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaccion;
+    private final MotorAsignacion motorAsignacion;
+    private final EstadisticasSolicitudes estadisticas;
+    private final IndexadorBusqueda indexadorBusqueda;
+    private final EscaladorSla escaladorSla;
+    private final int clientes;
+    private final int tecnicos;
+    private final int solicitudes;
+    private final long semilla;
+    private final int hilos;
+    private final boolean reindexar;
+
+    public SembradorDatos(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          MotorAsignacion motorAsignacion,
+                          EstadisticasSolicitudes estadisticas,
+                          IndexadorBusqueda indexadorBusqueda,
+                          EscaladorSla escaladorSla,
+                          @Value("${soporte.semilla.clientes:10000}") int clientes,
+                          @Value("${soporte.semilla.tecnicos:200}") int tecnicos,
+                          @Value("${soporte.semilla.solicitudes:1000000}") int solicitudes,
+                          @Value("${soporte.semilla.valor:42}") long semilla,
+                          @Value("${soporte.semilla.hilos:0}") int hilos,
+                          @Value("${soporte.semilla.reindexar:true}") boolean reindexar) {
+        if (clientes < 1 || tecnicos < ESPECIALIDADES.length) {
+            throw new IllegalArgumentException("La semilla necesita al menos un cliente y "
+                    + ESPECIALIDADES.length + " técnicos (uno por especialidad)");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaccion = new TransactionTemplate(transactionManager);
+        this.motorAsignacion = motorAsignacion;
+        this.estadisticas = estadisticas;
+        this.indexadorBusqueda = indexadorBusqueda;
+        this.escaladorSla = escaladorSla;
+        this.clientes = clientes;
+        this.tecnicos = tecnicos;
+        this.solicitudes = solicitudes;
+        this.semilla = semilla;
+        // 0 = uno por procesador, con tope: más hilos que conexiones del pool solo esperan
+        this.hilos = hilos > 0 ? hilos : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        this.reindexar = reindexar;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        // Correos únicos por semilla: si el primero ya existe, esta semilla ya se cargó en esta BD
+        Integer existentes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM clientes WHERE correo = ?", Integer.class, correo(0));
+        if (existentes != null && existentes > 0) {
+            log.warn("La BD ya tiene los datos de la semilla {}; no se vuelve a sembrar", semilla);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        long[] clienteIds = insertarClientes();
+        long[][] tecnicosPorEspecialidad = insertarTecnicos();
+        long insertadas = insertarSolicitudes(clienteIds, tecnicosPorEspecialidad);
+        long msInsercion = (System.nanoTime() - inicio) / 1_000_000;
+        log.info("Semilla {}: {} clientes, {} técnicos y {} solicitudes insertados en {} ms con {} hilos",
+                semilla, clientes, tecnicos, insertadas, msInsercion, hilos);
+
+        ContadorCambios.registrarCambio(Cliente.class);
+        ContadorCambios.registrarCambio(Tecnico.class);
+        motorAsignacion.reconstruir();
+        estadisticas.reconciliar();
+        // La rueda de SLA no hace falta: EscaladorSla la carga en ApplicationReadyEvent, después de los runners
+        if (reindexar) {
+            indexadorBusqueda.reindexar();
+        }
+    }
+
+    private long[] insertarClientes() {
+        long ultimoPrevio = ultimoId("clientes");
+        SplittableRandom azar = new SplittableRandom(semilla);
+        transaccion.executeWithoutResult(estado -> insertarEnSentencias(
+                "clientes", "nombre, correo", 2, 0, clientes, (ps, fila, columna) -> {
+                    ps.setString(columna, NOMBRES[azar.nextInt(NOMBRES.length)] + " "
+                            + APELLIDOS[azar.nextInt(APELLIDOS.length)]);
+                    ps.setString(columna + 1, correo(fila));
+                }));
+        return idsInsertados("clientes", ultimoPrevio, clientes);
+    }
+
+    // Devuelve, por especialidad, los IDs de los técnicos que la tienen
+    private long[][] insertarTecnicos() {
+        long ultimoPrevio = ultimoId("tecnicos");
+        int[] especialidades = new int[tecnicos];
+        SplittableRandom azar = new SplittableRandom(semilla + 1);
+        transaccion.executeWithoutResult(estado -> insertarEnSentencias(
+                "tecnicos", "nombre, especialidad", 2, 0, tecnicos, (ps, fila, columna) -> {
+                    // Los primeros técnicos cubren todas las especialidades; el resto sigue los pesos
+                    especialidades[fila] = fila < ESPECIALIDADES.length ? fila : elegir(PESOS_ESPECIALIDAD, azar);
+                    ps.setString(columna, "Técnico " + NOMBRES[azar.nextInt(NOMBRES.length)] + " "
+                            + APELLIDOS[azar.nextInt(APELLIDOS.length)]);
+                    ps.setString(columna + 1, ESPECIALIDADES[especialidades[fila]]);
+                }));
+        long[] ids = idsInsertados("tecnicos", ultimoPrevio, tecnicos);
+
+        List<List<Long>> agrupados = new ArrayList<>();
+        for (int i = 0; i < ESPECIALIDADES.length; i++) {
+            agrupados.add(new ArrayList<>());
+        }
+        for (int i = 0; i < ids.length; i++) {
+            agrupados.get(especialidades[i]).add(ids[i]);
+        }
+        long[][] porEspecialidad = new long[ESPECIALIDADES.length][];
+        for (int i = 0; i < porEspecialidad.length; i++) {
+            porEspecialidad[i] = agrupados.get(i).stream().mapToLong(Long::longValue).toArray();
+        }
+        return porEspecialidad;
+    }
+
+    private long insertarSolicitudes(long[] clienteIds, long[][] tecnicosPorEspecialidad)
+            throws InterruptedException, ExecutionException {
+        // IDs fijos a partir del último existente; la secuencia se avanza al final
+        long primerId = ultimoId("solicitudes") + 1;
+        int bloques = (solicitudes + FILAS_POR_BLOQUE - 1) / FILAS_POR_BLOQUE;
+        Instant ahora = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        List<Future<?>> pendientes = new ArrayList<>(bloques);
+        try (ExecutorService ejecutor = Executors.newFixedThreadPool(hilos,
+                Thread.ofPlatform().name("semilla-", 0).factory())) {
+            for (int bloque = 0; bloque < bloques; bloque++) {
+                int desde = bloque * FILAS_POR_BLOQUE;
+                int filas = Math.min(FILAS_POR_BLOQUE, solicitudes - desde);
+                SplittableRandom azar = new SplittableRandom(semilla * 1_000_003L + bloque);
+                pendientes.add(ejecutor.submit(() -> transaccion.executeWithoutResult(estado -> insertarEnSentencias(
+                        "solicitudes", "id, descripcion, estado, cliente_id, tecnico_id, especialidad, version,"
+                                + " creada_en, actualizada_en, asignada_en, resuelta_en, vence_sla_en, sla_incumplido_en",
+                        13, desde, filas, (ps, fila, columna) -> {
+                            EstadoSolicitud estadoSolicitud = ESTADOS[elegir(PESOS_ESTADO, azar)];
+                            int especialidad = elegir(PESOS_ESPECIALIDAD, azar);
+                            ps.setLong(columna, primerId + fila);
+                            ps.setString(columna + 1, PROBLEMAS[azar.nextInt(PROBLEMAS.length)] + " "
+                                    + EQUIPOS[azar.nextInt(EQUIPOS.length)] + " " + LUGARES[azar.nextInt(LUGARES.length)]);
+                            ps.setShort(columna + 2, estadoSolicitud.getCodigo());
+                            // u³ concentra las solicitudes en los primeros clientes (~46 % en el 10 %)
+                            double u = azar.nextDouble();
+                            ps.setLong(columna + 3, clienteIds[(int) (clienteIds.length * u * u * u)]);
+                            long[] candidatos = tecnicosPorEspecialidad[especialidad];
+                            boolean conTecnico = (estadoSolicitud.requiereTecnico()
+                                    || (estadoSolicitud == EstadoSolicitud.CERRADA && azar.nextInt(10) > 0))
+                                    && candidatos.length > 0;
+                            if (conTecnico) {
+                                ps.setLong(columna + 4, candidatos[azar.nextInt(candidatos.length)]);
+                            } else {
+                                ps.setNull(columna + 4, Types.BIGINT);
+                            }
+                            ps.setString(columna + 5, ESPECIALIDADES[especialidad]);
+                            ps.setLong(columna + 6, 0L);
+
+                            // Asignada en el primer 10 % de su antigüedad; resuelta entre la asignación y ahora
+                            Duration antiguedad = estadoSolicitud.esAbierto() ? ANTIGUEDAD_ABIERTAS : ANTIGUEDAD_CERRADAS;
+                            long edadMs = azar.nextLong(antiguedad.toMillis());
+                            Instant creada = ahora.minusMillis(edadMs);
+                            Instant asignada = conTecnico ? creada.plusMillis((long) (edadMs * 0.1 * azar.nextDouble())) : null;
+                            Instant inicioResolucion = asignada != null ? asignada : creada;
+                            Instant resuelta = estadoSolicitud.esAbierto() ? null : inicioResolucion.plusMillis(
+                                    (long) (Duration.between(inicioResolucion, ahora).toMillis() * azar.nextDouble()));
+                            Instant vence = escaladorSla.plazo(estadoSolicitud, creada, asignada, null);
+                            Instant incumplida = null;
+                            if (vence != null && !vence.isAfter(ahora)) {
+                                incumplida = vence;
+                                vence = null;
+                            }
+                            fecha(ps, columna + 7, creada);
+                            fecha(ps, columna + 8, resuelta != null ? resuelta : inicioResolucion);
+                            fecha(ps, columna + 9, asignada);
+                            fecha(ps, columna + 10, resuelta);
+                            fecha(ps, columna + 11, vence);
+                            fecha(ps, columna + 12, incumplida);
+                        }))));
+            }
+            for (Future<?> pendiente : pendientes) {
+                pendiente.get();
+            }
+        }
+
+        if (solicitudes > 0) {
+            avanzarSecuencia(primerId + solicitudes - 1);
+        }
+        return solicitudes;
+    }
+
+    /**
+     * Inserta {@code filas} filas con sentencias de hasta {@value #FILAS_POR_SENTENCIA} filas cada una
+     * ({@code INSERT ... VALUES (...), (...), ...}). {@code desde} es el número de la primera fila, que se
+     * pasa al {@link Fila} para que derive de él IDs o correos.
+     */
+    private void insertarEnSentencias(String tabla, String columnas, int cantidadColumnas,
+                                      int desde, int filas, Fila fila) {
+        String valores = "(" + String.join(", ", Collections.nCopies(cantidadColumnas, "?")) + ")";
+        for (int inicio = 0; inicio < filas; inicio += FILAS_POR_SENTENCIA) {
+            int enSentencia = Math.min(FILAS_POR_SENTENCIA, filas - inicio);
+            String sql = "INSERT INTO " + tabla + " (" + columnas + ") VALUES "
+                    + String.join(", ", Collections.nCopies(enSentencia, valores));
+            int primera = desde + inicio;
+            jdbcTemplate.update(sql, ps -> {
+                for (int i = 0; i < enSentencia; i++) {
+                    fila.completar(ps, primera + i, i * cantidadColumnas + 1);
+                }
+            });
+        }
+    }
+
+    private long ultimoId(String tabla) {
+        Long ultimo = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + tabla, Long.class);
+        return ultimo != null ? ultimo : 0L;
+    }
+
+    // Clientes y técnicos usan IDENTITY: se leen los IDs generados, en orden de inserción
+    private long[] idsInsertados(String tabla, long ultimoPrevio, int esperados) {
+        long[] ids = jdbcTemplate.queryForList("SELECT id FROM " + tabla + " WHERE id > ? ORDER BY id",
+                Long.class, ultimoPrevio).stream().mapToLong(Long::longValue).toArray();
+        if (ids.length != esperados) {
+            throw new IllegalStateException("Se esperaban " + esperados + " filas nuevas en " + tabla
+                    + " y hay " + ids.length + ": la tabla cambió durante la siembra");
+        }
+        return ids;
+    }
+
+    // Deja la secuencia de solicitudes por encima de los IDs usados, para que las altas por JPA no choquen
+    private void avanzarSecuencia(long ultimoUsado) {
+        long siguiente = ultimoUsado + ASIGNACION_SECUENCIA + 1;
+        Boolean emulada = jdbcTemplate.execute((ConnectionCallback<Boolean>) conexion -> {
+            DatabaseMetaData metadatos = conexion.getMetaData();
+            for (String nombre : List.of("solicitudes_seq", "SOLICITUDES_SEQ")) {
+                try (ResultSet tablas = metadatos.getTables(conexion.getCatalog(), null, nombre, new String[]{"TABLE"})) {
+                    if (tablas.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        if (Boolean.TRUE.equals(emulada)) {
+            // Con el dialecto MySQL no hay secuencias: Hibernate usa la tabla solicitudes_seq (ver V1)
+            jdbcTemplate.update("UPDATE solicitudes_seq SET next_val = ? WHERE next_val < ?", siguiente, siguiente);
+        } else {
+            jdbcTemplate.execute("ALTER SEQUENCE solicitudes_seq RESTART WITH " + siguiente);
+        }
+    }
+
+    // Como fecha y hora sin zona en UTC, igual que Hibernate guarda los Instant (hibernate.jdbc.time_zone=UTC)
+    private static void fecha(PreparedStatement ps, int columna, Instant instante) throws SQLException {
+        if (instante != null) {
+            ps.setObject(columna, LocalDateTime.ofInstant(instante, ZoneOffset.UTC));
+        } else {
+            ps.setNull(columna, Types.TIMESTAMP);
+        }
+    }
+
+    private String correo(int fila) {
+        return "cliente" + fila + ".s" + semilla + "@semilla.test";
+    }
+
+    private static int elegir(int[] pesos, SplittableRandom azar) {
+        int total = 0;
+        for (int peso : pesos) {
+            total += peso;
+        }
+        int valor = azar.nextInt(total);
+        for (int i = 0; i < pesos.length; i++) {
+            valor -= pesos[i];
+            if (valor < 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Peso fuera de rango");
+    }
+
+    @FunctionalInterface
+    private interface Fila {
+        // Completa los parámetros de la fila número "fila" a partir del parámetro "columna" del INSERT
+        void completar(PreparedStatement ps, int fila, int columna) throws SQLException;
+    }
+}
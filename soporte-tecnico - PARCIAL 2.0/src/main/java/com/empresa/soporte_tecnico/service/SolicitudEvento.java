@@ -0,0 +1,40 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+
+/**
+ * Cambio sobre una solicitud, publicado por {@link SolicitudServiceImpl} dentro de la transacción.
+ * Los oyentes lo procesan después del commit: para entonces la entidad ya tiene ID y versión definitivos.
+ *
+ * @param anterior estado, cliente y técnico antes del cambio (null en las altas)
+ */
+public record SolicitudEvento(Tipo tipo, Solicitud solicitud, Anterior anterior) {
+
+    public enum Tipo {
+        CREADA,
+        ACTUALIZADA,
+        // Cambió el técnico asignado (reasignación manual o asignación automática en una actualización)
+        ASIGNADA,
+        ELIMINADA,
+        // EscaladorSla marcó un plazo vencido; estado, cliente y técnico no cambian
+        SLA_INCUMPLIDO
+    }
+
+    public EstadoSolicitud estadoAnterior() {
+        return anterior != null ? anterior.estado() : null;
+    }
+
+    /**
+     * Lo que la solicitud aportaba a los conteos antes del cambio. Se toma antes de modificar la entidad,
+     * porque después del commit la entidad ya tiene los valores nuevos.
+     */
+    public record Anterior(EstadoSolicitud estado, Long clienteId, Long tecnicoId) {
+
+        public static Anterior de(Solicitud solicitud) {
+            return new Anterior(solicitud.getEstado(),
+                    solicitud.getCliente() != null ? solicitud.getCliente().getId() : null,
+                    solicitud.getTecnicoAsignado() != null ? solicitud.getTecnicoAsignado().getId() : null);
+        }
+    }
+}
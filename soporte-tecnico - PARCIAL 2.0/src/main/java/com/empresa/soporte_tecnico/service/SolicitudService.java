@@ -1,12 +1,30 @@
 package com.empresa.soporte_tecnico.service;
 
+import com.empresa.soporte_tecnico.dto.ConteoEstadoDto;
+import com.empresa.soporte_tecnico.dto.EstadisticasDto;
+import com.empresa.soporte_tecnico.dto.FiltroSolicitudDto;
+import com.empresa.soporte_tecnico.dto.ResultadoBusquedaDto;
+import com.empresa.soporte_tecnico.dto.ResultadoLoteDto;
+import com.empresa.soporte_tecnico.dto.SolicitudResumenDto;
+import com.empresa.soporte_tecnico.model.CambioSolicitud;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
 import com.empresa.soporte_tecnico.model.Solicitud;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface SolicitudService {
     Solicitud crearSolicitud(Solicitud solicitud);
-    List<Solicitud> obtenerSolicitudes();
+    List<ResultadoLoteDto> crearSolicitudesEnLote(List<Solicitud> solicitudes);
+    List<Solicitud> obtenerSolicitudes(FiltroSolicitudDto filtro, Long cursor, int limite);
+    List<SolicitudResumenDto> obtenerResumenes(FiltroSolicitudDto filtro, Long cursor, int limite);
+    List<ResultadoBusquedaDto> buscarSolicitudes(String texto, EstadoSolicitud estado, int desplazamiento, int limite);
+    List<ConteoEstadoDto> contarPorEstado();
+    EstadisticasDto calcularEstadisticas();
     Solicitud obtenerPorId(Long id);
+    Long obtenerVersion(Long id);
     Solicitud actualizarSolicitud(Long id, Solicitud solicitud);
+    Solicitud modificarSolicitud(Long id, Solicitud cambios);
     void eliminarSolicitud(Long id);
+    List<CambioSolicitud> obtenerHistorial(Long solicitudId, Long cursor, int limite);
+    long exportarSolicitudes(Consumer<Solicitud> consumidor);
 }
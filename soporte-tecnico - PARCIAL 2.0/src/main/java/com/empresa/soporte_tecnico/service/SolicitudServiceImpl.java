@@ -1,44 +1,107 @@
 package com.empresa.soporte_tecnico.service;
 
+import com.empresa.soporte_tecnico.config.RequestIdFilter;
+import com.empresa.soporte_tecnico.dto.ConteoEstadoDto;
+import com.empresa.soporte_tecnico.dto.EstadisticasDto;
+import com.empresa.soporte_tecnico.dto.FiltroSolicitudDto;
+import com.empresa.soporte_tecnico.dto.ResultadoBusquedaDto;
+import com.empresa.soporte_tecnico.dto.ResultadoLoteDto;
+import com.empresa.soporte_tecnico.dto.SolicitudResumenDto;
+import com.empresa.soporte_tecnico.model.CambioSolicitud;
 import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
 import com.empresa.soporte_tecnico.model.Solicitud;
 import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.model.TipoCambio;
+import com.empresa.soporte_tecnico.repository.CambioSolicitudRepository;
 import com.empresa.soporte_tecnico.repository.ClienteRepository;
 import com.empresa.soporte_tecnico.repository.SolicitudRepository;
 import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
+// Un timer por método (tags class y method) en soporte.servicio.solicitudes
+@Timed("soporte.servicio.solicitudes")
 public class SolicitudServiceImpl implements SolicitudService {
 
+    // Cada cuántas filas exportadas se vacía el contexto de persistencia
+    private static final int FILAS_POR_LIMPIEZA = 1_000;
+    // Autor de los cambios hechos fuera de una petición HTTP (tareas programadas, ingesta)
+    private static final String USUARIO_SISTEMA = "sistema";
+
     private final SolicitudRepository solicitudRepository;
     private final ClienteRepository clienteRepository;
     private final TecnicoRepository tecnicoRepository;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final MotorAsignacion motorAsignacion;
+    private final EscaladorSla escaladorSla;
+    private final CambioSolicitudRepository cambioSolicitudRepository;
+    private final ApplicationEventPublisher eventos;
 
     @Autowired
     public SolicitudServiceImpl(SolicitudRepository solicitudRepository,
                                 ClienteRepository clienteRepository,
-                                TecnicoRepository tecnicoRepository) {
+                                TecnicoRepository tecnicoRepository,
+                                Validator validator,
+                                EntityManager entityManager,
+                                MotorAsignacion motorAsignacion,
+                                EscaladorSla escaladorSla,
+                                CambioSolicitudRepository cambioSolicitudRepository,
+                                ApplicationEventPublisher eventos) {
         this.solicitudRepository = solicitudRepository;
         this.clienteRepository = clienteRepository;
         this.tecnicoRepository = tecnicoRepository;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.motorAsignacion = motorAsignacion;
+        this.escaladorSla = escaladorSla;
+        this.cambioSolicitudRepository = cambioSolicitudRepository;
+        this.eventos = eventos;
     }
 
     @Override
+    @Transactional
     public Solicitud crearSolicitud(Solicitud solicitud) {
         try {
-            // 🟢 Logs para depuración
-            System.out.println("=== Datos recibidos en crearSolicitud() ===");
-            System.out.println("Descripción: " + solicitud.getDescripcion());
-            System.out.println("Cliente: " + (solicitud.getCliente() != null ? solicitud.getCliente().getId() : "null"));
-            System.out.println("Técnico: " + (solicitud.getTecnicoAsignado() != null ? solicitud.getTecnicoAsignado().getId() : "null"));
-            System.out.println("Estado: " + solicitud.getEstado());
-            System.out.println("===========================================");
+            // 🟢 Log de depuración: parametrizado, solo se formatea si el nivel DEBUG está activo
+            if (log.isDebugEnabled()) {
+                log.debug("crearSolicitud: clienteId={}, tecnicoId={}, estado={}, descripcion={}",
+                        solicitud.getCliente() != null ? solicitud.getCliente().getId() : null,
+                        solicitud.getTecnicoAsignado() != null ? solicitud.getTecnicoAsignado().getId() : null,
+                        solicitud.getEstado(),
+                        solicitud.getDescripcion());
+            }
             // Verificar que el cliente venga con ID
             if (solicitud.getCliente() == null || solicitud.getCliente().getId() == null) {
                 throw new ResponseStatusException(
@@ -67,9 +130,18 @@ public class SolicitudServiceImpl implements SolicitudService {
                 solicitud.setTecnicoAsignado(null);
             }
 
-            // Asignar estado por defecto si no viene
-            if (solicitud.getEstado() == null || solicitud.getEstado().isEmpty()) {
-                solicitud.setEstado("Pendiente");
+            // La versión la asigna Hibernate: con un valor previo, save() intentaría un merge
+            solicitud.setVersion(null);
+
+            // Sin técnico, el motor elige el de menor carga y le reserva el cupo en el acto; si la
+            // transacción no se confirma, el cupo se devuelve
+            Long reservado = elegirTecnico(solicitud);
+            Transacciones.alRevertir(() -> motorAsignacion.liberar(reservado));
+
+            // Estado inicial: Pendiente, o Asignada si ya viene con técnico
+            String errorEstado = prepararEstadoInicial(solicitud);
+            if (errorEstado != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, errorEstado);
             }
 
             // 🔥 Verificación final
@@ -79,12 +151,22 @@ public class SolicitudServiceImpl implements SolicitudService {
                         "Debe asociarse un cliente válido"
                 );
             }
+            sellarAlta(solicitud);
 
-            return solicitudRepository.save(solicitud);
+            // Con flush, un INSERT rechazado (validación o restricción de la BD) falla acá y no en el commit,
+            // fuera de este try
+            Solicitud creada = solicitudRepository.saveAndFlush(solicitud);
+            // El técnico elegido a mano suma carga recién cuando el alta queda confirmada
+            Long aMano = tecnicoElegidoAMano(creada, reservado);
+            Transacciones.alConfirmar(() -> motorAsignacion.sumar(aMano));
+            log.debug("Solicitud {} creada para el cliente {}", creada.getId(), cliente.getId());
+            eventos.publishEvent(new SolicitudEvento(SolicitudEvento.Tipo.CREADA, creada, null));
+            return creada;
 
         } catch (ResponseStatusException ex) {
             throw ex;
         } catch (Exception ex) {
+            log.error("Error al crear la solicitud", ex);
             throw new ResponseStatusException(
                     HttpStatus.INTERNAL_SERVER_ERROR,
                     "Error al crear la solicitud: " + ex.getMessage(),
@@ -93,15 +175,298 @@ public class SolicitudServiceImpl implements SolicitudService {
         }
     }
 
+    @Override
+    @Transactional
+    public List<ResultadoLoteDto> crearSolicitudesEnLote(List<Solicitud> solicitudes) {
+        // 1) Resolver todos los clientes y técnicos referenciados con una sola consulta IN por tabla
+        Set<Long> clienteIds = new HashSet<>();
+        Set<Long> tecnicoIds = new HashSet<>();
+        for (Solicitud solicitud : solicitudes) {
+            if (solicitud.getCliente() != null && solicitud.getCliente().getId() != null) {
+                clienteIds.add(solicitud.getCliente().getId());
+            }
+            if (solicitud.getTecnicoAsignado() != null && solicitud.getTecnicoAsignado().getId() != null) {
+                tecnicoIds.add(solicitud.getTecnicoAsignado().getId());
+            }
+        }
+        Map<Long, Cliente> clientes = clienteRepository.findAllById(clienteIds).stream()
+                .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+        Map<Long, Tecnico> tecnicos = tecnicoRepository.findAllById(tecnicoIds).stream()
+                .collect(Collectors.toMap(Tecnico::getId, Function.identity()));
+
+        // 2) Validar el lote completo antes de insertar nada
+        List<ResultadoLoteDto> resultados = new ArrayList<>(solicitudes.size());
+        List<Solicitud> validas = new ArrayList<>();
+        List<ResultadoLoteDto> resultadosValidas = new ArrayList<>();
+        List<Long> reservas = new ArrayList<>();
+        List<Long> elegidosAMano = new ArrayList<>();
+        Transacciones.alRevertir(() -> reservas.forEach(motorAsignacion::liberar));
+        Transacciones.alConfirmar(() -> elegidosAMano.forEach(motorAsignacion::sumar));
+        for (int i = 0; i < solicitudes.size(); i++) {
+            Solicitud solicitud = solicitudes.get(i);
+            String error = prepararFilaLote(solicitud, clientes, tecnicos, reservas, elegidosAMano);
+            if (error != null) {
+                resultados.add(ResultadoLoteDto.rechazada(i, error));
+                continue;
+            }
+            ResultadoLoteDto resultado = ResultadoLoteDto.creada(i);
+            resultados.add(resultado);
+            validas.add(solicitud);
+            resultadosValidas.add(resultado);
+        }
+
+        // 3) Insertar las filas válidas: con la secuencia pooled y hibernate.jdbc.batch_size
+        //    los INSERT se envían en lotes JDBC al hacer commit
+        solicitudRepository.saveAll(validas);
+        for (int i = 0; i < validas.size(); i++) {
+            resultadosValidas.get(i).setId(validas.get(i).getId());
+            eventos.publishEvent(new SolicitudEvento(SolicitudEvento.Tipo.CREADA, validas.get(i), null));
+        }
+        return resultados;
+    }
+
+    // Devuelve el motivo de rechazo de la fila, o null si la fila es válida y quedó lista para insertar.
+    // El técnico que el motor reservó para una fila válida va a "reservas", para devolverlo si el lote no se
+    // confirma; el elegido a mano va a "elegidosAMano", que se suman recién al confirmar
+    private String prepararFilaLote(Solicitud solicitud, Map<Long, Cliente> clientes, Map<Long, Tecnico> tecnicos,
+                                    List<Long> reservas, List<Long> elegidosAMano) {
+        if (solicitud == null) {
+            return "Fila vacía";
+        }
+        if (solicitud.getCliente() == null || solicitud.getCliente().getId() == null) {
+            return "Debe especificar el ID del cliente";
+        }
+        Cliente cliente = clientes.get(solicitud.getCliente().getId());
+        if (cliente == null) {
+            return "Cliente no encontrado con id " + solicitud.getCliente().getId();
+        }
+        solicitud.setCliente(cliente);
+
+        if (solicitud.getTecnicoAsignado() != null && solicitud.getTecnicoAsignado().getId() != null) {
+            Tecnico tecnico = tecnicos.get(solicitud.getTecnicoAsignado().getId());
+            if (tecnico == null) {
+                return "Técnico no encontrado con id " + solicitud.getTecnicoAsignado().getId();
+            }
+            solicitud.setTecnicoAsignado(tecnico);
+        } else {
+            solicitud.setTecnicoAsignado(null);
+        }
+
+        Long reservado = elegirTecnico(solicitud);
+        String error = prepararEstadoInicial(solicitud);
+        if (error == null) {
+            solicitud.setId(null);
+            solicitud.setVersion(null);
+            sellarAlta(solicitud);
+            Set<ConstraintViolation<Solicitud>> violaciones = validator.validate(solicitud);
+            if (!violaciones.isEmpty()) {
+                error = violaciones.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            }
+        }
+        if (error != null) {
+            motorAsignacion.liberar(reservado);
+        } else if (reservado != null) {
+            reservas.add(reservado);
+        } else if (solicitud.getTecnicoAsignado() != null) {
+            elegidosAMano.add(solicitud.getTecnicoAsignado().getId());
+        }
+        return error;
+    }
+
+    // Si la solicitud no trae técnico, el motor elige el de menor carga con la especialidad pedida y le suma
+    // la solicitud en el acto, para que dos altas simultáneas no elijan al mismo. Devuelve el ID reservado
+    // (o null si no hubo elección automática) para liberarlo si la solicitud no se guarda.
+    private Long elegirTecnico(Solicitud solicitud) {
+        if (solicitud.getTecnicoAsignado() != null) {
+            return null;
+        }
+        EstadoSolicitud estado = solicitud.getEstado();
+        if (estado != null && estado != EstadoSolicitud.PENDIENTE && estado != EstadoSolicitud.ASIGNADA) {
+            return null;
+        }
+        Optional<Long> elegido = motorAsignacion.asignar(solicitud.getEspecialidad());
+        if (elegido.isEmpty()) {
+            return null;
+        }
+        Optional<Tecnico> tecnico = tecnicoRepository.findById(elegido.get());
+        if (tecnico.isEmpty()) {
+            // El técnico se borró sin pasar por el motor: se lo quita y la solicitud queda Pendiente
+            motorAsignacion.quitarTecnico(elegido.get());
+            return null;
+        }
+        solicitud.setTecnicoAsignado(tecnico.get());
+        log.debug("Técnico {} asignado automáticamente (especialidad {})", elegido.get(), solicitud.getEspecialidad());
+        return elegido.get();
+    }
+
+    // Técnico que la solicitud trae desde el pedido (no elegido por el motor); null si no trae ninguno
+    private static Long tecnicoElegidoAMano(Solicitud solicitud, Long reservado) {
+        return reservado == null && solicitud.getTecnicoAsignado() != null ? solicitud.getTecnicoAsignado().getId() : null;
+    }
+
+    // Técnico que cuenta la solicitud en el motor: solo las abiertas con técnico suman carga
+    private static Long tecnicoConCarga(EstadoSolicitud estado, Tecnico tecnico) {
+        return estado.esAbierto() && tecnico != null ? tecnico.getId() : null;
+    }
+
+    // Una solicitud nueva solo puede nacer Pendiente o Asignada; devuelve el motivo si el estado pedido no es válido
+    private String prepararEstadoInicial(Solicitud solicitud) {
+        boolean conTecnico = solicitud.getTecnicoAsignado() != null;
+        EstadoSolicitud estado = solicitud.getEstado();
+        if (estado == null || estado == EstadoSolicitud.PENDIENTE) {
+            solicitud.setEstado(conTecnico ? EstadoSolicitud.ASIGNADA : EstadoSolicitud.PENDIENTE);
+            return null;
+        }
+        if (estado != EstadoSolicitud.ASIGNADA) {
+            return "Una solicitud nueva debe comenzar en estado Pendiente o Asignada, no " + estado;
+        }
+        if (!conTecnico) {
+            return "El estado Asignada requiere un técnico asignado";
+        }
+        return null;
+    }
+
+    // Fecha de alta y plazo de SLA inicial; la asignación cuenta desde el alta si ya nace con técnico
+    private void sellarAlta(Solicitud solicitud) {
+        Instant ahora = ahora();
+        solicitud.setCreadaEn(ahora);
+        solicitud.setAsignadaEn(solicitud.getTecnicoAsignado() != null ? ahora : null);
+        solicitud.setResueltaEn(null);
+        solicitud.setSlaIncumplidoEn(null);
+        solicitud.setVenceSlaEn(escaladorSla.plazo(solicitud));
+    }
+
+    // Marcas de los cambios de fase y plazo de SLA que corresponde después del cambio. Si nada cambia,
+    // los valores quedan iguales y no suman columnas al UPDATE
+    private void sellarCambio(Solicitud actual, EstadoSolicitud estadoAnterior) {
+        Instant ahora = ahora();
+        if (actual.getAsignadaEn() == null && actual.getTecnicoAsignado() != null) {
+            actual.setAsignadaEn(ahora);
+        }
+        if (actual.getEstado().esAbierto() != estadoAnterior.esAbierto()) {
+            actual.setResueltaEn(actual.getEstado().esAbierto() ? null : ahora);
+        }
+        actual.setVenceSlaEn(escaladorSla.plazo(actual));
+    }
+
+    // Una fila de historial por campo que cambió. Se insertan al confirmar, en el mismo lote JDBC y la misma
+    // transacción que el UPDATE de la solicitud, con IDs de la secuencia pooled: no agregan consultas
+    private void registrarCambios(Solicitud actual, SolicitudEvento.Anterior anterior,
+                                  String descripcionAnterior, String especialidadAnterior) {
+        Instant ahora = ahora();
+        String usuario = usuarioDeclarado();
+        Long clienteNuevo = actual.getCliente() != null ? actual.getCliente().getId() : null;
+        Long tecnicoNuevo = actual.getTecnicoAsignado() != null ? actual.getTecnicoAsignado().getId() : null;
+
+        List<CambioSolicitud> cambios = new ArrayList<>();
+        if (anterior.estado() != actual.getEstado()) {
+            cambios.add(cambio(actual.getId(), ahora, usuario, TipoCambio.ESTADO, anterior.estado(), actual.getEstado()));
+        }
+        if (!Objects.equals(anterior.tecnicoId(), tecnicoNuevo)) {
+            cambios.add(cambio(actual.getId(), ahora, usuario, TipoCambio.TECNICO, anterior.tecnicoId(), tecnicoNuevo));
+        }
+        if (!Objects.equals(anterior.clienteId(), clienteNuevo)) {
+            cambios.add(cambio(actual.getId(), ahora, usuario, TipoCambio.CLIENTE, anterior.clienteId(), clienteNuevo));
+        }
+        if (!Objects.equals(especialidadAnterior, actual.getEspecialidad())) {
+            cambios.add(cambio(actual.getId(), ahora, usuario, TipoCambio.ESPECIALIDAD,
+                    especialidadAnterior, actual.getEspecialidad()));
+        }
+        if (!Objects.equals(descripcionAnterior, actual.getDescripcion())) {
+            cambios.add(cambio(actual.getId(), ahora, usuario, TipoCambio.DESCRIPCION, null, null));
+        }
+        if (!cambios.isEmpty()) {
+            cambioSolicitudRepository.saveAll(cambios);
+        }
+    }
+
+    private static CambioSolicitud cambio(Long solicitudId, Instant ahora, String usuario, TipoCambio tipo,
+                                          Object anterior, Object nuevo) {
+        return new CambioSolicitud(null, solicitudId, ahora, usuario, tipo,
+                anterior != null ? anterior.toString() : null,
+                nuevo != null ? nuevo.toString() : null);
+    }
+
+    // Lo deja RequestIdFilter en el MDC del hilo de la petición. Es el que declara el cliente, sin autenticar
+    private static String usuarioDeclarado() {
+        String usuario = MDC.get(RequestIdFilter.CLAVE_MDC_USUARIO_DECLARADO);
+        return usuario != null ? usuario : USUARIO_SISTEMA;
+    }
+
+    // Con la precisión de las columnas: lo que queda en la entidad es lo mismo que se lee después de la BD
+    private static Instant ahora() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Solicitud> obtenerSolicitudes(FiltroSolicitudDto filtro, Long cursor, int limite) {
+        return solicitudRepository.buscarPagina(filtro, cursor, limite);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SolicitudResumenDto> obtenerResumenes(FiltroSolicitudDto filtro, Long cursor, int limite) {
+        return solicitudRepository.buscarResumenes(filtro, cursor, limite);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResultadoBusquedaDto> buscarSolicitudes(String texto, EstadoSolicitud estado, int desplazamiento, int limite) {
+        return solicitudRepository.buscarTexto(texto, estado, desplazamiento, limite);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ConteoEstadoDto> contarPorEstado() {
+        // Se completan con 0 los estados sin solicitudes para que el tablero siempre reciba los cinco
+        Map<EstadoSolicitud, Long> totales = new EnumMap<>(EstadoSolicitud.class);
+        for (EstadoSolicitud estado : EstadoSolicitud.values()) {
+            totales.put(estado, 0L);
+        }
+        for (ConteoEstadoDto conteo : solicitudRepository.contarPorEstado()) {
+            totales.put(conteo.getEstado(), conteo.getTotal());
+        }
+        return totales.entrySet().stream()
+                .map(total -> new ConteoEstadoDto(total.getKey(), total.getValue()))
+                .toList();
+    }
 
     @Override
-    public List<Solicitud> obtenerSolicitudes() {
-        return solicitudRepository.findAll();
+    @Transactional(readOnly = true)
+    public EstadisticasDto calcularEstadisticas() {
+        // Tres GROUP BY sobre índices en una misma transacción de lectura (en MySQL, la misma foto de datos)
+        List<ConteoEstadoDto> porEstado = contarPorEstado();
+        long abiertas = porEstado.stream()
+                .filter(conteo -> conteo.getEstado().esAbierto())
+                .mapToLong(ConteoEstadoDto::getTotal)
+                .sum();
+        return EstadisticasDto.builder()
+                .fuente(EstadisticasDto.FUENTE_BD)
+                .porEstado(porEstado)
+                .abiertas(abiertas)
+                .abiertasPorTecnico(solicitudRepository.contarPorTecnico(EstadoSolicitud.abiertos()))
+                .abiertasPorCliente(solicitudRepository.contarPorCliente(EstadoSolicitud.abiertos()))
+                .build();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Solicitud obtenerPorId(Long id) {
-        return solicitudRepository.findById(id)
+        return solicitudRepository.findConDetalleById(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Solicitud no encontrada con id " + id
+                ));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long obtenerVersion(Long id) {
+        return solicitudRepository.buscarVersion(id)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
                         "Solicitud no encontrada con id " + id
@@ -109,33 +474,148 @@ public class SolicitudServiceImpl implements SolicitudService {
     }
 
     @Override
+    @Transactional
     public Solicitud actualizarSolicitud(Long id, Solicitud solicitud) {
-        if (!solicitudRepository.existsById(id)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Solicitud no encontrada con id " + id);
+        // PUT: reemplaza descripción, técnico y especialidad; cliente y estado se conservan si no vienen
+        return aplicarCambios(id, solicitud, false);
+    }
+
+    @Override
+    @Transactional
+    public Solicitud modificarSolicitud(Long id, Solicitud cambios) {
+        // PATCH: solo se aplican los campos informados
+        return aplicarCambios(id, cambios, true);
+    }
+
+    // Carga la solicitud (con cliente y técnico en la misma consulta) y copia los cambios sobre la entidad
+    // administrada: al confirmar, Hibernate emite un único UPDATE con las columnas modificadas
+    // (@DynamicUpdate) y "WHERE version = ?", así dos escrituras concurrentes no se pisan en silencio
+    private Solicitud aplicarCambios(Long id, Solicitud cambios, boolean parcial) {
+        Solicitud actual = solicitudRepository.findConDetalleById(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Solicitud no encontrada con id " + id
+                ));
+
+        // Si el cliente envía la versión que leyó y ya no es la vigente, otro usuario la modificó antes
+        if (cambios.getVersion() != null && !cambios.getVersion().equals(actual.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Solicitud.class, id);
+        }
+
+        SolicitudEvento.Anterior anterior = SolicitudEvento.Anterior.de(actual);
+        EstadoSolicitud estadoAnterior = actual.getEstado();
+        String descripcionAnterior = actual.getDescripcion();
+        String especialidadAnterior = actual.getEspecialidad();
+        Long tecnicoAnterior = tecnicoConCarga(estadoAnterior, actual.getTecnicoAsignado());
+        Long tecnicoIdAnterior = actual.getTecnicoAsignado() != null ? actual.getTecnicoAsignado().getId() : null;
+
+        if (!parcial || cambios.getDescripcion() != null) {
+            if (cambios.getDescripcion() == null || cambios.getDescripcion().isBlank()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "La descripción es obligatoria");
+            }
+            actual.setDescripcion(cambios.getDescripcion());
+        }
+        if (!parcial || cambios.getEspecialidad() != null) {
+            actual.setEspecialidad(cambios.getEspecialidad());
         }
 
         // Revalidar cliente y técnico antes de actualizar
-        if (solicitud.getCliente() != null && solicitud.getCliente().getId() != null) {
-            Cliente cliente = clienteRepository.findById(solicitud.getCliente().getId())
+        if (cambios.getCliente() != null && cambios.getCliente().getId() != null) {
+            Cliente cliente = clienteRepository.findById(cambios.getCliente().getId())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Cliente no encontrado"));
-            solicitud.setCliente(cliente);
+            actual.setCliente(cliente);
         }
 
-        if (solicitud.getTecnicoAsignado() != null && solicitud.getTecnicoAsignado().getId() != null) {
-            Tecnico tecnico = tecnicoRepository.findById(solicitud.getTecnicoAsignado().getId())
+        if (cambios.getTecnicoAsignado() != null && cambios.getTecnicoAsignado().getId() != null) {
+            Tecnico tecnico = tecnicoRepository.findById(cambios.getTecnicoAsignado().getId())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Técnico no encontrado"));
-            solicitud.setTecnicoAsignado(tecnico);
+            actual.setTecnicoAsignado(tecnico);
+        } else if (!parcial) {
+            actual.setTecnicoAsignado(null);
+        }
+
+        // Si no se envía estado se conserva el actual; si se envía, debe ser una transición permitida
+        EstadoSolicitud destino = cambios.getEstado() != null ? cambios.getEstado() : estadoAnterior;
+        validarTransicion(estadoAnterior, destino, actual.getTecnicoAsignado() != null);
+        actual.setEstado(destino);
+        sellarCambio(actual, estadoAnterior);
+        registrarCambios(actual, anterior, descripcionAnterior, especialidadAnterior);
+
+        // La carga del motor se mueve recién cuando el cambio queda confirmado
+        Long tecnicoNuevo = tecnicoConCarga(destino, actual.getTecnicoAsignado());
+        if (!Objects.equals(tecnicoAnterior, tecnicoNuevo)) {
+            Transacciones.alConfirmar(() -> {
+                motorAsignacion.liberar(tecnicoAnterior);
+                motorAsignacion.sumar(tecnicoNuevo);
+            });
         }
 
-        solicitud.setId(id);
-        return solicitudRepository.save(solicitud);
+        // Los suscriptores lo reciben recién después del commit, con la versión ya incrementada
+        Long tecnicoIdNuevo = actual.getTecnicoAsignado() != null ? actual.getTecnicoAsignado().getId() : null;
+        SolicitudEvento.Tipo tipo = Objects.equals(tecnicoIdAnterior, tecnicoIdNuevo)
+                ? SolicitudEvento.Tipo.ACTUALIZADA
+                : SolicitudEvento.Tipo.ASIGNADA;
+        eventos.publishEvent(new SolicitudEvento(tipo, actual, anterior));
+
+        // Sin save(): la entidad está administrada y el UPDATE sale por dirty checking al confirmar,
+        // que además deja en "actual" la versión incrementada
+        return actual;
+    }
+
+    private void validarTransicion(EstadoSolicitud origen, EstadoSolicitud destino, boolean conTecnico) {
+        if (!origen.puedePasarA(destino)) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "Transición de estado no permitida: " + origen + " → " + destino
+            );
+        }
+        if (destino.requiereTecnico() && !conTecnico) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "El estado " + destino + " requiere un técnico asignado"
+            );
+        }
     }
 
     @Override
+    @Transactional
     public void eliminarSolicitud(Long id) {
-        if (!solicitudRepository.existsById(id)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Solicitud no encontrada con id " + id);
+        Solicitud actual = solicitudRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Solicitud no encontrada con id " + id
+                ));
+        Long tecnico = tecnicoConCarga(actual.getEstado(), actual.getTecnicoAsignado());
+        solicitudRepository.delete(actual);
+        // El historial no se borra: queda la baja como último cambio
+        cambioSolicitudRepository.save(
+                cambio(id, ahora(), usuarioDeclarado(), TipoCambio.ELIMINADA, actual.getEstado(), null));
+        Transacciones.alConfirmar(() -> motorAsignacion.liberar(tecnico));
+        eventos.publishEvent(new SolicitudEvento(SolicitudEvento.Tipo.ELIMINADA, actual, SolicitudEvento.Anterior.de(actual)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CambioSolicitud> obtenerHistorial(Long solicitudId, Long cursor, int limite) {
+        // Sin comprobar que la solicitud exista: el historial de una eliminada sigue disponible
+        return cambioSolicitudRepository.findBySolicitudIdAndIdGreaterThanOrderByIdAsc(
+                solicitudId, cursor != null ? cursor : 0L, Limit.of(limite));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportarSolicitudes(Consumer<Solicitud> consumidor) {
+        long total = 0;
+        try (Stream<Solicitud> filas = solicitudRepository.streamTodas()) {
+            Iterator<Solicitud> iterador = filas.iterator();
+            while (iterador.hasNext()) {
+                consumidor.accept(iterador.next());
+                // Se sueltan las entidades ya escritas para que la memoria no crezca con la tabla
+                if (++total % FILAS_POR_LIMPIEZA == 0) {
+                    entityManager.clear();
+                }
+            }
         }
-        solicitudRepository.deleteById(id);
+        return total;
     }
 }
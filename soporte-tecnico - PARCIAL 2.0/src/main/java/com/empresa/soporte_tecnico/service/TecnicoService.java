@@ -0,0 +1,17 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.model.Tecnico;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TecnicoService {
+    Tecnico crearTecnico(Tecnico tecnico);
+    Slice<Tecnico> listarTecnicos(String prefijo, Pageable pagina);
+    List<Tecnico> obtenerPorIds(Collection<Long> ids);
+    Tecnico obtenerPorId(Long id);
+    Tecnico actualizarTecnico(Long id, Tecnico tecnico);
+    void eliminarTecnico(Long id);
+}
@@ -0,0 +1,99 @@
+package com.empresa.soporte_tecnico.service;
+
+import com.empresa.soporte_tecnico.config.CacheConfig;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class TecnicoServiceImpl implements TecnicoService {
+
+    private final TecnicoRepository tecnicoRepository;
+    private final MotorAsignacion motorAsignacion;
+
+    public TecnicoServiceImpl(TecnicoRepository tecnicoRepository, MotorAsignacion motorAsignacion) {
+        this.tecnicoRepository = tecnicoRepository;
+        this.motorAsignacion = motorAsignacion;
+    }
+
+    @Override
+    @Transactional
+    public Tecnico crearTecnico(Tecnico tecnico) {
+        tecnico.setId(null);
+        Tecnico creado = tecnicoRepository.save(tecnico);
+        // El motor lo ofrece para asignaciones recién cuando el alta queda confirmada
+        Transacciones.alConfirmar(() -> motorAsignacion.registrarTecnico(creado.getId(), creado.getEspecialidad()));
+        return creado;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Tecnico> listarTecnicos(String prefijo, Pageable pagina) {
+        if (prefijo == null || prefijo.isBlank()) {
+            return tecnicoRepository.findAllBy(pagina);
+        }
+        String texto = prefijo.trim();
+        return tecnicoRepository.findByNombreStartingWithOrEspecialidadStartingWith(texto, texto, pagina);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Tecnico> obtenerPorIds(Collection<Long> ids) {
+        // Una sola consulta IN; el resultado se devuelve en el orden de "ids"
+        Map<Long, Tecnico> encontrados = tecnicoRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Tecnico::getId, Function.identity()));
+        return ids.stream()
+                .map(encontrados::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Tecnico obtenerPorId(Long id) {
+        return tecnicoRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Técnico no encontrado con id " + id
+                ));
+    }
+
+    @Override
+    @Transactional
+    // El desalojo se aplica al confirmar la transacción (la caché es transaccional, ver CacheConfig)
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TECNICOS, key = "#id")
+    public Tecnico actualizarTecnico(Long id, Tecnico cambios) {
+        // Una sola lectura; Hibernate escribe el UPDATE al confirmar, y solo si algún campo cambió
+        Tecnico tecnico = buscarParaModificar(id);
+        tecnico.setNombre(cambios.getNombre());
+        tecnico.setEspecialidad(cambios.getEspecialidad());
+        String especialidad = tecnico.getEspecialidad();
+        Transacciones.alConfirmar(() -> motorAsignacion.registrarTecnico(id, especialidad));
+        return tecnico;
+    }
+
+    @Override
+    @Transactional
+    public void eliminarTecnico(Long id) {
+        tecnicoRepository.delete(buscarParaModificar(id));
+        Transacciones.alConfirmar(() -> motorAsignacion.quitarTecnico(id));
+    }
+
+    private Tecnico buscarParaModificar(Long id) {
+        return tecnicoRepository.buscarParaModificar(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Técnico no encontrado con id " + id));
+    }
+}
@@ -0,0 +1,42 @@
+package com.empresa.soporte_tecnico.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Acciones en memoria (contadores del motor de asignación) atadas al resultado de la transacción actual.
+ */
+final class Transacciones {
+
+    private Transacciones() {
+    }
+
+    // Ejecuta la acción solo cuando la transacción actual se confirma (o en el acto si no hay transacción)
+    static void alConfirmar(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+
+    // Ejecuta la acción si la transacción actual termina sin confirmarse
+    static void alRevertir(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int estado) {
+                if (estado != STATUS_COMMITTED) {
+                    accion.run();
+                }
+            }
+        });
+    }
+}
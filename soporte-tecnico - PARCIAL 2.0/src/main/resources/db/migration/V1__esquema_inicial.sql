@@ -0,0 +1,42 @@
+-- Esquema inicial: clientes, técnicos y solicitudes
+
+CREATE TABLE clientes (
+    id      BIGINT       NOT NULL AUTO_INCREMENT,
+    nombre  VARCHAR(100) NOT NULL,
+    correo  VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_clientes_correo UNIQUE (correo)
+);
+
+CREATE TABLE tecnicos (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    nombre        VARCHAR(100) NOT NULL,
+    especialidad  VARCHAR(100),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE solicitudes (
+    id           BIGINT       NOT NULL,
+    descripcion  VARCHAR(500) NOT NULL,
+    estado       VARCHAR(50)  NOT NULL,
+    cliente_id   BIGINT       NOT NULL,
+    tecnico_id   BIGINT,
+    PRIMARY KEY (id)
+);
+
+-- Los índices se crean antes que las claves foráneas para que MySQL los reutilice
+CREATE INDEX idx_solicitudes_estado ON solicitudes (estado);
+CREATE INDEX idx_solicitudes_cliente ON solicitudes (cliente_id);
+CREATE INDEX idx_solicitudes_tecnico ON solicitudes (tecnico_id);
+
+ALTER TABLE solicitudes
+    ADD CONSTRAINT fk_solicitudes_cliente FOREIGN KEY (cliente_id) REFERENCES clientes (id);
+ALTER TABLE solicitudes
+    ADD CONSTRAINT fk_solicitudes_tecnico FOREIGN KEY (tecnico_id) REFERENCES tecnicos (id);
+
+-- MySQL no tiene secuencias: Hibernate emula "solicitudes_seq" con una tabla de una fila
+-- (optimizador pooled, reserva bloques de 50 IDs)
+CREATE TABLE solicitudes_seq (
+    next_val BIGINT
+);
+INSERT INTO solicitudes_seq VALUES (1);
@@ -0,0 +1,17 @@
+-- El estado deja de ser texto libre: pasa a un código smallint (ver EstadoSolicitud)
+-- y el índice simple sobre estado se reemplaza por uno compuesto (estado, tecnico_id)
+
+DROP INDEX idx_solicitudes_estado ON solicitudes;
+
+-- Los textos conocidos se traducen a su código; cualquier otro valor vuelve a Pendiente
+UPDATE solicitudes SET estado = CASE LOWER(REPLACE(REPLACE(estado, ' ', ''), '_', ''))
+    WHEN 'asignada'   THEN '1'
+    WHEN 'enprogreso' THEN '2'
+    WHEN 'resuelta'   THEN '3'
+    WHEN 'cerrada'    THEN '4'
+    ELSE '0'
+END;
+
+ALTER TABLE solicitudes MODIFY COLUMN estado SMALLINT NOT NULL;
+
+CREATE INDEX idx_solicitudes_estado_tecnico ON solicitudes (estado, tecnico_id);
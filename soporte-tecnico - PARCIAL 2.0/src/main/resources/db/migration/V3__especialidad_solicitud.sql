@@ -0,0 +1,2 @@
+-- Especialidad requerida por la solicitud, usada por la asignación automática de técnicos
+ALTER TABLE solicitudes ADD COLUMN especialidad VARCHAR(100);
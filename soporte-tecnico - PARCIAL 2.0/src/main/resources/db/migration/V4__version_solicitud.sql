@@ -0,0 +1,2 @@
+-- Columna de bloqueo optimista (@Version) de las solicitudes
+ALTER TABLE solicitudes ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
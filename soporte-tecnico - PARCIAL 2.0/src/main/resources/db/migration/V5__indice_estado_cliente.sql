@@ -0,0 +1,2 @@
+-- Conteo de solicitudes abiertas por cliente (GET /solicitudes/estadisticas) resuelto solo con el índice
+CREATE INDEX idx_solicitudes_estado_cliente ON solicitudes (estado, cliente_id);
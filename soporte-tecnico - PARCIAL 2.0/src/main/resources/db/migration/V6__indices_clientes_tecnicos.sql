@@ -0,0 +1,4 @@
+-- Listados paginados de clientes y técnicos: búsqueda por prefijo y orden sin recorrer la tabla
+CREATE INDEX idx_clientes_nombre ON clientes (nombre);
+CREATE INDEX idx_tecnicos_nombre ON tecnicos (nombre);
+CREATE INDEX idx_tecnicos_especialidad ON tecnicos (especialidad);
@@ -0,0 +1,24 @@
+-- Marcas de tiempo y plazo de SLA de las solicitudes.
+-- DATETIME y no TIMESTAMP: TIMESTAMP no pasa de 2038-01-19 (un plazo de SLA largo llega antes) y convierte
+-- con la zona horaria de la sesión. Los Instant se guardan en UTC (hibernate.jdbc.time_zone=UTC)
+ALTER TABLE solicitudes ADD COLUMN creada_en DATETIME(6) NULL;
+ALTER TABLE solicitudes ADD COLUMN actualizada_en DATETIME(6) NULL;
+ALTER TABLE solicitudes ADD COLUMN asignada_en DATETIME(6) NULL;
+ALTER TABLE solicitudes ADD COLUMN resuelta_en DATETIME(6) NULL;
+ALTER TABLE solicitudes ADD COLUMN vence_sla_en DATETIME(6) NULL;
+ALTER TABLE solicitudes ADD COLUMN sla_incumplido_en DATETIME(6) NULL;
+
+-- Las filas existentes toman la fecha de la migración como alta: no hay otro dato del que partir.
+-- ${ahora_utc} es UTC_TIMESTAMP(6) en MySQL (ver spring.flyway.placeholders en application-prod)
+UPDATE solicitudes SET creada_en = ${ahora_utc}, actualizada_en = ${ahora_utc};
+ALTER TABLE solicitudes MODIFY COLUMN creada_en DATETIME(6) NOT NULL;
+ALTER TABLE solicitudes MODIFY COLUMN actualizada_en DATETIME(6) NOT NULL;
+
+UPDATE solicitudes SET asignada_en = creada_en WHERE tecnico_id IS NOT NULL;
+-- Resuelta (3) y Cerrada (4)
+UPDATE solicitudes SET resuelta_en = creada_en WHERE estado IN (3, 4);
+
+-- vence_sla_en queda NULL en las filas existentes: el plazo se calcula en su próxima modificación.
+-- Solo las abiertas con plazo tienen valor, así el escalador reconstruye su rueda al arrancar
+-- recorriendo este índice y no la tabla
+CREATE INDEX idx_solicitudes_vence_sla ON solicitudes (vence_sla_en);
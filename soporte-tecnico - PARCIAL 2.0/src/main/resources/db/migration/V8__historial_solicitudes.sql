@@ -0,0 +1,29 @@
+-- Historial de cambios de las solicitudes: una fila angosta por campo modificado, solo INSERT.
+-- Sin clave foránea a solicitudes: el historial se conserva tras la baja y la tabla se puede particionar
+CREATE TABLE historial_solicitudes (
+    id              BIGINT       NOT NULL,
+    solicitud_id    BIGINT       NOT NULL,
+    -- DATETIME en UTC (hibernate.jdbc.time_zone=UTC): TIMESTAMP no pasa de 2038 y la tabla se conserva años
+    registrado_en   DATETIME(6)  NOT NULL,
+    usuario         VARCHAR(64)  NOT NULL,
+    tipo            SMALLINT     NOT NULL,
+    valor_anterior  VARCHAR(100),
+    valor_nuevo     VARCHAR(100),
+    -- MySQL exige la columna de partición en cada clave única: con registrado_en en la clave primaria
+    -- la tabla se puede pasar a particiones por mes sin tocar la aplicación, por ejemplo
+    --   ALTER TABLE historial_solicitudes PARTITION BY RANGE COLUMNS (registrado_en) (
+    --       PARTITION p2026_01 VALUES LESS THAN ('2026-02-01 00:00:00'), ...,
+    --       PARTITION pmax VALUES LESS THAN (MAXVALUE));
+    -- (los límites de mes son UTC, como los valores guardados)
+    -- y los meses viejos se archivan con DROP PARTITION en lugar de un DELETE masivo
+    PRIMARY KEY (id, registrado_en)
+);
+
+-- Historial de una solicitud paginado por ID
+CREATE INDEX idx_historial_solicitud ON historial_solicitudes (solicitud_id, id);
+
+-- Secuencia emulada, igual que solicitudes_seq (optimizador pooled, bloques de 50 IDs)
+CREATE TABLE historial_solicitudes_seq (
+    next_val BIGINT
+);
+INSERT INTO historial_solicitudes_seq VALUES (1);
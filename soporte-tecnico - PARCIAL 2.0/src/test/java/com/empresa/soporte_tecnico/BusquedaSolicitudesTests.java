@@ -0,0 +1,76 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.dto.ResultadoBusquedaDto;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Las solicitudes se crean con transacciones confirmadas: el índice solo se actualiza al hacer commit.
+ * La búsqueda recorre toda la base compartida, así que las palabras buscadas solo aparecen en esta clase.
+ */
+@ContextoCompartido
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BusquedaSolicitudesTests {
+
+	@Autowired
+	private SolicitudService solicitudService;
+
+	@Autowired
+	private DatosDePrueba datos;
+
+	private Cliente cliente;
+
+	private Long fotocopiadoraId;
+
+	@BeforeAll
+	void crearSolicitudes() {
+		cliente = datos.cliente("Cliente búsqueda");
+
+		fotocopiadoraId = crear("La fotocopiadora de contabilidad no copia").getId();
+		crear("Las fotocopiadoras del segundo piso copian manchado");
+		crear("No hay conexión a la red inalámbrica");
+	}
+
+	@Test
+	void encuentraPorRaizSinTildesYOrdenaPorRelevancia() {
+		List<ResultadoBusquedaDto> resultados = solicitudService.buscarSolicitudes("FOTOCOPIADORA Contabilidad", null, 0, 10);
+
+		assertThat(resultados).hasSize(2);
+		assertThat(resultados.get(0).getId()).isEqualTo(fotocopiadoraId);
+		assertThat(resultados.get(0).getPuntaje()).isGreaterThanOrEqualTo(resultados.get(1).getPuntaje());
+		assertThat(solicitudService.buscarSolicitudes("inalambrica", null, 0, 10)).hasSize(1);
+	}
+
+	@Test
+	void paginaYFiltraPorEstado() {
+		assertThat(solicitudService.buscarSolicitudes("fotocopiadora", null, 1, 10)).hasSize(1);
+		assertThat(solicitudService.buscarSolicitudes("fotocopiadora", EstadoSolicitud.CERRADA, 0, 10)).isEmpty();
+	}
+
+	@Test
+	void reflejaLosCambiosDeDescripcion() {
+		Long id = crear("El teclado no responde").getId();
+		Solicitud cambios = new Solicitud();
+		cambios.setEstado(null);
+		cambios.setDescripcion("El plotter parpadea");
+		solicitudService.modificarSolicitud(id, cambios);
+
+		assertThat(solicitudService.buscarSolicitudes("plotter", null, 0, 10))
+				.extracting(ResultadoBusquedaDto::getId).containsExactly(id);
+		assertThat(solicitudService.buscarSolicitudes("teclado", null, 0, 10)).isEmpty();
+	}
+
+	private Solicitud crear(String descripcion) {
+		return datos.solicitud(cliente, null, descripcion);
+	}
+}
@@ -0,0 +1,97 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import com.empresa.soporte_tecnico.service.ClienteService;
+import com.empresa.soporte_tecnico.service.TecnicoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cada prueba lee primero por ID para dejar la entidad en caché y después la modifica o la borra por
+ * otro camino: la lectura siguiente tiene que ver el cambio.
+ */
+@ContextoCompartido
+class CacheEntidadesTests {
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteService clienteService;
+
+	@Autowired
+	private TecnicoService tecnicoService;
+
+	@Autowired
+	private DatosDePrueba datos;
+
+	@Test
+	void actualizarUnClienteSeVeEnLaSiguienteLectura() {
+		Cliente cliente = datos.cliente("Cliente original");
+		assertThat(clienteRepository.findById(cliente.getId())).isPresent();
+
+		Cliente cambios = new Cliente();
+		cambios.setNombre("Cliente actualizado");
+		cambios.setCorreo(cliente.getCorreo());
+		clienteService.actualizarCliente(cliente.getId(), cambios);
+
+		assertThat(clienteRepository.findById(cliente.getId()))
+				.get()
+				.extracting(Cliente::getNombre)
+				.isEqualTo("Cliente actualizado");
+	}
+
+	@Test
+	void guardarEnLoteYBorrarInvalidanLaCache() {
+		Cliente primero = datos.cliente("Primero");
+		Cliente segundo = datos.cliente("Segundo");
+		clienteRepository.findById(primero.getId());
+		clienteRepository.findById(segundo.getId());
+
+		primero.setNombre("Primero renombrado");
+		clienteRepository.saveAll(List.of(primero));
+		assertThat(clienteRepository.findById(primero.getId()))
+				.get()
+				.extracting(Cliente::getNombre)
+				.isEqualTo("Primero renombrado");
+
+		clienteRepository.delete(clienteRepository.findById(primero.getId()).orElseThrow());
+		clienteRepository.deleteAllById(List.of(segundo.getId()));
+		assertThat(clienteRepository.findById(primero.getId())).isEmpty();
+		assertThat(clienteRepository.findById(segundo.getId())).isEmpty();
+	}
+
+	@Test
+	void eliminarUnTecnicoSeVeEnLaSiguienteLectura() {
+		Tecnico tecnico = datos.tecnico("Técnico en caché", "Redes");
+		assertThat(tecnicoRepository.findById(tecnico.getId())).isPresent();
+
+		tecnicoService.eliminarTecnico(tecnico.getId());
+
+		assertThat(tecnicoRepository.findById(tecnico.getId())).isEmpty();
+	}
+
+	@Test
+	void modificarLaEntidadLeidaNoCambiaLaCacheada() {
+		Cliente cliente = datos.cliente("Cliente compartido");
+		Cliente leido = clienteRepository.findById(cliente.getId()).orElseThrow();
+
+		// Sin guardar: otro lector no debe ver este cambio
+		leido.setNombre("Cambio sin guardar");
+
+		assertThat(clienteRepository.findById(cliente.getId()))
+				.get()
+				.extracting(Cliente::getNombre)
+				.isEqualTo("Cliente compartido");
+	}
+}
@@ -0,0 +1,126 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.dto.ClienteDto;
+import com.empresa.soporte_tecnico.dto.IngestaDto;
+import com.empresa.soporte_tecnico.dto.ResultadoLoteDto;
+import com.empresa.soporte_tecnico.dto.SolicitudDto;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.service.ColaIngesta;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ColaIngestaTests {
+
+	private final SolicitudService solicitudService = mock(SolicitudService.class);
+	private ColaIngesta cola;
+
+	@AfterEach
+	void detenerCola() {
+		if (cola != null && cola.isRunning()) {
+			cola.stop();
+		}
+	}
+
+	@Test
+	void rechazaCuandoLaColaEstaLlena() {
+		cola = new ColaIngesta(solicitudService, 2, 10, Duration.ofMinutes(1));
+
+		assertThat(cola.encolar(solicitud("Uno"))).isPresent();
+		assertThat(cola.encolar(solicitud("Dos"))).isPresent();
+		assertThat(cola.encolar(solicitud("Tres"))).isEmpty();
+
+		assertThat(cola.estado().getEnCola()).isEqualTo(2);
+		assertThat(cola.estado().getRechazosPorSaturacion()).isEqualTo(1);
+		assertThat(cola.segundosParaReintentar()).isPositive();
+	}
+
+	@Test
+	void escribeEnLotesYRegistraElResultadoDeCadaSolicitud() throws Exception {
+		when(solicitudService.crearSolicitudesEnLote(anyList())).thenAnswer(invocacion -> {
+			List<Solicitud> lote = invocacion.getArgument(0);
+			List<ResultadoLoteDto> resultados = new ArrayList<>();
+			for (int i = 0; i < lote.size(); i++) {
+				if (lote.get(i).getDescripcion().equals("Cliente inexistente")) {
+					resultados.add(ResultadoLoteDto.rechazada(i, "Cliente no encontrado con id 1"));
+				} else {
+					ResultadoLoteDto creada = ResultadoLoteDto.creada(i);
+					creada.setId(100L + i);
+					resultados.add(creada);
+				}
+			}
+			return resultados;
+		});
+		cola = new ColaIngesta(solicitudService, 10, 3, Duration.ofMinutes(1));
+
+		List<String> ids = new ArrayList<>();
+		for (String descripcion : List.of("A", "B", "Cliente inexistente", "D", "E")) {
+			IngestaDto ingesta = cola.encolar(solicitud(descripcion)).orElseThrow();
+			assertThat(ingesta.getEstado()).isEqualTo(IngestaDto.ENCOLADA);
+			ids.add(ingesta.getId());
+		}
+
+		cola.start();
+		esperarProcesadas(ids);
+
+		assertThat(cola.consultar(ids.get(0)).orElseThrow().getSolicitudId()).isEqualTo(100L);
+		IngestaDto rechazada = cola.consultar(ids.get(2)).orElseThrow();
+		assertThat(rechazada.getEstado()).isEqualTo(IngestaDto.RECHAZADA);
+		assertThat(rechazada.getError()).contains("Cliente no encontrado");
+		assertThat(cola.consultar(ids.get(4)).orElseThrow().getEstado()).isEqualTo(IngestaDto.CREADA);
+
+		// Todo estaba encolado antes de arrancar: un lote de 3 y otro de 2
+		verify(solicitudService, times(2)).crearSolicitudesEnLote(anyList());
+		assertThat(cola.estado().getCreadas()).isEqualTo(4);
+		assertThat(cola.estado().getRechazadas()).isEqualTo(1);
+		assertThat(cola.consultar("desconocido")).isEmpty();
+	}
+
+	@Test
+	void unLoteQueNoSePuedeGuardarSeRechazaConUnMotivoFijo() throws Exception {
+		when(solicitudService.crearSolicitudesEnLote(anyList()))
+				.thenThrow(new IllegalStateException("Duplicate entry '7' for key 'solicitudes.PRIMARY'"));
+		cola = new ColaIngesta(solicitudService, 10, 10, Duration.ofMinutes(1));
+		String id = cola.encolar(solicitud("Sin suerte")).orElseThrow().getId();
+
+		cola.start();
+		esperarProcesadas(List.of(id));
+
+		IngestaDto rechazada = cola.consultar(id).orElseThrow();
+		assertThat(rechazada.getEstado()).isEqualTo(IngestaDto.RECHAZADA);
+		// El detalle de la BD queda en el log, no en la respuesta
+		assertThat(rechazada.getError()).isEqualTo(ColaIngesta.ERROR_AL_GUARDAR);
+		verify(solicitudService, times(3)).crearSolicitudesEnLote(anyList());
+	}
+
+	private void esperarProcesadas(List<String> ids) throws InterruptedException {
+		long limite = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (System.nanoTime() < limite) {
+			boolean pendientes = ids.stream()
+					.anyMatch(id -> cola.consultar(id).orElseThrow().getEstado().equals(IngestaDto.ENCOLADA));
+			if (!pendientes) {
+				return;
+			}
+			Thread.sleep(20);
+		}
+		throw new AssertionError("La cola de ingesta no terminó de escribir a tiempo");
+	}
+
+	private static SolicitudDto solicitud(String descripcion) {
+		return SolicitudDto.builder()
+				.descripcion(descripcion)
+				.cliente(ClienteDto.builder().id(1L).build())
+				.build();
+	}
+}
@@ -0,0 +1,43 @@
+package com.empresa.soporte_tecnico;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ContextoCompartido
+class ConsultasEnLoteTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private DatosDePrueba datos;
+
+	@Test
+	void devuelveLosClientesEnElOrdenPedidoSinRepetidosNiInexistentes() throws Exception {
+		Long primero = datos.cliente("Primero").getId();
+		Long segundo = datos.cliente("Segundo").getId();
+
+		mockMvc.perform(get("/clientes/lote").param("ids", segundo + "," + primero + "," + segundo + ",999999"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(2)))
+				.andExpect(jsonPath("$[0].nombre", is("Segundo")))
+				.andExpect(jsonPath("$[1].nombre", is("Primero")));
+	}
+
+	@Test
+	void rechazaDemasiadosIds() throws Exception {
+		StringBuilder ids = new StringBuilder();
+		for (int i = 1; i <= 501; i++) {
+			ids.append(i).append(',');
+		}
+		mockMvc.perform(get("/tecnicos/lote").param("ids", ids.toString()))
+				.andExpect(status().isBadRequest());
+	}
+}
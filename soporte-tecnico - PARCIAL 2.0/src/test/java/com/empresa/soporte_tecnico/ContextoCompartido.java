@@ -0,0 +1,28 @@
+package com.empresa.soporte_tecnico;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configuración común de las pruebas de integración que no necesitan propiedades propias: una sola base
+ * H2, asignación automática apagada, servidor en puerto aleatorio (para SSE) y MockMvc. Como todas las
+ * clases declaran lo mismo, Spring crea el contexto una vez y lo reutiliza.
+ * <p>
+ * La base es compartida: cada prueba crea sus propios datos con {@link DatosDePrueba} y filtra por ellos.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.datasource.url=jdbc:h2:mem:soporte_tests;DB_CLOSE_DELAY=-1",
+		"soporte.asignacion.automatica=false"
+})
+@AutoConfigureMockMvc
+@Import(DatosDePrueba.class)
+@interface ContextoCompartido {
+}
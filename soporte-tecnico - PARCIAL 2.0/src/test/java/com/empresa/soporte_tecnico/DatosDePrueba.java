@@ -0,0 +1,63 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.UUID;
+
+/**
+ * Altas de clientes, técnicos y solicitudes para las pruebas con {@link ContextoCompartido}. Cada alta
+ * queda confirmada; los correos son únicos para que las clases no choquen en la base compartida.
+ */
+@TestComponent
+class DatosDePrueba {
+
+	private final ClienteRepository clienteRepository;
+	private final TecnicoRepository tecnicoRepository;
+	private final SolicitudService solicitudService;
+
+	DatosDePrueba(ClienteRepository clienteRepository, TecnicoRepository tecnicoRepository,
+				  SolicitudService solicitudService) {
+		this.clienteRepository = clienteRepository;
+		this.tecnicoRepository = tecnicoRepository;
+		this.solicitudService = solicitudService;
+	}
+
+	Cliente cliente(String nombre) {
+		Cliente cliente = new Cliente();
+		cliente.setNombre(nombre);
+		cliente.setCorreo(UUID.randomUUID() + "@soporte.test");
+		return clienteRepository.save(cliente);
+	}
+
+	Tecnico tecnico(String nombre, String especialidad) {
+		Tecnico tecnico = new Tecnico();
+		tecnico.setNombre(nombre);
+		tecnico.setEspecialidad(especialidad);
+		return tecnicoRepository.save(tecnico);
+	}
+
+	// Sin guardar, para completar otros campos antes del alta
+	Solicitud nuevaSolicitud(Cliente cliente, Tecnico tecnico, String descripcion) {
+		Solicitud solicitud = new Solicitud();
+		solicitud.setDescripcion(descripcion);
+		solicitud.setCliente(cliente);
+		solicitud.setTecnicoAsignado(tecnico);
+		return solicitud;
+	}
+
+	// Alta por el servicio, como POST /solicitudes
+	Solicitud solicitud(Cliente cliente, Tecnico tecnico, String descripcion) {
+		return solicitudService.crearSolicitud(nuevaSolicitud(cliente, tecnico, descripcion));
+	}
+
+	// Alta con un cliente propio, sin técnico
+	Solicitud solicitud(String descripcion) {
+		return solicitud(cliente("Cliente " + descripcion), null, descripcion);
+	}
+}
@@ -0,0 +1,159 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.dto.EstadisticasDto;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import com.empresa.soporte_tecnico.service.EstadisticasSolicitudes;
+import com.empresa.soporte_tecnico.service.MotorAsignacion;
+import com.empresa.soporte_tecnico.service.SolicitudEvento;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sin @Transactional: el agregado en memoria se actualiza recién cuando cada cambio se confirma.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:estadisticas_tests;DB_CLOSE_DELAY=-1")
+class EstadisticasSolicitudesTests {
+
+	@Autowired
+	private SolicitudService solicitudService;
+
+	@Autowired
+	private EstadisticasSolicitudes estadisticas;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private MotorAsignacion motorAsignacion;
+
+	@Test
+	void elAgregadoEnMemoriaCoincideConLosGroupBy() {
+		Cliente cliente = new Cliente();
+		cliente.setNombre("Cliente estadísticas");
+		cliente.setCorreo(UUID.randomUUID() + "@estadisticas.test");
+		cliente = clienteRepository.save(cliente);
+
+		Tecnico tecnico = new Tecnico();
+		tecnico.setNombre("Técnico estadísticas");
+		tecnico.setEspecialidad("Estadísticas");
+		tecnico = tecnicoRepository.save(tecnico);
+		motorAsignacion.registrarTecnico(tecnico.getId(), tecnico.getEspecialidad());
+
+		Solicitud primera = solicitudService.crearSolicitud(solicitud(cliente, "Sin técnico disponible"));
+		Solicitud segunda = solicitudService.crearSolicitud(solicitud(cliente, "Estadísticas"));
+		Solicitud tercera = solicitudService.crearSolicitud(solicitud(cliente, "Estadísticas"));
+		assertThat(estadisticas.abiertasDeCliente(cliente.getId())).isEqualTo(3);
+
+		// Resolver la segunda: deja de contar como abierta para el cliente y el técnico
+		Solicitud cambios = new Solicitud();
+		cambios.setEstado(EstadoSolicitud.EN_PROGRESO);
+		solicitudService.modificarSolicitud(segunda.getId(), cambios);
+		cambios.setEstado(EstadoSolicitud.RESUELTA);
+		solicitudService.modificarSolicitud(segunda.getId(), cambios);
+		solicitudService.eliminarSolicitud(primera.getId());
+
+		assertThat(estadisticas.abiertasDeCliente(cliente.getId())).isEqualTo(1);
+		assertThat(estadisticas.abiertasDeTecnico(tecnico.getId())).isEqualTo(1);
+		assertThat(tercera.getTecnicoAsignado().getId()).isEqualTo(tecnico.getId());
+
+		EstadisticasDto memoria = estadisticas.instantanea();
+		EstadisticasDto bd = solicitudService.calcularEstadisticas();
+		assertThat(memoria.getPorEstado()).isEqualTo(bd.getPorEstado());
+		assertThat(memoria.getAbiertas()).isEqualTo(bd.getAbiertas());
+		assertThat(memoria.getAbiertasPorTecnico()).containsExactlyInAnyOrderElementsOf(bd.getAbiertasPorTecnico());
+		assertThat(memoria.getAbiertasPorCliente()).containsExactlyInAnyOrderElementsOf(bd.getAbiertasPorCliente());
+	}
+
+	@Test
+	void unCambioConfirmadoDuranteLaReconciliacionNoSePierde() {
+		Cliente cliente = new Cliente();
+		cliente.setNombre("Cliente reconciliación");
+		cliente.setCorreo(UUID.randomUUID() + "@estadisticas.test");
+		cliente = clienteRepository.save(cliente);
+		Cliente duenio = cliente;
+
+		// Agregado propio cuya lectura de la BD es la real, pero entre la lectura y el reemplazo se confirma
+		// un alta desde otro hilo: su evento llega como lo entregaría el listener después del commit
+		SolicitudService lectura = mock(SolicitudService.class);
+		EstadisticasSolicitudes agregado = new EstadisticasSolicitudes(lectura);
+		when(lectura.calcularEstadisticas()).thenAnswer(invocacion -> {
+			EstadisticasDto foto = solicitudService.calcularEstadisticas();
+			CompletableFuture.runAsync(() -> {
+				Solicitud creada = solicitudService.crearSolicitud(solicitud(duenio, "Sin técnico disponible"));
+				agregado.alConfirmar(new SolicitudEvento(SolicitudEvento.Tipo.CREADA, creada, null));
+			}).join();
+			return foto;
+		});
+
+		agregado.reconciliar();
+
+		assertThat(agregado.abiertasDeCliente(cliente.getId())).isEqualTo(1);
+		EstadisticasDto bd = solicitudService.calcularEstadisticas();
+		assertThat(agregado.instantanea().getPorEstado()).isEqualTo(bd.getPorEstado());
+		assertThat(agregado.abiertas()).isEqualTo(bd.getAbiertas());
+	}
+
+	@Test
+	void unAltaQueNoSeConfirmaNoDejaCargaEnElMotor() {
+		Cliente cliente = new Cliente();
+		cliente.setNombre("Cliente motor");
+		cliente.setCorreo(UUID.randomUUID() + "@estadisticas.test");
+		cliente = clienteRepository.save(cliente);
+
+		String especialidad = "Motor " + UUID.randomUUID();
+		Tecnico tecnico = new Tecnico();
+		tecnico.setNombre("Técnico motor");
+		tecnico.setEspecialidad(especialidad);
+		tecnico = tecnicoRepository.save(tecnico);
+		motorAsignacion.registrarTecnico(tecnico.getId(), tecnico.getEspecialidad());
+
+		// Elegido por el motor, pero la descripción vacía hace fallar el INSERT: el cupo vuelve al revertir
+		Solicitud sinDescripcion = solicitud(cliente, especialidad);
+		sinDescripcion.setDescripcion(" ");
+		assertThatThrownBy(() -> solicitudService.crearSolicitud(sinDescripcion))
+				.isInstanceOf(ResponseStatusException.class);
+		assertThat(motorAsignacion.abiertas(tecnico.getId())).isZero();
+
+		// Elegido a mano con un estado inicial inválido: nunca llega a sumar
+		Solicitud enProgreso = solicitud(cliente, especialidad);
+		enProgreso.setTecnicoAsignado(tecnico);
+		enProgreso.setEstado(EstadoSolicitud.EN_PROGRESO);
+		assertThatThrownBy(() -> solicitudService.crearSolicitud(enProgreso))
+				.isInstanceOf(ResponseStatusException.class);
+		assertThat(motorAsignacion.abiertas(tecnico.getId())).isZero();
+
+		// Las dos altas confirmadas, una elegida por el motor y otra a mano, suman una cada una
+		solicitudService.crearSolicitud(solicitud(cliente, especialidad));
+		Solicitud aMano = solicitud(cliente, especialidad);
+		aMano.setTecnicoAsignado(tecnico);
+		solicitudService.crearSolicitud(aMano);
+		assertThat(motorAsignacion.abiertas(tecnico.getId())).isEqualTo(2);
+	}
+
+	private static Solicitud solicitud(Cliente cliente, String especialidad) {
+		Solicitud solicitud = new Solicitud();
+		solicitud.setDescripcion("Solicitud para estadísticas");
+		solicitud.setEspecialidad(especialidad);
+		solicitud.setCliente(cliente);
+		return solicitud;
+	}
+}
@@ -0,0 +1,46 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EstadoSolicitudTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void recorreElCicloDeVidaCompleto() {
+		assertThat(EstadoSolicitud.PENDIENTE.puedePasarA(EstadoSolicitud.ASIGNADA)).isTrue();
+		assertThat(EstadoSolicitud.ASIGNADA.puedePasarA(EstadoSolicitud.EN_PROGRESO)).isTrue();
+		assertThat(EstadoSolicitud.EN_PROGRESO.puedePasarA(EstadoSolicitud.RESUELTA)).isTrue();
+		assertThat(EstadoSolicitud.RESUELTA.puedePasarA(EstadoSolicitud.CERRADA)).isTrue();
+	}
+
+	@Test
+	void rechazaSaltosYReaperturaDeCerradas() {
+		assertThat(EstadoSolicitud.PENDIENTE.puedePasarA(EstadoSolicitud.RESUELTA)).isFalse();
+		assertThat(EstadoSolicitud.PENDIENTE.puedePasarA(EstadoSolicitud.EN_PROGRESO)).isFalse();
+		for (EstadoSolicitud destino : EstadoSolicitud.values()) {
+			assertThat(EstadoSolicitud.CERRADA.puedePasarA(destino)).isEqualTo(destino == EstadoSolicitud.CERRADA);
+		}
+	}
+
+	@Test
+	void losCodigosSonUnicosYReversibles() {
+		for (EstadoSolicitud estado : EstadoSolicitud.values()) {
+			assertThat(EstadoSolicitud.desdeCodigo(estado.getCodigo())).isSameAs(estado);
+		}
+	}
+
+	@Test
+	void seSerializaConSuEtiqueta() throws Exception {
+		assertThat(objectMapper.writeValueAsString(EstadoSolicitud.EN_PROGRESO)).isEqualTo("\"EnProgreso\"");
+		assertThat(objectMapper.readValue("\"EnProgreso\"", EstadoSolicitud.class)).isEqualTo(EstadoSolicitud.EN_PROGRESO);
+		assertThat(objectMapper.readValue("\"en_progreso\"", EstadoSolicitud.class)).isEqualTo(EstadoSolicitud.EN_PROGRESO);
+		assertThatThrownBy(() -> EstadoSolicitud.desdeEtiqueta("Archivada"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,123 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.Solicitud;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ContextoCompartido
+class EtagTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private DatosDePrueba datos;
+
+	@Test
+	void laSolicitudSeRevalidaConSuVersion() throws Exception {
+		Solicitud solicitud = datos.solicitud("No enciende la PC");
+		String ruta = "/solicitudes/" + solicitud.getId();
+
+		String etag = mockMvc.perform(get(ruta))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(etag).isNotBlank();
+
+		mockMvc.perform(get(ruta).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		mockMvc.perform(patch(ruta).contentType(MediaType.APPLICATION_JSON)
+						.content("{\"descripcion\": \"Ahora tampoco enciende el monitor\"}"))
+				.andExpect(status().isOk());
+
+		String nuevo = mockMvc.perform(get(ruta).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(nuevo).isNotEqualTo(etag);
+	}
+
+	@Test
+	void lasEscriturasDevuelvenElEtagNuevoYAceptanIfMatch() throws Exception {
+		Solicitud solicitud = datos.solicitud("No enciende la PC");
+		String ruta = "/solicitudes/" + solicitud.getId();
+
+		String leido = mockMvc.perform(get(ruta))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		String trasPatch = mockMvc.perform(patch(ruta).contentType(MediaType.APPLICATION_JSON)
+						.header(HttpHeaders.IF_MATCH, leido)
+						.content("{\"descripcion\": \"Tampoco enciende el monitor\"}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(trasPatch).isNotBlank().isNotEqualTo(leido);
+		// Es el mismo ETag que daría GET: no hace falta volver a leer para revalidar
+		mockMvc.perform(get(ruta).header(HttpHeaders.IF_NONE_MATCH, trasPatch))
+				.andExpect(status().isNotModified());
+
+		// La siguiente escritura se encadena con ese ETag; con el viejo, otro ya la había modificado
+		String trasPut = mockMvc.perform(put(ruta).contentType(MediaType.APPLICATION_JSON)
+						.header(HttpHeaders.IF_MATCH, trasPatch)
+						.content("{\"descripcion\": \"Cambió la fuente\"}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(trasPut).isNotEqualTo(trasPatch);
+		mockMvc.perform(patch(ruta).contentType(MediaType.APPLICATION_JSON)
+						.header(HttpHeaders.IF_MATCH, trasPatch)
+						.content("{\"descripcion\": \"Pisaría el cambio anterior\"}"))
+				.andExpect(status().isConflict());
+	}
+
+	@Test
+	void renombrarElClienteInvalidaElEtagDeLaSolicitud() throws Exception {
+		Solicitud solicitud = datos.solicitud("No enciende la PC");
+		String ruta = "/solicitudes/" + solicitud.getId();
+		Long clienteId = solicitud.getCliente().getId();
+
+		String etag = mockMvc.perform(get(ruta))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// La versión de la solicitud no cambia, pero el cliente anidado sí
+		mockMvc.perform(put("/clientes/" + clienteId).contentType(MediaType.APPLICATION_JSON)
+						.content("{\"nombre\": \"Cliente renombrado\", \"correo\": \"" + UUID.randomUUID() + "@etag.test\"}"))
+				.andExpect(status().isOk());
+
+		String nuevo = mockMvc.perform(get(ruta).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.cliente.nombre").value("Cliente renombrado"))
+				.andExpect(jsonPath("$.version").value(solicitud.getVersion()))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(nuevo).isNotEqualTo(etag);
+	}
+
+	@Test
+	void elListadoDeClientesCambiaDeEtagConCadaAlta() throws Exception {
+		String etag = mockMvc.perform(get("/clientes"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/clientes").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		mockMvc.perform(post("/clientes").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"nombre\": \"Cliente ETag\", \"correo\": \"" + UUID.randomUUID() + "@etag.test\"}"))
+				.andExpect(status().isOk());
+
+		mockMvc.perform(get("/clientes").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk());
+	}
+}
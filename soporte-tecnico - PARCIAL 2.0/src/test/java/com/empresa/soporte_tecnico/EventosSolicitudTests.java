@@ -0,0 +1,112 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.service.DifusorEventos;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ContextoCompartido
+class EventosSolicitudTests {
+
+	@LocalServerPort
+	private int puerto;
+
+	@Autowired
+	private DatosDePrueba datos;
+
+	@Autowired
+	private DifusorEventos difusorEventos;
+
+	private final HttpClient http = HttpClient.newHttpClient();
+
+	@Test
+	void enviaLasAltasEnVivoYLasRepiteAlReconectar() throws Exception {
+		String id = recibirAlta();
+
+		// Un cliente que se desconectó justo antes de ese evento lo recibe al volver con Last-Event-ID
+		EventoRecibido repetido = esperarEvento(arranque(id) + "-" + (numero(id) - 1), Set.of("creada", "desincronizado"))
+				.get(10, TimeUnit.SECONDS);
+		assertThat(repetido).isEqualTo(new EventoRecibido("creada", id));
+	}
+
+	@Test
+	void unIdDeUnArranqueAnteriorQuedaDesincronizadoAunqueSuNumeroExista() throws Exception {
+		String id = recibirAlta();
+
+		// Tras un reinicio la numeración vuelve a empezar: el mismo número de un arranque anterior
+		// es otro evento, y el cliente no puede saber cuáles se perdió
+		String arranqueAnterior = Long.toString(Long.parseLong(arranque(id), 36) - 60_000, 36);
+		EventoRecibido primero = esperarEvento(arranqueAnterior + "-" + numero(id), Set.of("creada", "desincronizado"))
+				.get(10, TimeUnit.SECONDS);
+		assertThat(primero.nombre()).isEqualTo("desincronizado");
+
+		// Un ID sin arranque (el formato numérico anterior) tampoco se toma como propio
+		primero = esperarEvento(Long.toString(numero(id)), Set.of("creada", "desincronizado"))
+				.get(10, TimeUnit.SECONDS);
+		assertThat(primero.nombre()).isEqualTo("desincronizado");
+	}
+
+	// Se suscribe, da de alta una solicitud y devuelve el id de su evento "creada"
+	private String recibirAlta() throws Exception {
+		CompletableFuture<EventoRecibido> primerEvento = esperarEvento(null, Set.of("creada"));
+		while (difusorEventos.cantidadSuscriptores() == 0) {
+			Thread.sleep(10);
+		}
+
+		assertThat(datos.solicitud("No enciende el proyector").getId()).isNotNull();
+
+		String id = primerEvento.get(10, TimeUnit.SECONDS).id();
+		assertThat(id).matches("[0-9a-z]+-[0-9]+");
+		return id;
+	}
+
+	private static String arranque(String eventoId) {
+		return eventoId.substring(0, eventoId.lastIndexOf('-'));
+	}
+
+	private static long numero(String eventoId) {
+		return Long.parseLong(eventoId.substring(eventoId.lastIndexOf('-') + 1));
+	}
+
+	// Lee el flujo SSE hasta el primer evento con alguno de esos nombres
+	private CompletableFuture<EventoRecibido> esperarEvento(String ultimoEventoId, Set<String> nombres) {
+		HttpRequest.Builder peticion = HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + "/solicitudes/eventos"));
+		if (ultimoEventoId != null) {
+			peticion.header("Last-Event-ID", ultimoEventoId);
+		}
+		return http.sendAsync(peticion.build(), HttpResponse.BodyHandlers.ofLines())
+				.thenApply(respuesta -> {
+					try (Stream<String> lineas = respuesta.body()) {
+						String id = null;
+						Iterator<String> iterador = lineas.iterator();
+						while (iterador.hasNext()) {
+							String linea = iterador.next();
+							if (linea.startsWith("id:")) {
+								id = linea.substring(3).trim();
+							} else if (linea.startsWith("event:") && nombres.contains(linea.substring(6).trim())) {
+								return new EventoRecibido(linea.substring(6).trim(), id);
+							} else if (linea.isEmpty()) {
+								// Fin del evento: el id no se arrastra al siguiente
+								id = null;
+							}
+						}
+						return null;
+					}
+				});
+	}
+
+	private record EventoRecibido(String nombre, String id) {
+	}
+}
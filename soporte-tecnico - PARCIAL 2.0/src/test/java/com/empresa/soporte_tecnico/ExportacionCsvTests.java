@@ -0,0 +1,128 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.mapper.SolicitudCsvMapper;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ContextoCompartido
+class ExportacionCsvTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private DatosDePrueba datos;
+
+	@Test
+	void laExportacionCsvSeLeeDeVueltaCampoPorCampo() throws Exception {
+		Cliente cliente = datos.cliente("Pérez, Hnos. \"La Central\"");
+		Tecnico tecnico = datos.tecnico("Ana \"Nani\" Gómez", "Redes");
+
+		Solicitud conTecnico = datos.solicitud(cliente, tecnico, "No enciende, ni con \"reset\"\nprobado dos veces\r\nsin éxito");
+		Solicitud sinTecnico = datos.solicitud(cliente, null, "Texto simple");
+
+		MvcResult inicio = mockMvc.perform(get("/solicitudes/exportar").param("formato", "csv"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String csv = mockMvc.perform(asyncDispatch(inicio))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith("text/csv"))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+		List<List<String>> filas = leerCsv(csv);
+		assertThat(String.join(",", filas.get(0))).isEqualTo(SolicitudCsvMapper.CABECERA);
+		// La base es compartida: solo se miran las filas de este cliente, que salen en orden de ID
+		List<List<String>> delCliente = filas.stream()
+				.skip(1)
+				.filter(fila -> fila.get(3).equals(cliente.getId().toString()))
+				.toList();
+		assertThat(delCliente).hasSize(2);
+		assertThat(delCliente.get(0)).containsExactly(
+				conTecnico.getId().toString(),
+				"No enciende, ni con \"reset\"\nprobado dos veces\r\nsin éxito",
+				"Asignada",
+				cliente.getId().toString(),
+				"Pérez, Hnos. \"La Central\"",
+				tecnico.getId().toString(),
+				"Ana \"Nani\" Gómez");
+		// Sin técnico: las dos últimas columnas quedan vacías, pero presentes
+		assertThat(delCliente.get(1)).containsExactly(
+				sinTecnico.getId().toString(),
+				"Texto simple",
+				"Pendiente",
+				cliente.getId().toString(),
+				"Pérez, Hnos. \"La Central\"",
+				"",
+				"");
+	}
+
+	@Test
+	void losCamposNulosSeExportanVacios() {
+		Cliente cliente = new Cliente();
+		cliente.setId(7L);
+		Tecnico tecnico = new Tecnico();
+		tecnico.setId(3L);
+		Solicitud solicitud = new Solicitud();
+		solicitud.setId(100L);
+		solicitud.setCliente(cliente);
+		solicitud.setTecnicoAsignado(tecnico);
+
+		assertThat(leerCsv(SolicitudCsvMapper.toCsv(solicitud)))
+				.singleElement()
+				.isEqualTo(List.of("100", "", "Pendiente", "7", "", "3", ""));
+	}
+
+	// Lector RFC 4180 mínimo: las comillas dobles agrupan comas y saltos de línea, y "" es una comilla literal
+	private static List<List<String>> leerCsv(String texto) {
+		List<List<String>> filas = new ArrayList<>();
+		List<String> fila = new ArrayList<>();
+		StringBuilder campo = new StringBuilder();
+		boolean entreComillas = false;
+		for (int i = 0; i < texto.length(); i++) {
+			char c = texto.charAt(i);
+			if (entreComillas) {
+				if (c != '"') {
+					campo.append(c);
+				} else if (i + 1 < texto.length() && texto.charAt(i + 1) == '"') {
+					campo.append('"');
+					i++;
+				} else {
+					entreComillas = false;
+				}
+			} else if (c == '"') {
+				entreComillas = true;
+			} else if (c == ',') {
+				fila.add(campo.toString());
+				campo.setLength(0);
+			} else if (c == '\n') {
+				fila.add(campo.toString());
+				campo.setLength(0);
+				filas.add(fila);
+				fila = new ArrayList<>();
+			} else {
+				campo.append(c);
+			}
+		}
+		if (!campo.isEmpty() || !fila.isEmpty()) {
+			fila.add(campo.toString());
+			filas.add(fila);
+		}
+		return filas;
+	}
+}
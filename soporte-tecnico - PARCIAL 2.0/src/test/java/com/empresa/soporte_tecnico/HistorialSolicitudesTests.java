@@ -0,0 +1,123 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.CambioSolicitud;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.model.TipoCambio;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ContextoCompartido
+class HistorialSolicitudesTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private SolicitudService solicitudService;
+
+	@Autowired
+	private DatosDePrueba datos;
+
+	private Cliente cliente;
+
+	@BeforeEach
+	void crearCliente() {
+		cliente = datos.cliente("Cliente historial");
+	}
+
+	@Test
+	void cadaCampoModificadoQuedaEnElHistorialConSuAutor() throws Exception {
+		Tecnico tecnico = datos.tecnico("Técnico historial", "Redes");
+		Solicitud solicitud = crearSolicitud();
+		String ruta = "/solicitudes/" + solicitud.getId();
+
+		modificar(ruta, "mgarcia", "{\"estado\": \"Asignada\", \"tecnicoAsignado\": {\"id\": " + tecnico.getId() + "}}");
+		modificar(ruta, "jlopez", "{\"estado\": \"EnProgreso\", \"descripcion\": \"Tampoco imprime en color\"}");
+		// Sin cambios reales: no agrega filas
+		modificar(ruta, "jlopez", "{\"estado\": \"EnProgreso\"}");
+
+		mockMvc.perform(get(ruta + "/historial").param("limite", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andExpect(jsonPath("$.hayMas").value(true))
+				.andExpect(jsonPath("$.items[0].tipo").value("ESTADO"))
+				.andExpect(jsonPath("$.items[0].usuarioDeclarado").value("mgarcia"))
+				.andExpect(jsonPath("$.items[0].valorAnterior").value("Pendiente"))
+				.andExpect(jsonPath("$.items[0].valorNuevo").value("Asignada"))
+				.andExpect(jsonPath("$.items[1].tipo").value("TECNICO"))
+				.andExpect(jsonPath("$.items[1].valorAnterior").value(nullValue()))
+				.andExpect(jsonPath("$.items[1].valorNuevo").value(tecnico.getId().toString()));
+
+		Long cursor = solicitudService.obtenerHistorial(solicitud.getId(), null, 2).get(1).getId();
+		mockMvc.perform(get(ruta + "/historial").param("cursor", cursor.toString()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andExpect(jsonPath("$.hayMas").value(false))
+				.andExpect(jsonPath("$.siguienteCursor").value(nullValue()))
+				.andExpect(jsonPath("$.items[0].tipo").value("ESTADO"))
+				.andExpect(jsonPath("$.items[0].usuarioDeclarado").value("jlopez"))
+				.andExpect(jsonPath("$.items[0].valorNuevo").value("EnProgreso"))
+				.andExpect(jsonPath("$.items[1].tipo").value("DESCRIPCION"));
+	}
+
+	@Test
+	void elHistorialSeConservaTrasEliminarLaSolicitud() throws Exception {
+		Solicitud solicitud = crearSolicitud();
+		String ruta = "/solicitudes/" + solicitud.getId();
+
+		modificar(ruta, "mgarcia", "{\"especialidad\": \"Impresoras\"}");
+		mockMvc.perform(delete(ruta))
+				.andExpect(status().isNoContent());
+
+		assertThat(solicitudService.obtenerHistorial(solicitud.getId(), null, 10))
+				.extracting(CambioSolicitud::getTipo, CambioSolicitud::getUsuarioDeclarado, CambioSolicitud::getValorAnterior)
+				.containsExactly(
+						tuple(TipoCambio.ESPECIALIDAD, "mgarcia", "Redes"),
+						tuple(TipoCambio.ELIMINADA, "anonimo", "Pendiente"));
+	}
+
+	@Test
+	void losCambiosFueraDeUnaPeticionLosFirmaElSistema() {
+		Solicitud solicitud = crearSolicitud();
+		Solicitud cambios = new Solicitud();
+		cambios.setEspecialidad("Hardware");
+
+		solicitudService.modificarSolicitud(solicitud.getId(), cambios);
+
+		assertThat(solicitudService.obtenerHistorial(solicitud.getId(), null, 10))
+				.singleElement()
+				.satisfies(cambio -> {
+					assertThat(cambio.getUsuarioDeclarado()).isEqualTo("sistema");
+					assertThat(cambio.getValorNuevo()).isEqualTo("Hardware");
+					assertThat(cambio.getRegistradoEn()).isNotNull();
+				});
+	}
+
+	private void modificar(String ruta, String usuario, String cuerpo) throws Exception {
+		mockMvc.perform(patch(ruta).header("X-Usuario", usuario)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(cuerpo))
+				.andExpect(status().isOk());
+	}
+
+	private Solicitud crearSolicitud() {
+		Solicitud nueva = datos.nuevaSolicitud(cliente, null, "La impresora no imprime");
+		nueva.setEspecialidad("Redes");
+		return solicitudService.crearSolicitud(nueva);
+	}
+}
@@ -0,0 +1,138 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.dto.ResultadoLoteDto;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:importacion_tests;DB_CLOSE_DELAY=-1",
+		"soporte.asignacion.automatica=false"
+})
+@AutoConfigureMockMvc
+class ImportacionLoteTests {
+
+	// Ningún cliente ni técnico llega a tener este ID en una BD de prueba
+	private static final long INEXISTENTE = 999_999L;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	private Long clienteId;
+
+	@BeforeEach
+	void crearCliente() {
+		Cliente cliente = new Cliente();
+		cliente.setNombre("Cliente importación");
+		cliente.setCorreo(UUID.randomUUID() + "@importacion.test");
+		clienteId = clienteRepository.save(cliente).getId();
+	}
+
+	@Test
+	void elLoteJsonInformaElResultadoDeCadaFila() throws Exception {
+		String cuerpo = "["
+				+ fila("Fila válida", clienteId, null) + ","
+				+ fila("Cliente inexistente", INEXISTENTE, null) + ","
+				+ fila("Técnico inexistente", clienteId, INEXISTENTE) + ","
+				+ "{\"descripcion\": \"Sin cliente\"}"
+				+ "]";
+
+		String respuesta = mockMvc.perform(post("/solicitudes/lote")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(cuerpo))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		List<ResultadoLoteDto> resultados = objectMapper.readValue(respuesta, new TypeReference<>() {
+		});
+
+		assertThat(resultados).extracting(ResultadoLoteDto::getIndice).containsExactly(0, 1, 2, 3);
+		assertThat(resultados.get(0).isCreada()).isTrue();
+		assertThat(resultados.get(0).getId()).isNotNull();
+		assertThat(resultados.subList(1, 4)).noneMatch(ResultadoLoteDto::isCreada);
+		assertThat(resultados.get(1).getError()).isEqualTo("Cliente no encontrado con id " + INEXISTENTE);
+		assertThat(resultados.get(2).getError()).isEqualTo("Técnico no encontrado con id " + INEXISTENTE);
+		assertThat(resultados.get(3).getError()).isEqualTo("Debe especificar el ID del cliente");
+	}
+
+	@Test
+	void elLoteNdjsonNumeraLasFilasDelFlujoCompleto() throws Exception {
+		String cuerpo = String.join("\n",
+				fila("Primera", clienteId, null),
+				"",
+				"{\"descripcion\": \"JSON cortado\", \"cliente\": {",
+				fila("Cliente inexistente", INEXISTENTE, null),
+				fila("Última", clienteId, null));
+
+		String respuesta = mockMvc.perform(post("/solicitudes/lote")
+						.contentType(MediaType.APPLICATION_NDJSON)
+						.content(cuerpo))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		List<ResultadoLoteDto> resultados = new ArrayList<>();
+		for (String linea : respuesta.split("\n")) {
+			resultados.add(objectMapper.readValue(linea, ResultadoLoteDto.class));
+		}
+		// Las filas con JSON inválido se informan en el acto y las demás al confirmar su bloque
+		resultados.sort(Comparator.comparingInt(ResultadoLoteDto::getIndice));
+
+		assertThat(resultados).extracting(ResultadoLoteDto::getIndice).containsExactly(0, 1, 2, 3);
+		assertThat(resultados).extracting(ResultadoLoteDto::isCreada).containsExactly(true, false, false, true);
+		// La línea vacía no cuenta como fila, pero sí para el número de línea del mensaje
+		assertThat(resultados.get(1).getError()).isEqualTo("JSON inválido en la línea 3");
+		assertThat(resultados.get(2).getError()).isEqualTo("Cliente no encontrado con id " + INEXISTENTE);
+	}
+
+	@Test
+	void unLoteJsonDemasiadoGrandeSeRechazaCon413() throws Exception {
+		String cuerpo = IntStream.range(0, 10_001)
+				.mapToObj(i -> "{}")
+				.collect(Collectors.joining(",", "[", "]"));
+
+		mockMvc.perform(post("/solicitudes/lote")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(cuerpo))
+				.andExpect(status().isPayloadTooLarge());
+	}
+
+	@Test
+	void sinHabilitarlaLaIngestaAsincronaNoEstaDisponible() throws Exception {
+		mockMvc.perform(post("/solicitudes/ingesta")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(fila("Encolada", clienteId, null)))
+				.andExpect(status().isNotFound());
+		mockMvc.perform(get("/solicitudes/ingesta"))
+				.andExpect(status().isNotFound());
+	}
+
+	private static String fila(String descripcion, Long clienteId, Long tecnicoId) {
+		String tecnico = tecnicoId != null ? ", \"tecnicoAsignado\": {\"id\": " + tecnicoId + "}" : "";
+		return "{\"descripcion\": \"" + descripcion + "\", \"cliente\": {\"id\": " + clienteId + "}" + tecnico + "}";
+	}
+}
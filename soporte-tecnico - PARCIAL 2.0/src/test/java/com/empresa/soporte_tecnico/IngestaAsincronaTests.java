@@ -0,0 +1,75 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.dto.IngestaDto;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:ingesta_tests;DB_CLOSE_DELAY=-1",
+		"soporte.asignacion.automatica=false",
+		"soporte.ingesta.habilitada=true"
+})
+@AutoConfigureMockMvc
+class IngestaAsincronaTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Test
+	void habilitadaEncolaYLuegoCreaLaSolicitud() throws Exception {
+		Cliente cliente = new Cliente();
+		cliente.setNombre("Cliente ingesta");
+		cliente.setCorreo(UUID.randomUUID() + "@ingesta.test");
+		cliente = clienteRepository.save(cliente);
+
+		String respuesta = mockMvc.perform(post("/solicitudes/ingesta")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"descripcion\": \"No enciende la PC\", \"cliente\": {\"id\": " + cliente.getId() + "}}"))
+				.andExpect(status().isAccepted())
+				.andExpect(header().exists("Location"))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		String id = objectMapper.readValue(respuesta, IngestaDto.class).getId();
+
+		IngestaDto ingesta = esperarResultado(id);
+		assertThat(ingesta.getEstado()).isEqualTo(IngestaDto.CREADA);
+		assertThat(ingesta.getSolicitudId()).isNotNull();
+	}
+
+	private IngestaDto esperarResultado(String id) throws Exception {
+		long limite = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (System.nanoTime() < limite) {
+			String cuerpo = mockMvc.perform(get("/solicitudes/ingesta/" + id))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+			IngestaDto ingesta = objectMapper.readValue(cuerpo, IngestaDto.class);
+			if (!ingesta.getEstado().equals(IngestaDto.ENCOLADA)) {
+				return ingesta;
+			}
+			Thread.sleep(50);
+		}
+		throw new AssertionError("La cola de ingesta no escribió la solicitud a tiempo");
+	}
+}
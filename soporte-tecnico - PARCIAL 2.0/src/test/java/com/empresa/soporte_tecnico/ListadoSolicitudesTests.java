@@ -0,0 +1,163 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Listado keyset de solicitudes ({@code GET /solicitudes}). Cada prueba crea sus propios clientes y
+ * siempre filtra por uno de ellos, así no ve las filas de las demás.
+ */
+@ContextoCompartido
+class ListadoSolicitudesTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private DatosDePrueba datos;
+
+	private Cliente cliente;
+	private Cliente otroCliente;
+	private Tecnico tecnico;
+	// En orden de creación, que es el orden por ID del listado
+	private Solicitud pendiente1;
+	private Solicitud asignada1;
+	private Solicitud asignada2;
+	private Solicitud pendiente2;
+	private Solicitud deOtroCliente;
+
+	@BeforeEach
+	void crearDatos() {
+		cliente = datos.cliente("Cliente listado");
+		otroCliente = datos.cliente("Otro cliente");
+		tecnico = datos.tecnico("Técnico listado", "Redes");
+
+		pendiente1 = datos.solicitud(cliente, null, "Primera pendiente");
+		asignada1 = datos.solicitud(cliente, tecnico, "Primera asignada");
+		asignada2 = datos.solicitud(cliente, tecnico, "Segunda asignada");
+		pendiente2 = datos.solicitud(cliente, null, "Segunda pendiente");
+		deOtroCliente = datos.solicitud(otroCliente, tecnico, "De otro cliente");
+	}
+
+	@Test
+	void elCursorRecorreElListadoSinRepetirNiOmitirFilas() throws Exception {
+		JsonNode primera = listar(get("/solicitudes")
+				.param("clienteId", cliente.getId().toString())
+				.param("limite", "2"));
+		assertThat(ids(primera)).containsExactly(pendiente1.getId(), asignada1.getId());
+		assertThat(primera.get("hayMas").asBoolean()).isTrue();
+		assertThat(primera.get("siguienteCursor").asLong()).isEqualTo(asignada1.getId());
+
+		// Quedan justo 'limite' filas: la página se llena, pero ya no hay más
+		JsonNode segunda = listar(get("/solicitudes")
+				.param("clienteId", cliente.getId().toString())
+				.param("limite", "2")
+				.param("cursor", primera.get("siguienteCursor").asText()));
+		assertThat(ids(segunda)).containsExactly(asignada2.getId(), pendiente2.getId());
+		assertThat(segunda.get("hayMas").asBoolean()).isFalse();
+		assertThat(segunda.get("siguienteCursor").isNull()).isTrue();
+	}
+
+	@Test
+	void hayMasSoloCuandoQuedaAlMenosUnaFilaFueraDeLaPagina() throws Exception {
+		JsonNode completa = listar(get("/solicitudes")
+				.param("clienteId", cliente.getId().toString())
+				.param("limite", "4"));
+		assertThat(ids(completa)).hasSize(4);
+		assertThat(completa.get("hayMas").asBoolean()).isFalse();
+		assertThat(completa.get("siguienteCursor").isNull()).isTrue();
+
+		JsonNode unaMenos = listar(get("/solicitudes")
+				.param("clienteId", cliente.getId().toString())
+				.param("limite", "3"));
+		assertThat(ids(unaMenos)).containsExactly(pendiente1.getId(), asignada1.getId(), asignada2.getId());
+		assertThat(unaMenos.get("hayMas").asBoolean()).isTrue();
+		assertThat(unaMenos.get("siguienteCursor").asLong()).isEqualTo(asignada2.getId());
+
+		// Un cursor posterior a la última fila da una página vacía, no un error
+		JsonNode vacia = listar(get("/solicitudes")
+				.param("clienteId", cliente.getId().toString())
+				.param("cursor", pendiente2.getId().toString()));
+		assertThat(ids(vacia)).isEmpty();
+		assertThat(vacia.get("hayMas").asBoolean()).isFalse();
+	}
+
+	@Test
+	void losFiltrosSeCombinanYElCursorLosRespeta() throws Exception {
+		JsonNode asignadas = listar(get("/solicitudes")
+				.param("estado", "Asignada")
+				.param("clienteId", cliente.getId().toString())
+				.param("tecnicoId", tecnico.getId().toString())
+				.param("limite", "1"));
+		assertThat(ids(asignadas)).containsExactly(asignada1.getId());
+		assertThat(asignadas.get("hayMas").asBoolean()).isTrue();
+
+		// La siguiente página salta las pendientes intercaladas por ID
+		JsonNode siguiente = listar(get("/solicitudes")
+				.param("estado", "Asignada")
+				.param("clienteId", cliente.getId().toString())
+				.param("tecnicoId", tecnico.getId().toString())
+				.param("limite", "1")
+				.param("cursor", asignadas.get("siguienteCursor").asText()));
+		assertThat(ids(siguiente)).containsExactly(asignada2.getId());
+		assertThat(siguiente.get("hayMas").asBoolean()).isFalse();
+
+		JsonNode pendientes = listar(get("/solicitudes")
+				.param("estado", "Pendiente")
+				.param("clienteId", cliente.getId().toString()));
+		assertThat(ids(pendientes)).containsExactly(pendiente1.getId(), pendiente2.getId());
+		assertThat(pendientes.get("items").findValuesAsText("estado")).containsOnly("Pendiente");
+
+		JsonNode delOtroCliente = listar(get("/solicitudes")
+				.param("clienteId", otroCliente.getId().toString())
+				.param("tecnicoId", tecnico.getId().toString()));
+		assertThat(ids(delOtroCliente)).containsExactly(deOtroCliente.getId());
+
+		JsonNode sinSlaIncumplido = listar(get("/solicitudes")
+				.param("clienteId", cliente.getId().toString())
+				.param("slaIncumplido", "false"));
+		assertThat(ids(sinSlaIncumplido)).hasSize(4);
+		JsonNode conSlaIncumplido = listar(get("/solicitudes")
+				.param("clienteId", cliente.getId().toString())
+				.param("slaIncumplido", "true"));
+		assertThat(ids(conSlaIncumplido)).isEmpty();
+	}
+
+	@Test
+	void unEstadoDesconocidoSeRechazaCon400() throws Exception {
+		mockMvc.perform(get("/solicitudes").param("estado", "Archivada"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private JsonNode listar(MockHttpServletRequestBuilder pedido) throws Exception {
+		String cuerpo = mockMvc.perform(pedido)
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		return objectMapper.readTree(cuerpo);
+	}
+
+	private static List<Long> ids(JsonNode pagina) {
+		List<Long> ids = new ArrayList<>();
+		pagina.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+		return ids;
+	}
+}
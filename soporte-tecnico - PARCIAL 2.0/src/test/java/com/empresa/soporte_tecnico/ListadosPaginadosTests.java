@@ -0,0 +1,71 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:listados_tests;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class ListadosPaginadosTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Test
+	void filtraPorPrefijoYPaginaEnElOrdenPedido() throws Exception {
+		crearCliente("Paginado Carla");
+		crearCliente("Paginado Ana");
+		crearCliente("Paginado Beto");
+		crearCliente("Otro cliente");
+
+		mockMvc.perform(get("/clientes").param("prefijo", "Paginado").param("orden", "nombre").param("limite", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items", hasSize(2)))
+				.andExpect(jsonPath("$.items[0].nombre", is("Paginado Ana")))
+				.andExpect(jsonPath("$.items[1].nombre", is("Paginado Beto")))
+				.andExpect(jsonPath("$.hayMas", is(true)))
+				.andExpect(jsonPath("$.siguientePagina", is(1)))
+				.andExpect(jsonPath("$.siguienteCursor", nullValue()));
+
+		mockMvc.perform(get("/clientes").param("prefijo", "Paginado").param("orden", "nombre")
+						.param("limite", "2").param("pagina", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items", hasSize(1)))
+				.andExpect(jsonPath("$.items[0].nombre", is("Paginado Carla")))
+				.andExpect(jsonPath("$.hayMas", is(false)))
+				.andExpect(jsonPath("$.siguientePagina").doesNotExist());
+	}
+
+	@Test
+	void rechazaOrdenesFueraDeLaListaPermitida() throws Exception {
+		mockMvc.perform(get("/tecnicos").param("orden", "password"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/clientes").param("direccion", "arriba"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/tecnicos").param("pagina", "1001"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private void crearCliente(String nombre) {
+		Cliente cliente = new Cliente();
+		cliente.setNombre(nombre);
+		cliente.setCorreo(UUID.randomUUID() + "@listados.test");
+		clienteRepository.save(cliente);
+	}
+}
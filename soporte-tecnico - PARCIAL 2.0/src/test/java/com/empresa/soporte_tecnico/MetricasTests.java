@@ -0,0 +1,53 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metricas_tests;DB_CLOSE_DELAY=-1")
+class MetricasTests {
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@Autowired
+	private SolicitudService solicitudService;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Test
+	void registraTiemposDelServicioYConteosPorEstado() {
+		Cliente cliente = new Cliente();
+		cliente.setNombre("Cliente métricas");
+		cliente.setCorreo(UUID.randomUUID() + "@metricas.test");
+		cliente = clienteRepository.save(cliente);
+
+		Solicitud nueva = new Solicitud();
+		nueva.setDescripcion("El monitor parpadea");
+		nueva.setEspecialidad("Sin técnicos");
+		nueva.setCliente(cliente);
+		solicitudService.crearSolicitud(nueva);
+
+		assertThat(registry.get("soporte.servicio.solicitudes")
+				.tag("method", "crearSolicitud")
+				.timer().count()).isPositive();
+		assertThat(registry.get("soporte.solicitudes.eventos")
+				.tag("tipo", "creada")
+				.tag("estado", "Pendiente")
+				.counter().count()).isPositive();
+		assertThat(registry.get("soporte.solicitudes.estado")
+				.tag("estado", "Pendiente")
+				.gauge().value()).isPositive();
+		assertThat(registry.find("spring.data.repository.invocations").timers()).isNotEmpty();
+	}
+}
@@ -0,0 +1,104 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.SolicitudRepository;
+import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import com.empresa.soporte_tecnico.service.MotorAsignacion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MotorAsignacionTests {
+
+	private static final int HILOS = 8;
+	private static final int ASIGNACIONES_POR_HILO = 1_000;
+
+	private MotorAsignacion motor;
+
+	@BeforeEach
+	void prepararMotor() {
+		motor = new MotorAsignacion(mock(SolicitudRepository.class), mock(TecnicoRepository.class), true);
+		motor.reconstruir(List.of(
+				tecnico(1L, "Redes"),
+				tecnico(2L, "redes "),
+				tecnico(3L, "Redes"),
+				tecnico(4L, "Redes"),
+				tecnico(5L, "Hardware")
+		), Map.of(1L, 3L));
+	}
+
+	@Test
+	void eligeElDeMenorCargaDeLaEspecialidad() {
+		assertThat(motor.asignar("REDES")).contains(2L);
+		assertThat(motor.asignar("Redes")).contains(3L);
+		assertThat(motor.asignar("Hardware")).contains(5L);
+		assertThat(motor.asignar("Impresoras")).isEmpty();
+		assertThat(motor.abiertas(1L)).isEqualTo(3);
+	}
+
+	@Test
+	void reparteSinPerderConteosConHilosConcurrentes() throws Exception {
+		ExecutorService hilos = Executors.newFixedThreadPool(HILOS);
+		CountDownLatch largada = new CountDownLatch(1);
+		List<Future<?>> tareas = new ArrayList<>();
+		for (int i = 0; i < HILOS; i++) {
+			tareas.add(hilos.submit(() -> {
+				largada.await();
+				for (int j = 0; j < ASIGNACIONES_POR_HILO; j++) {
+					assertThat(motor.asignar("Redes")).isPresent();
+				}
+				return null;
+			}));
+		}
+		largada.countDown();
+		for (Future<?> tarea : tareas) {
+			tarea.get();
+		}
+		hilos.shutdown();
+
+		// 8000 asignaciones + 3 previas sobre 4 técnicos: como solo hay altas, nadie se aleja más de 1 del resto
+		long total = 0;
+		for (long id = 1; id <= 4; id++) {
+			assertThat(motor.abiertas(id)).isBetween(2000L, 2001L);
+			total += motor.abiertas(id);
+		}
+		assertThat(total).isEqualTo(HILOS * ASIGNACIONES_POR_HILO + 3);
+		assertThat(motor.abiertas(5L)).isZero();
+	}
+
+	@Test
+	void liberarYCambiarEspecialidadMuevenAlTecnico() {
+		motor.liberar(1L);
+		motor.liberar(1L);
+		motor.liberar(1L);
+		assertThat(motor.asignar("Redes")).contains(1L);
+		assertThat(motor.asignar("Redes")).contains(2L);
+		assertThat(motor.asignar("Redes")).contains(3L);
+		assertThat(motor.asignar("Redes")).contains(4L);
+
+		motor.registrarTecnico(5L, "Redes");
+		assertThat(motor.asignar("Redes")).contains(5L);
+		assertThat(motor.asignar("Hardware")).isEmpty();
+
+		motor.quitarTecnico(2L);
+		assertThat(motor.abiertas(2L)).isZero();
+	}
+
+	private static Tecnico tecnico(Long id, String especialidad) {
+		Tecnico tecnico = new Tecnico();
+		tecnico.setId(id);
+		tecnico.setNombre("Técnico " + id);
+		tecnico.setEspecialidad(especialidad);
+		return tecnico;
+	}
+}
@@ -0,0 +1,65 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.dto.ResultadoLoteDto;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Arranca la configuración de producción (Flyway + ddl-auto=validate + dialecto MySQL)
+ * sobre H2 en modo MySQL: si las migraciones y las entidades no coinciden, el contexto no levanta.
+ */
+@SpringBootTest
+@ActiveProfiles({"prod", "prodlocal"})
+class PerfilProduccionTests {
+
+	@Autowired
+	private Flyway flyway;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private SolicitudService solicitudService;
+
+	@Test
+	void aplicaTodasLasMigraciones() {
+		assertThat(flyway.info().pending()).isEmpty();
+		assertThat(flyway.info().current()).isNotNull();
+	}
+
+	@Test
+	void insertaUnLoteConLaSecuenciaEmulada() {
+		Cliente cliente = new Cliente();
+		cliente.setNombre("Cliente prod");
+		cliente.setCorreo("cliente@prod.test");
+		Long clienteId = clienteRepository.save(cliente).getId();
+
+		// Más filas que allocationSize para forzar varias reservas de bloques de IDs
+		List<Solicitud> lote = new ArrayList<>();
+		for (int i = 0; i < 120; i++) {
+			Cliente referencia = new Cliente();
+			referencia.setId(clienteId);
+			Solicitud solicitud = new Solicitud();
+			solicitud.setDescripcion("Solicitud de lote " + i);
+			solicitud.setCliente(referencia);
+			lote.add(solicitud);
+		}
+
+		List<ResultadoLoteDto> resultados = solicitudService.crearSolicitudesEnLote(lote);
+
+		assertThat(resultados).hasSize(120).allMatch(ResultadoLoteDto::isCreada);
+		assertThat(resultados).extracting(ResultadoLoteDto::getId).doesNotContainNull().doesNotHaveDuplicates();
+	}
+}
@@ -0,0 +1,172 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.dto.FiltroSolicitudDto;
+import com.empresa.soporte_tecnico.mapper.SolicitudMapper;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Proyección de solo lectura de {@code GET /solicitudes/resumen}: mismas filas y cursor que
+ * {@code GET /solicitudes}, pero construidas directamente como DTO plano.
+ */
+@ContextoCompartido
+class ResumenSolicitudesTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private SolicitudService solicitudService;
+
+	@Autowired
+	private DatosDePrueba datos;
+
+	private Cliente cliente;
+	private Tecnico tecnico;
+	private Solicitud sinTecnico;
+	private Solicitud conTecnico;
+	private Solicitud otraConTecnico;
+
+	@BeforeEach
+	void crearDatos() {
+		cliente = datos.cliente("Cliente resumen");
+		tecnico = datos.tecnico("Técnico resumen", "Redes");
+
+		sinTecnico = crearSolicitud(null, "Sin técnico");
+		conTecnico = crearSolicitud(tecnico, "Con técnico");
+		otraConTecnico = crearSolicitud(tecnico, "Otra con técnico");
+	}
+
+	@Test
+	void elResumenProyectaLasColumnasPlanas() throws Exception {
+		JsonNode pagina = listar(get("/solicitudes/resumen")
+				.param("clienteId", cliente.getId().toString())
+				.param("limite", "2"));
+		assertThat(ids(pagina)).containsExactly(sinTecnico.getId(), conTecnico.getId());
+		assertThat(pagina.get("hayMas").asBoolean()).isTrue();
+		assertThat(pagina.get("siguienteCursor").asLong()).isEqualTo(conTecnico.getId());
+
+		// Sin técnico: las columnas del LEFT JOIN llegan en null
+		JsonNode fila = pagina.get("items").get(0);
+		assertThat(fila.get("descripcion").asText()).isEqualTo("Sin técnico");
+		assertThat(fila.get("estado").asText()).isEqualTo("Pendiente");
+		assertThat(fila.get("clienteId").asLong()).isEqualTo(cliente.getId());
+		assertThat(fila.get("clienteNombre").asText()).isEqualTo("Cliente resumen");
+		assertThat(fila.get("tecnicoId").isNull()).isTrue();
+		assertThat(fila.get("tecnicoNombre").isNull()).isTrue();
+
+		fila = pagina.get("items").get(1);
+		assertThat(fila.get("descripcion").asText()).isEqualTo("Con técnico");
+		assertThat(fila.get("estado").asText()).isEqualTo("Asignada");
+		assertThat(fila.get("tecnicoId").asLong()).isEqualTo(tecnico.getId());
+		assertThat(fila.get("tecnicoNombre").asText()).isEqualTo("Técnico resumen");
+		// Proyección plana: no se anidan las entidades relacionadas
+		assertThat(fila.has("cliente")).isFalse();
+		assertThat(fila.has("tecnicoAsignado")).isFalse();
+	}
+
+	@Test
+	void elResumenDevuelveLasMismasFilasQueElListadoCompleto() throws Exception {
+		List<Long> completo = recorrer("/solicitudes");
+		List<Long> resumen = recorrer("/solicitudes/resumen");
+
+		assertThat(completo).containsExactly(conTecnico.getId(), otraConTecnico.getId());
+		assertThat(resumen).isEqualTo(completo);
+	}
+
+	@Test
+	void unEstadoDesconocidoSeRechazaCon400() throws Exception {
+		mockMvc.perform(get("/solicitudes/resumen").param("estado", "Archivada"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void laProyeccionAsignaMenosQueLasEntidadesConMapper() {
+		for (int i = 3; i < 50; i++) {
+			crearSolicitud(i % 2 == 0 ? tecnico : null, "Solicitud " + i);
+		}
+		FiltroSolicitudDto filtro = new FiltroSolicitudDto(null, cliente.getId(), null, null);
+		Runnable entidades = () -> solicitudService.obtenerSolicitudes(filtro, null, 50).stream()
+				.map(SolicitudMapper::toDto)
+				.toList();
+		Runnable proyeccion = () -> solicitudService.obtenerResumenes(filtro, null, 50);
+
+		long bytesEntidades = bytesPorPagina(entidades);
+		long bytesProyeccion = bytesPorPagina(proyeccion);
+
+		// Medición gruesa, para que una regresión se note en 'mvn test'; la cifra precisa
+		// la da ListadoSolicitudesBenchmark con el perfilador de GC (gc.alloc.rate.norm)
+		assertThat(bytesProyeccion).isLessThan(bytesEntidades * 3 / 4);
+	}
+
+	// Bytes asignados por este hilo en una página, promediados después de calentar JIT y cachés de consultas
+	private static long bytesPorPagina(Runnable pagina) {
+		com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		for (int i = 0; i < 200; i++) {
+			pagina.run();
+		}
+		int repeticiones = 500;
+		long antes = hilos.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < repeticiones; i++) {
+			pagina.run();
+		}
+		return (hilos.getCurrentThreadAllocatedBytes() - antes) / repeticiones;
+	}
+
+	// Recorre con cursor, de a una fila, las solicitudes del cliente asignadas al técnico
+	private List<Long> recorrer(String ruta) throws Exception {
+		List<Long> vistos = new ArrayList<>();
+		String cursor = null;
+		do {
+			MockHttpServletRequestBuilder pedido = get(ruta)
+					.param("clienteId", cliente.getId().toString())
+					.param("tecnicoId", tecnico.getId().toString())
+					.param("limite", "1");
+			if (cursor != null) {
+				pedido.param("cursor", cursor);
+			}
+			JsonNode pagina = listar(pedido);
+			vistos.addAll(ids(pagina));
+			cursor = pagina.get("hayMas").asBoolean() ? pagina.get("siguienteCursor").asText() : null;
+		} while (cursor != null);
+		return vistos;
+	}
+
+	private JsonNode listar(MockHttpServletRequestBuilder pedido) throws Exception {
+		String cuerpo = mockMvc.perform(pedido)
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		return objectMapper.readTree(cuerpo);
+	}
+
+	private static List<Long> ids(JsonNode pagina) {
+		List<Long> ids = new ArrayList<>();
+		pagina.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+		return ids;
+	}
+
+	private Solicitud crearSolicitud(Tecnico asignado, String descripcion) {
+		return datos.solicitud(cliente, asignado, descripcion);
+	}
+}
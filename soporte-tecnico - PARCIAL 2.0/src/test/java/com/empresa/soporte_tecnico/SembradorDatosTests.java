@@ -0,0 +1,90 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.service.EscaladorSla;
+import com.empresa.soporte_tecnico.service.EstadisticasSolicitudes;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:semilla_tests;DB_CLOSE_DELAY=-1",
+		"soporte.semilla.clientes=50",
+		"soporte.semilla.tecnicos=8",
+		"soporte.semilla.solicitudes=25000",
+		"soporte.semilla.hilos=2",
+		"soporte.semilla.reindexar=false"
+})
+@ActiveProfiles("semilla")
+class SembradorDatosTests {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private SolicitudService solicitudService;
+
+	@Autowired
+	private EstadisticasSolicitudes estadisticas;
+
+	@Autowired
+	private EscaladorSla escaladorSla;
+
+	@Test
+	void cargaElVolumenPedidoConIdsContiguos() {
+		assertThat(contar("SELECT COUNT(*) FROM clientes")).isEqualTo(50);
+		assertThat(contar("SELECT COUNT(*) FROM tecnicos")).isEqualTo(8);
+		assertThat(contar("SELECT COUNT(*) FROM solicitudes")).isEqualTo(25_000);
+		assertThat(contar("SELECT MAX(id) - MIN(id) + 1 FROM solicitudes")).isEqualTo(25_000);
+	}
+
+	@Test
+	void lasSolicitudesQueLoRequierenTienenTecnicoDeSuEspecialidad() {
+		assertThat(contar("SELECT COUNT(*) FROM solicitudes s LEFT JOIN tecnicos t ON t.id = s.tecnico_id "
+				+ "WHERE s.estado IN (1, 2, 3) AND (t.id IS NULL OR t.especialidad <> s.especialidad)")).isZero();
+		assertThat(contar("SELECT COUNT(*) FROM solicitudes WHERE estado = 0 AND tecnico_id IS NOT NULL")).isZero();
+	}
+
+	@Test
+	void lasFechasYLosPlazosDeSlaSonCoherentes() {
+		// Toda abierta tiene un plazo pendiente o ya incumplido; las cerradas tienen fecha de resolución y no vencen
+		assertThat(contar("SELECT COUNT(*) FROM solicitudes WHERE estado IN (0, 1, 2) "
+				+ "AND vence_sla_en IS NULL AND sla_incumplido_en IS NULL")).isZero();
+		assertThat(contar("SELECT COUNT(*) FROM solicitudes WHERE estado IN (3, 4) "
+				+ "AND (resuelta_en IS NULL OR vence_sla_en IS NOT NULL)")).isZero();
+		assertThat(contar("SELECT COUNT(*) FROM solicitudes WHERE tecnico_id IS NOT NULL AND asignada_en IS NULL")).isZero();
+		assertThat(contar("SELECT COUNT(*) FROM solicitudes WHERE sla_incumplido_en IS NOT NULL")).isPositive();
+		// Los plazos pendientes se cargaron en la rueda del escalador al quedar lista la aplicación
+		assertThat(escaladorSla.programadas()).isPositive();
+	}
+
+	@Test
+	void actualizaLasEstadisticasYPermiteNuevasAltas() {
+		assertThat(EstadoSolicitud.abiertos().stream().mapToLong(estadisticas::total).sum())
+				.isEqualTo(contar("SELECT COUNT(*) FROM solicitudes WHERE estado IN (0, 1, 2)"));
+
+		// La secuencia quedó por encima de los IDs sembrados: el alta por JPA no choca con ellos
+		Cliente cliente = new Cliente();
+		cliente.setId(jdbcTemplate.queryForObject("SELECT MIN(id) FROM clientes", Long.class));
+		Solicitud nueva = new Solicitud();
+		nueva.setDescripcion("Alta después de sembrar");
+		nueva.setCliente(cliente);
+		Solicitud creada = solicitudService.crearSolicitud(nueva);
+
+		assertThat(creada.getId()).isGreaterThan(jdbcTemplate.queryForObject(
+				"SELECT MAX(id) FROM solicitudes WHERE id <> ?", Long.class, creada.getId()));
+		// Los demás tests cuentan solo lo sembrado
+		solicitudService.eliminarSolicitud(creada.getId());
+	}
+
+	private long contar(String sql) {
+		return jdbcTemplate.queryForObject(sql, Long.class);
+	}
+}
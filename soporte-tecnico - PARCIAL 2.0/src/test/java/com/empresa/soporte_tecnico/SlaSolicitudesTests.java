@@ -0,0 +1,157 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.dto.FiltroSolicitudDto;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import com.empresa.soporte_tecnico.service.EscaladorSla;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plazos cortos y ticks de 100 ms para ver vencer un plazo dentro de la prueba. Sin asignación automática:
+ * las solicitudes nacen Pendientes aunque haya técnicos.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:sla_tests;DB_CLOSE_DELAY=-1",
+		"soporte.asignacion.automatica=false",
+		"soporte.sla.asignacion=2s",
+		"soporte.sla.resolucion=1h",
+		"soporte.sla.tick=100ms"
+})
+class SlaSolicitudesTests {
+
+	@Autowired
+	private SolicitudService solicitudService;
+
+	@Autowired
+	private EscaladorSla escaladorSla;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	private Cliente cliente;
+
+	@BeforeEach
+	void crearCliente() {
+		cliente = new Cliente();
+		cliente.setNombre("Cliente SLA");
+		cliente.setCorreo(UUID.randomUUID() + "@sla.test");
+		cliente = clienteRepository.save(cliente);
+	}
+
+	@Test
+	void unaSolicitudNuevaTieneFechaDeAltaYPlazoDeAsignacion() {
+		Solicitud creada = crearPendiente("Sin conexión en recepción");
+
+		assertThat(creada.getCreadaEn()).isNotNull();
+		assertThat(creada.getActualizadaEn()).isNotNull();
+		assertThat(creada.getAsignadaEn()).isNull();
+		assertThat(creada.getResueltaEn()).isNull();
+		assertThat(creada.getVenceSlaEn()).isEqualTo(creada.getCreadaEn().plus(Duration.ofSeconds(2)));
+		assertThat(creada.getSlaIncumplidoEn()).isNull();
+	}
+
+	@Test
+	void alVencerElPlazoLaSolicitudQuedaMarcadaComoIncumplida() throws InterruptedException {
+		long incumplidasAntes = escaladorSla.incumplidas();
+		double eventosAntes = eventosSlaIncumplido();
+		Solicitud creada = crearPendiente("El monitor parpadea");
+
+		Solicitud marcada = esperarIncumplimiento(creada.getId());
+
+		assertThat(marcada.getSlaIncumplidoEn()).isAfterOrEqualTo(creada.getVenceSlaEn());
+		assertThat(marcada.getVenceSlaEn()).isNull();
+		// El UPDATE en lote también invalida la versión leída antes (ETag, bloqueo optimista)
+		assertThat(marcada.getVersion()).isEqualTo(creada.getVersion() + 1);
+		assertThat(escaladorSla.incumplidas()).isGreaterThan(incumplidasAntes);
+		assertThat(solicitudService.obtenerSolicitudes(
+				FiltroSolicitudDto.builder().clienteId(cliente.getId()).slaIncumplido(true).build(), null, 50))
+				.extracting(Solicitud::getId)
+				.containsExactly(creada.getId());
+		// El incumplimiento se publica como cualquier otro cambio confirmado (SSE, métricas). Los oyentes
+		// corren en el hilo del escalador justo después del commit: puede llegar un instante más tarde
+		long limite = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+		while (eventosSlaIncumplido() <= eventosAntes && System.nanoTime() < limite) {
+			Thread.sleep(20);
+		}
+		assertThat(eventosSlaIncumplido()).isGreaterThan(eventosAntes);
+	}
+
+	@Test
+	void asignarPasaAlPlazoDeResolucionYResolverLoQuita() throws InterruptedException {
+		Tecnico tecnico = new Tecnico();
+		tecnico.setNombre("Técnico SLA");
+		tecnico.setEspecialidad("Redes");
+		tecnico = tecnicoRepository.save(tecnico);
+		Solicitud creada = crearPendiente("El router se reinicia solo");
+
+		Solicitud asignacion = new Solicitud();
+		asignacion.setTecnicoAsignado(tecnico);
+		asignacion.setEstado(EstadoSolicitud.ASIGNADA);
+		Solicitud asignada = solicitudService.modificarSolicitud(creada.getId(), asignacion);
+
+		assertThat(asignada.getAsignadaEn()).isNotNull();
+		assertThat(asignada.getVenceSlaEn()).isEqualTo(creada.getCreadaEn().plus(Duration.ofHours(1)));
+
+		// Pasado el plazo de asignación original, ya no vence: la rueda tiene el plazo nuevo
+		Thread.sleep(2_500);
+		assertThat(solicitudService.obtenerPorId(creada.getId()).getSlaIncumplidoEn()).isNull();
+
+		for (EstadoSolicitud estado : new EstadoSolicitud[]{EstadoSolicitud.EN_PROGRESO, EstadoSolicitud.RESUELTA}) {
+			Solicitud cambio = new Solicitud();
+			cambio.setEstado(estado);
+			solicitudService.modificarSolicitud(creada.getId(), cambio);
+		}
+		Solicitud resuelta = solicitudService.obtenerPorId(creada.getId());
+
+		assertThat(resuelta.getResueltaEn()).isAfterOrEqualTo(resuelta.getAsignadaEn());
+		assertThat(resuelta.getVenceSlaEn()).isNull();
+		assertThat(resuelta.getActualizadaEn()).isAfter(creada.getActualizadaEn());
+	}
+
+	private double eventosSlaIncumplido() {
+		return registry.get("soporte.solicitudes.eventos")
+				.tag("tipo", "sla_incumplido")
+				.tag("estado", EstadoSolicitud.PENDIENTE.getEtiqueta())
+				.counter().count();
+	}
+
+	private Solicitud crearPendiente(String descripcion) {
+		Solicitud nueva = new Solicitud();
+		nueva.setDescripcion(descripcion);
+		nueva.setEspecialidad("Redes");
+		nueva.setCliente(cliente);
+		return solicitudService.crearSolicitud(nueva);
+	}
+
+	private Solicitud esperarIncumplimiento(Long id) throws InterruptedException {
+		long limite = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (System.nanoTime() < limite) {
+			Solicitud actual = solicitudService.obtenerPorId(id);
+			if (actual.getSlaIncumplidoEn() != null) {
+				return actual;
+			}
+			Thread.sleep(50);
+		}
+		throw new AssertionError("El escalador no marcó la solicitud " + id + " a tiempo");
+	}
+}
@@ -0,0 +1,95 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Las actualizaciones se confirman de verdad (sin @Transactional en la prueba) para que
+ * el chequeo de versión ocurra en el UPDATE, igual que entre dos peticiones HTTP.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:actualizacion_tests;DB_CLOSE_DELAY=-1")
+class SolicitudActualizacionTests {
+
+	@Autowired
+	private SolicitudService solicitudService;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	private Solicitud solicitud;
+
+	@BeforeEach
+	void crearSolicitud() {
+		Cliente cliente = new Cliente();
+		cliente.setNombre("Cliente actualizaciones");
+		cliente.setCorreo(UUID.randomUUID() + "@actualizacion.test");
+		cliente = clienteRepository.save(cliente);
+
+		Solicitud nueva = new Solicitud();
+		nueva.setDescripcion("La impresora no imprime");
+		nueva.setEspecialidad("Impresoras");
+		nueva.setCliente(cliente);
+		solicitud = solicitudService.crearSolicitud(nueva);
+	}
+
+	@Test
+	void patchConservaLosCamposNoEnviadosEIncrementaLaVersion() {
+		Solicitud cambios = new Solicitud();
+		cambios.setDescripcion("La impresora imprime en blanco");
+		cambios.setEstado(null);
+
+		Solicitud modificada = solicitudService.modificarSolicitud(solicitud.getId(), cambios);
+
+		assertThat(modificada.getDescripcion()).isEqualTo("La impresora imprime en blanco");
+		assertThat(modificada.getEspecialidad()).isEqualTo("Impresoras");
+		assertThat(modificada.getEstado()).isEqualTo(EstadoSolicitud.PENDIENTE);
+		assertThat(modificada.getCliente().getId()).isEqualTo(solicitud.getCliente().getId());
+		assertThat(modificada.getVersion()).isEqualTo(solicitud.getVersion() + 1);
+	}
+
+	@Test
+	void unaVersionDesactualizadaNoPisaElCambioAnterior() {
+		Long versionLeida = solicitud.getVersion();
+
+		Solicitud primero = new Solicitud();
+		primero.setEspecialidad("Redes");
+		primero.setVersion(versionLeida);
+		primero.setEstado(null);
+		solicitudService.modificarSolicitud(solicitud.getId(), primero);
+
+		Solicitud segundo = new Solicitud();
+		segundo.setDescripcion("Cambio hecho sobre la versión vieja");
+		segundo.setVersion(versionLeida);
+		segundo.setEstado(null);
+		assertThatThrownBy(() -> solicitudService.modificarSolicitud(solicitud.getId(), segundo))
+				.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+		Solicitud vigente = solicitudService.obtenerPorId(solicitud.getId());
+		assertThat(vigente.getEspecialidad()).isEqualTo("Redes");
+		assertThat(vigente.getDescripcion()).isEqualTo("La impresora no imprime");
+	}
+
+	@Test
+	void rechazaTransicionesNoPermitidas() {
+		Solicitud cambios = new Solicitud();
+		cambios.setEstado(EstadoSolicitud.RESUELTA);
+
+		assertThatThrownBy(() -> solicitudService.modificarSolicitud(solicitud.getId(), cambios))
+				.isInstanceOf(ResponseStatusException.class)
+				.hasMessageContaining("409");
+	}
+}
@@ -0,0 +1,125 @@
+package com.empresa.soporte_tecnico;
+
+import com.empresa.soporte_tecnico.dto.ConteoEstadoDto;
+import com.empresa.soporte_tecnico.dto.FiltroSolicitudDto;
+import com.empresa.soporte_tecnico.dto.SolicitudDto;
+import com.empresa.soporte_tecnico.mapper.SolicitudMapper;
+import com.empresa.soporte_tecnico.model.Cliente;
+import com.empresa.soporte_tecnico.model.EstadoSolicitud;
+import com.empresa.soporte_tecnico.model.Solicitud;
+import com.empresa.soporte_tecnico.model.Tecnico;
+import com.empresa.soporte_tecnico.repository.ClienteRepository;
+import com.empresa.soporte_tecnico.repository.SolicitudRepository;
+import com.empresa.soporte_tecnico.repository.TecnicoRepository;
+import com.empresa.soporte_tecnico.service.SolicitudService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica con las estadísticas de Hibernate que las lecturas de solicitudes
+ * no vuelven a cargar el cliente y el técnico con una consulta por fila (N+1).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class SolicitudConsultasTests {
+
+	private static final int CLIENTES = 5;
+	private static final int SOLICITUDES_POR_CLIENTE = 2;
+
+	@Autowired
+	private SolicitudService solicitudService;
+
+	@Autowired
+	private SolicitudRepository solicitudRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics estadisticas;
+
+	private Long ultimaSolicitudId;
+
+	@BeforeEach
+	void prepararDatos() {
+		for (int i = 0; i < CLIENTES; i++) {
+			Cliente cliente = new Cliente();
+			cliente.setNombre("Cliente " + i);
+			cliente.setCorreo("cliente" + i + "@consultas.test");
+			cliente = clienteRepository.save(cliente);
+
+			Tecnico tecnico = new Tecnico();
+			tecnico.setNombre("Técnico " + i);
+			tecnico.setEspecialidad("Redes");
+			tecnico = tecnicoRepository.save(tecnico);
+
+			for (int j = 0; j < SOLICITUDES_POR_CLIENTE; j++) {
+				Solicitud solicitud = new Solicitud();
+				solicitud.setDescripcion("Incidencia " + i + "-" + j);
+				solicitud.setCliente(cliente);
+				solicitud.setTecnicoAsignado(tecnico);
+				ultimaSolicitudId = solicitudRepository.save(solicitud).getId();
+			}
+		}
+
+		// Se vacía el contexto de persistencia para que las lecturas vayan realmente a la BD
+		entityManager.flush();
+		entityManager.clear();
+
+		estadisticas = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+		estadisticas.clear();
+	}
+
+	@Test
+	void listadoCargaClienteYTecnicoEnUnaSolaConsulta() {
+		List<SolicitudDto> dtos = solicitudService
+				.obtenerSolicitudes(new FiltroSolicitudDto(), null, 50)
+				.stream()
+				.map(SolicitudMapper::toDto)
+				.toList();
+
+		assertThat(dtos).hasSize(CLIENTES * SOLICITUDES_POR_CLIENTE);
+		assertThat(dtos).allSatisfy(dto -> {
+			assertThat(dto.getCliente().getNombre()).isNotNull();
+			assertThat(dto.getTecnicoAsignado().getNombre()).isNotNull();
+		});
+		assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void obtenerPorIdCargaClienteYTecnicoEnUnaSolaConsulta() {
+		SolicitudDto dto = SolicitudMapper.toDto(solicitudService.obtenerPorId(ultimaSolicitudId));
+
+		assertThat(dto.getCliente().getCorreo()).isNotNull();
+		assertThat(dto.getTecnicoAsignado().getEspecialidad()).isEqualTo("Redes");
+		assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void conteoPorEstadoIncluyeTodosLosEstados() {
+		List<ConteoEstadoDto> conteo = solicitudService.contarPorEstado();
+
+		assertThat(conteo).extracting(ConteoEstadoDto::getEstado).containsExactly(EstadoSolicitud.values());
+		assertThat(conteo).filteredOn(c -> c.getEstado() == EstadoSolicitud.PENDIENTE)
+				.singleElement().extracting(ConteoEstadoDto::getTotal)
+				.isEqualTo((long) CLIENTES * SOLICITUDES_POR_CLIENTE);
+		assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,105 @@
+package com.empresa.soporte_tecnico.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba unitaria de la rueda, sin Spring ni reloj real: el tiempo lo dicta el {@code Instant} que se
+ * pasa a {@link RuedaVencimientos#avanzar}. Misma configuración que {@link EscaladorSla}: ticks de 1 s y
+ * 4 096 ranuras, algo más de 68 minutos por vuelta.
+ */
+class RuedaVencimientosTests {
+
+	private static final Instant INICIO = Instant.parse("2026-01-05T08:00:00Z");
+
+	private final RuedaVencimientos rueda = new RuedaVencimientos(Duration.ofSeconds(1), 4_096, INICIO);
+
+	@Test
+	void unPlazoDeVariasVueltasNoVenceAntesDeTiempo() {
+		Instant vence = INICIO.plus(Duration.ofHours(48));
+		rueda.programar(1, vence);
+
+		// 48 h son unas 42 vueltas: en cada una se pasa por la ranura del plazo sin que venza
+		List<Long> vencidos = new ArrayList<>();
+		for (Instant ahora = INICIO; ahora.isBefore(vence); ahora = ahora.plus(Duration.ofMinutes(7))) {
+			vencidos.addAll(rueda.avanzar(ahora));
+		}
+		assertThat(vencidos).isEmpty();
+		// Solo cuentan los ticks terminados: en el instante exacto del plazo todavía no venció
+		assertThat(rueda.avanzar(vence)).isEmpty();
+
+		assertThat(rueda.avanzar(vence.plusSeconds(1))).containsExactly(1L);
+		assertThat(rueda.programados()).isZero();
+	}
+
+	@Test
+	void unPlazoYaPasadoVenceEnElProximoAvance() {
+		assertThat(rueda.avanzar(INICIO.plusSeconds(10))).isEmpty();
+
+		// Su ranura ya se recorrió en esta vuelta: va a la próxima a recorrer, no espera una vuelta entera
+		rueda.programar(2, INICIO.minus(Duration.ofHours(1)));
+
+		assertThat(rueda.avanzar(INICIO.plusSeconds(11))).containsExactly(2L);
+	}
+
+	@Test
+	void reprogramarOCancelarDescartaLaEntradaAnterior() {
+		rueda.programar(3, INICIO.plusSeconds(5));
+		rueda.programar(4, INICIO.plusSeconds(5));
+		// Las entradas ya están repartidas en su ranura cuando cambian los plazos
+		assertThat(rueda.avanzar(INICIO.plusSeconds(2))).isEmpty();
+
+		rueda.programar(3, INICIO.plusSeconds(20));
+		rueda.cancelar(4);
+		rueda.programar(5, INICIO.plusSeconds(5));
+
+		assertThat(rueda.avanzar(INICIO.plusSeconds(10))).containsExactly(5L);
+		assertThat(rueda.avanzar(INICIO.plusSeconds(20))).isEmpty();
+		assertThat(rueda.avanzar(INICIO.plusSeconds(21))).containsExactly(3L);
+		// La entrada vieja de 3 no lo vuelve a devolver
+		assertThat(rueda.avanzar(INICIO.plus(Duration.ofHours(3)))).isEmpty();
+	}
+
+	@Test
+	void reprogramarAntesDeQueSeRecorraLaRanuraAdelantaElVencimiento() {
+		rueda.programar(6, INICIO.plus(Duration.ofHours(2)));
+		assertThat(rueda.avanzar(INICIO.plusSeconds(1))).isEmpty();
+
+		// Otro hilo lo adelanta entre dos avances: la entrada nueva se reparte en el siguiente
+		rueda.programar(6, INICIO.plusSeconds(30));
+
+		assertThat(rueda.avanzar(INICIO.plusSeconds(31))).containsExactly(6L);
+		assertThat(rueda.avanzar(INICIO.plus(Duration.ofHours(3)))).isEmpty();
+	}
+
+	@Test
+	void trasUnaPausaLargaSeRecuperanTodosLosVencidosUnaSolaVez() {
+		rueda.programar(7, INICIO.plusSeconds(10));
+		rueda.programar(8, INICIO.plus(Duration.ofMinutes(90)));
+		rueda.programar(9, INICIO.plus(Duration.ofHours(2)));
+		rueda.programar(10, INICIO.plus(Duration.ofHours(50)));
+
+		// Sin avanzar durante 3 h, más de dos vueltas: cada ranura se recorre una vez
+		assertThat(rueda.avanzar(INICIO.plus(Duration.ofHours(3)))).containsExactlyInAnyOrder(7L, 8L, 9L);
+		assertThat(rueda.avanzar(INICIO.plus(Duration.ofHours(3)).plusSeconds(1))).isEmpty();
+		assertThat(rueda.programados()).isEqualTo(1);
+
+		assertThat(rueda.avanzar(INICIO.plus(Duration.ofHours(50)).plusSeconds(1))).containsExactly(10L);
+	}
+
+	@Test
+	void laCargaInicialNoPisaUnPlazoProgramadoDespues() {
+		rueda.programar(11, INICIO.plusSeconds(40));
+		// La carga desde la BD leyó el plazo viejo antes del cambio
+		rueda.programarSiAusente(11, INICIO.plusSeconds(5));
+
+		assertThat(rueda.avanzar(INICIO.plusSeconds(10))).isEmpty();
+		assertThat(rueda.avanzar(INICIO.plusSeconds(41))).containsExactly(11L);
+	}
+}